@@ -0,0 +1,101 @@
+package edu.ntnu.iir.bidata.benchmark;
+
+import edu.ntnu.iir.bidata.filehandling.BoardFileReaderGson;
+import edu.ntnu.iir.bidata.filehandling.BoardFileWriterGson;
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.BoardFactory;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing board files with the Gson reader and writer.
+ *
+ * <p>The boards are generated Snakes and Ladders boards, written once to a temporary directory
+ * during setup. The directory is removed again after the run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardFileBenchmark {
+  /**
+   * The number of columns and rows of the square board: 100 tiles like the boards shipped with
+   * the game, 10 000 tiles, and a huge board with 90 000 tiles.
+   */
+  @Param({"10", "100", "300"})
+  public int size;
+
+  private final BoardFileReaderGson reader = new BoardFileReaderGson();
+  private final BoardFileWriterGson writer = new BoardFileWriterGson();
+  private Path directory;
+  private Path boardFile;
+  private Path outputFile;
+  private Board board;
+
+  /**
+   * Generates the board and writes the file the read benchmark reads.
+   *
+   * @throws IOException if the temporary files cannot be written
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("board-benchmark");
+    boardFile = directory.resolve("board.json");
+    outputFile = directory.resolve("output.json");
+    board = BoardFactory.randomSnakesAndLadders(size, size, RandomSource.seeded(42));
+    writer.writeBoard(board, boardFile);
+  }
+
+  /**
+   * Removes the temporary files.
+   *
+   * @throws IOException if the files cannot be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(boardFile);
+    Files.deleteIfExists(outputFile);
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Reads the board file.
+   *
+   * @return the board that was read
+   * @throws Exception if the file cannot be read
+   */
+  @Benchmark
+  public Board readBoard() throws Exception {
+    return reader.readBoard(boardFile);
+  }
+
+  /**
+   * Writes the board to a file, replacing the file from the previous call.
+   *
+   * @return the path that was written
+   * @throws IOException if the file cannot be written
+   */
+  @Benchmark
+  public Path writeBoard() throws IOException {
+    writer.writeBoard(board, outputFile);
+    return outputFile;
+  }
+}
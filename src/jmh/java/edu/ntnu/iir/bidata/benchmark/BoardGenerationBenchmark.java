@@ -0,0 +1,57 @@
+package edu.ntnu.iir.bidata.benchmark;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.BoardFactory;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to generate a random Snakes and Ladders board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardGenerationBenchmark {
+  /**
+   * The number of columns and rows of the square board, from the smallest allowed size up to
+   * a board with ten thousand tiles.
+   */
+  @Param({"3", "10", "30", "100"})
+  public int size;
+
+  private RandomGenerator random;
+
+  /**
+   * Seeds the generator so every run generates the same sequence of boards.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    random = RandomSource.seeded(42);
+  }
+
+  /**
+   * Generates one board.
+   *
+   * @return the generated board
+   */
+  @Benchmark
+  public Board randomSnakesAndLadders() {
+    return BoardFactory.randomSnakesAndLadders(size, size, random);
+  }
+}
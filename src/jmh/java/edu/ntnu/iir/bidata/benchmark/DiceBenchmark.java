@@ -0,0 +1,109 @@
+package edu.ntnu.iir.bidata.benchmark;
+
+import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rolling the dice one turn at a time with the bulk rolling methods.
+ * All scores are in rolls per microsecond, so they can be compared directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+  /**
+   * The number of rolls a single bulk call makes.
+   */
+  private static final int BATCH = 4096;
+
+  /**
+   * The number of dice in the set. Two dice take the fast path of the bulk methods.
+   */
+  @Param({"1", "2", "3"})
+  public int numberOfDice;
+
+  /**
+   * The generator behind the dice: the default LXM stream or the single-threaded SplitMix64.
+   */
+  @Param({"stream", "fast"})
+  public String generator;
+
+  private Dice dice;
+  private final int[] sums = new int[BATCH];
+  private int[] faces;
+  private final boolean[] doubles = new boolean[BATCH];
+
+  /**
+   * Creates the dice with a fixed seed.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    dice = new Dice(numberOfDice, 6,
+            generator.equals("fast") ? RandomSource.fast(42) : RandomSource.seeded(42));
+    faces = new int[BATCH * numberOfDice];
+  }
+
+  /**
+   * Rolls once with {@link Dice#rollAll()}.
+   *
+   * @return the sum of the roll
+   */
+  @Benchmark
+  public int rollAll() {
+    return dice.rollAll();
+  }
+
+  /**
+   * Rolls once and reads the sum and faces the way the games do.
+   *
+   * @return the faces of the roll
+   */
+  @Benchmark
+  public List<Integer> rollAllWithCounts() {
+    dice.rollAll();
+    dice.getSum();
+    return dice.getCounts();
+  }
+
+  /**
+   * Rolls a batch of sums into an array.
+   *
+   * @return the filled array
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int[] rollSums() {
+    dice.rollSums(sums);
+    return sums;
+  }
+
+  /**
+   * Rolls a batch of turns with sums, faces and doubles flags.
+   *
+   * @return the filled faces array
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int[] rollTurns() {
+    dice.rollTurns(BATCH, sums, faces, doubles);
+    return faces;
+  }
+}
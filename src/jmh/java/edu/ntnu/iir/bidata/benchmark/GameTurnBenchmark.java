@@ -0,0 +1,130 @@
+package edu.ntnu.iir.bidata.benchmark;
+
+import edu.ntnu.iir.bidata.model.BoardFactory;
+import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.model.Player;
+import edu.ntnu.iir.bidata.model.PlayingPiece;
+import edu.ntnu.iir.bidata.model.PlayingPieceType;
+import edu.ntnu.iir.bidata.model.games.Game;
+import edu.ntnu.iir.bidata.model.games.MonopolyGame;
+import edu.ntnu.iir.bidata.model.games.SnakesAndLaddersGame;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many turns per second the game classes can play, the way the UI drives them
+ * through {@link Game#handleEvent(String)}.
+ *
+ * <p>Each benchmark call plays one turn. When a game has a winner, a new game is set up on the
+ * same board and play continues, so the numbers cover the whole length of a game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameTurnBenchmark {
+  /**
+   * The number of players taking turns, from 2 up to the number of playing pieces.
+   */
+  @Param({"2", "4"})
+  public int players;
+
+  private Game snakesAndLaddersGame;
+  private Game monopolyGame;
+  private long seed;
+
+  /**
+   * Sets up one game of each kind.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    snakesAndLaddersGame = newSnakesAndLaddersGame();
+    monopolyGame = newMonopolyGame();
+  }
+
+  /**
+   * Creates a Snakes and Ladders game on the normal board, ready to play.
+   *
+   * @return the started game
+   */
+  private Game newSnakesAndLaddersGame() {
+    Game game = new SnakesAndLaddersGame();
+    game.setBoard(BoardFactory.normalSnakesAndLadders());
+    return startGame(game);
+  }
+
+  /**
+   * Creates a Monopoly game on the standard board, ready to play.
+   *
+   * @return the started game
+   */
+  private Game newMonopolyGame() {
+    Game game = new MonopolyGame();
+    game.setBoard(BoardFactory.standardMonopoly());
+    return startGame(game);
+  }
+
+  /**
+   * Adds players and seeded dice to a game and starts it.
+   *
+   * @param game the game to start
+   * @return the started game
+   */
+  private Game startGame(Game game) {
+    List<Player> roster = new ArrayList<>();
+    PlayingPieceType[] pieces = PlayingPieceType.values();
+    for (int i = 0; i < players; i++) {
+      roster.add(new Player("Player " + (i + 1), new PlayingPiece(pieces[i])));
+    }
+    game.setPlayers(roster);
+    game.setDice(new Dice(2, 6, RandomSource.seeded(seed++)));
+    game.start();
+    return game;
+  }
+
+  /**
+   * Plays one Snakes and Ladders turn.
+   *
+   * @return the position of the player who moved, so the turn cannot be optimized away
+   */
+  @Benchmark
+  public int snakesAndLaddersTurn() {
+    if (snakesAndLaddersGame.isGameOver()) {
+      snakesAndLaddersGame = newSnakesAndLaddersGame();
+    }
+    Player player = snakesAndLaddersGame.getCurrentPlayer();
+    snakesAndLaddersGame.handleEvent("snakes_and_ladders_dice_rolled");
+    return player.getPosition();
+  }
+
+  /**
+   * Plays one Monopoly turn.
+   *
+   * @return the position of the player who moved, so the turn cannot be optimized away
+   */
+  @Benchmark
+  public int monopolyTurn() {
+    if (monopolyGame.isGameOver()) {
+      monopolyGame = newMonopolyGame();
+    }
+    Player player = monopolyGame.getCurrentPlayer();
+    monopolyGame.handleEvent("monopoly_dice_rolled");
+    return player.getPosition();
+  }
+}
@@ -0,0 +1,89 @@
+package edu.ntnu.iir.bidata.benchmark;
+
+import edu.ntnu.iir.bidata.filehandling.PlayerFileReaderCsv;
+import edu.ntnu.iir.bidata.filehandling.PlayerFileWriterCsv;
+import edu.ntnu.iir.bidata.model.Player;
+import edu.ntnu.iir.bidata.model.PlayingPiece;
+import edu.ntnu.iir.bidata.model.PlayingPieceType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading player rosters with the CSV reader.
+ *
+ * <p>The roster is written once to a temporary file during setup, cycling through all
+ * playing piece types, and removed again after the run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerFileBenchmark {
+  /**
+   * The number of players in the roster file, from a normal game up to a million lines.
+   */
+  @Param({"4", "10000", "1000000"})
+  public int rosterSize;
+
+  private final PlayerFileReaderCsv reader = new PlayerFileReaderCsv();
+  private Path directory;
+  private Path rosterFile;
+
+  /**
+   * Writes the roster file.
+   *
+   * @throws IOException if the temporary file cannot be written
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    PlayingPieceType[] pieces = PlayingPieceType.values();
+    List<Player> players = new ArrayList<>(rosterSize);
+    for (int i = 0; i < rosterSize; i++) {
+      players.add(new Player("Player " + i, new PlayingPiece(pieces[i % pieces.length])));
+    }
+    directory = Files.createTempDirectory("player-benchmark");
+    rosterFile = directory.resolve("players.csv");
+    new PlayerFileWriterCsv().writePlayers(players, rosterFile);
+  }
+
+  /**
+   * Removes the temporary files.
+   *
+   * @throws IOException if the files cannot be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(rosterFile);
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Reads the whole roster.
+   *
+   * @return the players that were read
+   * @throws Exception if the file cannot be read
+   */
+  @Benchmark
+  public List<Player> readPlayers() throws Exception {
+    return reader.readPlayers(rosterFile);
+  }
+}
@@ -4,6 +4,7 @@ import edu.ntnu.iir.bidata.controller.BoardGameController;
 import edu.ntnu.iir.bidata.exceptions.DirectoryCreationException;
 import edu.ntnu.iir.bidata.filehandling.FileConstants;
 import edu.ntnu.iir.bidata.filehandling.FileUtils;
+import edu.ntnu.iir.bidata.view.gui.GuiApp;
 
 /**
  * Main entry point for the board game application.
@@ -27,7 +28,7 @@ public class Main {
     }
 
     // Start the application
-    BoardGameController app = new BoardGameController();
+    BoardGameController app = new BoardGameController(GuiApp.getInstance());
     app.setup();
     app.run();
   }
@@ -11,83 +11,109 @@ import edu.ntnu.iir.bidata.model.Board;
 import edu.ntnu.iir.bidata.model.BoardFactory;
 import edu.ntnu.iir.bidata.model.Player;
 import edu.ntnu.iir.bidata.model.PlayerConfigResponse;
+import edu.ntnu.iir.bidata.model.games.CommandPipeline;
 import edu.ntnu.iir.bidata.model.games.Game;
+import edu.ntnu.iir.bidata.model.games.GameCommand;
 import edu.ntnu.iir.bidata.model.games.GameFactory;
-import edu.ntnu.iir.bidata.model.games.MonopolyGame;
+import edu.ntnu.iir.bidata.model.games.RollDiceCommand;
+import edu.ntnu.iir.bidata.model.games.TurnSummary;
 import edu.ntnu.iir.bidata.service.FileHandlerService;
 import edu.ntnu.iir.bidata.view.AppEvent;
-import edu.ntnu.iir.bidata.view.gui.GuiApp;
-import edu.ntnu.iir.bidata.view.gui.screens.ChooseBoardScreen;
-import edu.ntnu.iir.bidata.view.gui.screens.ChoosePlayerScreen;
-import edu.ntnu.iir.bidata.view.gui.screens.GameOverScreen;
-import edu.ntnu.iir.bidata.view.gui.screens.GameScreenFactory;
-import edu.ntnu.iir.bidata.view.gui.screens.HomeScreen;
-import edu.ntnu.iir.bidata.view.gui.screens.MonopolyScreen;
-import edu.ntnu.iir.bidata.view.gui.screens.SnakesAndLaddersScreen;
+import edu.ntnu.iir.bidata.view.DispatchPolicy;
+import edu.ntnu.iir.bidata.view.UiApp;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
-import javafx.scene.layout.StackPane;
 
 /**
- * Controller class for managing board game logic and GUI interactions.
+ * Controller class for managing board game logic and UI interactions.
  * Handles game initialization, player configuration, board management, and event processing.
  * Serves as the main controller linking the game model with the user interface.
+ *
+ * <p>The controller only talks to the {@link UiApp} interface, so it runs the same with the
+ * JavaFX application and with a headless one.
+ *
+ * <p>The game model and the screens are only changed on the UI thread. Load events are
+ * handled on the background worker of the event bus, and hand the loaded data back to the UI
+ * thread. Save events are handled on the UI thread, where they copy what is saved, and only
+ * the writing of the file is handed to the background worker.
  */
 public class BoardGameController {
-  private Game game;
-  private StackPane gameplayScreen;
+  private final UiApp app;
+  private volatile Game game;
+  private CommandPipeline commandPipeline;
   private final FileHandlerService fileHandlerService;
 
   /**
-   * Constructs a new BoardGameController instance.
+   * Constructs a new BoardGameController instance for the given UI.
    * Initializes the file handler service for managing game data persistence.
+   *
+   * @param app the UI to show the game in
+   * @throws IllegalArgumentException if the UI is null
    */
-  public BoardGameController() {
+  public BoardGameController(UiApp app) {
+    if (app == null) {
+      throw new IllegalArgumentException("UI app cannot be null");
+    }
+    this.app = app;
     this.fileHandlerService = new FileHandlerService();
   }
 
+  /**
+   * Gets the game being set up or played.
+   *
+   * @return the game, or null if no game has been chosen
+   */
+  public Game getGame() {
+    return game;
+  }
+
   /**
    * Sets up all the event listeners for the application.
    * Configures responses to various game events like game selection, board selection,
    * player configuration, in-game actions, and file operations.
    */
   public void setup() {
-    GuiApp.getInstance().addEventListener(AppEvent.QUIT, event -> {
+    // A turn takes far less time than a frame, and the screens read the game directly
+    app.setDispatchPolicy(AppEvent.IN_GAME_EVENT, DispatchPolicy.UI_THREAD);
+    app.setDispatchPolicy(AppEvent.FAST_FORWARD, DispatchPolicy.UI_THREAD);
+    // Saving copies what to save on the UI thread, and only writes the file in the background
+    app.setDispatchPolicy(AppEvent.SAVE_BOARD, DispatchPolicy.UI_THREAD);
+    app.setDispatchPolicy(AppEvent.LOAD_BOARD, DispatchPolicy.BACKGROUND);
+    app.setDispatchPolicy(AppEvent.SAVE_PLAYERS, DispatchPolicy.UI_THREAD);
+    app.setDispatchPolicy(AppEvent.LOAD_PLAYERS, DispatchPolicy.BACKGROUND);
+
+    app.addEventListener(AppEvent.QUIT, event -> {
       System.out.println("quitted");
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.GAME_CHOSEN, gameType -> {
+    app.addEventListener(AppEvent.GAME_CHOSEN, gameType -> {
       // Create game using the GameFactory
       game = GameFactory.createGame(gameType);
       // update view
       List<Board> boards = BoardFactory.getAllBoardsForGameType(gameType);
-      GuiApp.setContent(new ChooseBoardScreen(gameType, boards), true, true);
+      app.showBoardChoice(gameType, boards);
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.BOARD_SELECTED, board -> {
+    app.addEventListener(AppEvent.BOARD_SELECTED, board -> {
       // Update model immediately when a board is selected
       game.setBoard(board);
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.BOARD_CHOSEN, board -> {
+    app.addEventListener(AppEvent.BOARD_CHOSEN, board -> {
       // Board is already set in the game model from BOARD_SELECTED event
       // Just proceed to the next screen
       List<Player> players = List.of(
               new Player("Atas"),
               new Player("Stian")
       );
-      GuiApp.setContent(
-              new ChoosePlayerScreen(
-                      players, game.getAllPlayingPieces(), game.getMaxPlayers()
-              ), true, true);
+      app.showPlayerChoice(players, game.getAllPlayingPieces(), game.getMaxPlayers());
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.PLAYERS_CHOSEN, players -> {
+    app.addEventListener(AppEvent.PLAYERS_CHOSEN, players -> {
       PlayerConfigResponse response = game.isPlayerConfigOk(players);
       if (!response.isPlayerConfigOk()) {
-        GuiApp.getInstance().showMessage(response.errorMessage());
+        app.showMessage(response.errorMessage());
         return;
       }
       // update model
@@ -95,47 +121,59 @@ public class BoardGameController {
 
       // start game
       game.start();
-      // Create game screen using the GameScreenFactory
-      gameplayScreen = GameScreenFactory.createGameScreen(game.getGameType(), game.getBoard());
-      GuiApp.setContent(gameplayScreen, true, true);
-      updateGameScreen();
+      commandPipeline = new CommandPipeline(game);
+      app.showGame(game);
+    });
+
+    app.addEventListener(AppEvent.IN_GAME_EVENT, event -> {
+      GameCommand command = GameCommand.fromEvent(event);
+      if (command == null) {
+        return;
+      }
+      commandPipeline.submit(command);
+      flushCommands();
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.IN_GAME_EVENT, event -> {
-      game.handleEvent(event);
-      updateGameScreen();
-      if (game.isGameOver()) {
-        GuiApp.setContent(new GameOverScreen(game.getWinner().getName()), false, false);
+    app.addEventListener(AppEvent.FAST_FORWARD, turns -> {
+      if (turns == null || turns < 1) {
+        app.showMessage("Must play at least one turn");
+        return;
       }
+      commandPipeline.submit(new RollDiceCommand(turns));
+      flushCommands();
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.PLAY_AGAIN, event -> {
-      GuiApp.setContent(new HomeScreen(), false, false);
+    app.addEventListener(AppEvent.PLAY_AGAIN, event -> {
+      app.showHome();
     });
 
     // File handling event listeners
-    GuiApp.getInstance().addEventListener(AppEvent.SAVE_BOARD, filePath -> {
-      try {
-        // Ensure the board exists
-        if (game == null || game.getBoard() == null) {
-          GuiApp.getInstance().showMessage("No board to save");
-          return;
-        }
+    app.addEventListener(AppEvent.SAVE_BOARD, filePath -> {
+      // Ensure the board exists
+      if (game == null || game.getBoard() == null) {
+        app.showMessage("No board to save");
+        return;
+      }
 
-        // Use the file handler service to save the board
-        fileHandlerService.saveBoard(game.getBoard(), filePath);
+      // Copy the board, since the screens may change it while it is being written
+      Board board = game.getBoard().copy();
+      app.runInBackground(() -> {
+        try {
+          // Use the file handler service to save the board
+          fileHandlerService.saveBoard(board, filePath);
 
-        GuiApp.getInstance().showMessage("Board saved successfully to " + filePath);
-      } catch (DirectoryCreationException e) {
-        GuiApp.getInstance().showMessage("Error creating directory: " + e.getMessage());
-      } catch (InvalidConfigurationException e) {
-        GuiApp.getInstance().showMessage("Invalid board configuration: " + e.getMessage());
-      } catch (IOException e) {
-        GuiApp.getInstance().showMessage("Error saving board: " + e.getMessage());
-      }
+          app.showMessage("Board saved successfully to " + filePath);
+        } catch (DirectoryCreationException e) {
+          app.showMessage("Error creating directory: " + e.getMessage());
+        } catch (InvalidConfigurationException e) {
+          app.showMessage("Invalid board configuration: " + e.getMessage());
+        } catch (IOException e) {
+          app.showMessage("Error saving board: " + e.getMessage());
+        }
+      });
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.LOAD_BOARD, filePath -> {
+    app.addEventListener(AppEvent.LOAD_BOARD, filePath -> {
       try {
         // Use the file handler service to load the board
         Board board = fileHandlerService.loadBoard(filePath);
@@ -144,130 +182,116 @@ public class BoardGameController {
         board.setName("Loaded board");
 
         // Update the game with the loaded board
-        if (game != null) {
-          game.setBoard(board);
+        app.runOnUiThread(() -> {
+          if (game != null) {
+            game.setBoard(board);
 
-          // Get the current screen
-          if (GuiApp.getCurrentContent() instanceof ChooseBoardScreen chooseBoardScreen) {
-            chooseBoardScreen.addLoadedBoard(board);
-          }
+            // Add the board to the board choice if it is being shown
+            app.addLoadedBoard(board);
 
-          GuiApp.getInstance().showMessage("Board loaded successfully from " + filePath);
-        } else {
-          GuiApp.getInstance().showMessage("No game selected to load the board into");
-        }
+            app.showMessage("Board loaded successfully from " + filePath);
+          } else {
+            app.showMessage("No game selected to load the board into");
+          }
+        });
       } catch (FileNotFoundException e) {
-        GuiApp.getInstance().showMessage("Board file not found: " + e.getFilePath());
+        app.showMessage("Board file not found: " + e.getFilePath());
       } catch (JsonParsingException e) {
-        GuiApp.getInstance().showMessage("Error parsing board file: " + e.getMessage());
+        app.showMessage("Error parsing board file: " + e.getMessage());
       } catch (BoardDataException e) {
-        GuiApp.getInstance().showMessage("Invalid board data: " + e.getMessage());
+        app.showMessage("Invalid board data: " + e.getMessage());
       } catch (IOException e) {
-        GuiApp.getInstance().showMessage("Error loading board: " + e.getMessage());
+        app.showMessage("Error loading board: " + e.getMessage());
       }
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.SAVE_PLAYERS, tuple -> {
-      try {
-        Path filePath = tuple.first();
-        List<Player> players = tuple.second();
+    app.addEventListener(AppEvent.SAVE_PLAYERS, tuple -> {
+      Path filePath = tuple.first();
 
-        // Ensure players exist
-        if (players.isEmpty()) {
-          GuiApp.getInstance().showMessage("No players to save");
-          return;
-        }
+      // Ensure players exist
+      if (tuple.second().isEmpty()) {
+        app.showMessage("No players to save");
+        return;
+      }
 
-        // Use the file handler service to save the players
-        fileHandlerService.savePlayers(players, filePath);
+      // Copy the players, since the player setup keeps changing its list while it is shown
+      List<Player> players = tuple.second().stream()
+              .map(player -> new Player(player.getName(), player.getPlayingPiece()))
+              .toList();
+      app.runInBackground(() -> {
+        try {
+          // Use the file handler service to save the players
+          fileHandlerService.savePlayers(players, filePath);
 
-        GuiApp.getInstance().showMessage("Players saved successfully to " + filePath);
-      } catch (DirectoryCreationException e) {
-        GuiApp.getInstance().showMessage("Error creating directory: " + e.getMessage());
-      } catch (InvalidConfigurationException e) {
-        GuiApp.getInstance().showMessage("Invalid player configuration: " + e.getMessage());
-      } catch (IOException e) {
-        GuiApp.getInstance().showMessage("Error saving players: " + e.getMessage());
-      }
+          app.showMessage("Players saved successfully to " + filePath);
+        } catch (DirectoryCreationException e) {
+          app.showMessage("Error creating directory: " + e.getMessage());
+        } catch (InvalidConfigurationException e) {
+          app.showMessage("Invalid player configuration: " + e.getMessage());
+        } catch (IOException e) {
+          app.showMessage("Error saving players: " + e.getMessage());
+        }
+      });
     });
 
-    GuiApp.getInstance().addEventListener(AppEvent.LOAD_PLAYERS, filePath -> {
+    app.addEventListener(AppEvent.LOAD_PLAYERS, filePath -> {
       try {
         // Use the file handler service to load the players
         List<Player> players = fileHandlerService.loadPlayers(filePath);
 
         // Update the game with the loaded players or update the player selection screen
-        if (game != null) {
-          // Check if the player configuration is valid
-          PlayerConfigResponse response = game.isPlayerConfigOk(players);
-          if (response.isPlayerConfigOk()) {
-            game.setPlayers(players);
-
-            // Update the ChoosePlayerScreen if it's the current screen
-            if (GuiApp.getCurrentContent() instanceof ChoosePlayerScreen choosePlayerScreen) {
-              choosePlayerScreen.updatePlayers(players);
-            }
+        app.runOnUiThread(() -> {
+          if (game != null) {
+            // Check if the player configuration is valid
+            PlayerConfigResponse response = game.isPlayerConfigOk(players);
+            if (response.isPlayerConfigOk()) {
+              game.setPlayers(players);
+
+              // Update the player choice if it is being shown
+              app.showLoadedPlayers(players);
 
-            GuiApp.getInstance().showMessage("Players loaded successfully from " + filePath);
+              app.showMessage("Players loaded successfully from " + filePath);
+            } else {
+              app.showMessage(
+                      "Invalid player configuration: " + response.errorMessage()
+              );
+            }
           } else {
-            GuiApp.getInstance().showMessage(
-                    "Invalid player configuration: " + response.errorMessage()
-            );
+            app.showMessage("No game selected to load the players into");
           }
-        } else {
-          GuiApp.getInstance().showMessage("No game selected to load the players into");
-        }
+        });
       } catch (FileNotFoundException e) {
-        GuiApp.getInstance().showMessage("Player file not found: " + e.getFilePath());
+        app.showMessage("Player file not found: " + e.getFilePath());
       } catch (CsvParsingException e) {
-        GuiApp.getInstance().showMessage("Error parsing player file: " + e.getMessage());
+        app.showMessage("Error parsing player file: " + e.getMessage());
       } catch (PlayerDataException e) {
-        GuiApp.getInstance().showMessage("Invalid player data: " + e.getMessage());
+        app.showMessage("Invalid player data: " + e.getMessage());
       } catch (IOException e) {
-        GuiApp.getInstance().showMessage("Error loading players: " + e.getMessage());
+        app.showMessage("Error loading players: " + e.getMessage());
       }
     });
   }
 
   /**
-   * Updates the game screen with current game state.
-   * Handles different game screen types and updates them with appropriate data.
-   *
-   * @throws IllegalArgumentException if the game screen type is invalid
+   * Runs the queued game commands and updates the game screen once with the result.
+   * Shows the game over screen if the commands ended the game.
    */
-  private void updateGameScreen() {
-    if (gameplayScreen instanceof SnakesAndLaddersScreen) {
-      ((SnakesAndLaddersScreen) gameplayScreen).update(
-              game.getPlayers(),
-              game.getCurrentPlayer(),
-              game.getDiceCounts()
-      );
-    } else if (gameplayScreen instanceof MonopolyScreen) {
-      List<Integer> playerMoney = new ArrayList<>();
-
-      // Get player money if this is a MonopolyGame
-      if (game instanceof MonopolyGame monopolyGame) {
-        for (Player player : game.getPlayers()) {
-          playerMoney.add(monopolyGame.getPlayerMoney(player));
-        }
-      }
-
-      ((MonopolyScreen) gameplayScreen).update(
-              game.getPlayers(),
-              game.getCurrentPlayer(),
-              game.getDiceCounts(),
-              playerMoney
-      );
-    } else {
-      throw new IllegalArgumentException("Invalid game screen type: " + gameplayScreen.getClass());
+  private void flushCommands() {
+    TurnSummary summary = commandPipeline.flush();
+    if (summary.turnsPlayed() == 0) {
+      return;
+    }
+    app.updateGame(game);
+    if (summary.isGameOver()) {
+      app.showGameOver(summary.winner().getName());
     }
   }
 
   /**
    * Starts the application.
-   * Initiates the GUI application instance to begin the game.
+   * Initiates the UI application instance to begin the game.
    */
   public void run() {
-    GuiApp.getInstance().startApp();
+    app.startApp();
   }
 }
@@ -29,12 +29,28 @@ public class BoardFileWriterGson implements BoardFileWriter {
       throw new IOException("Failed to create directory for file: " + filePath, e);
     }
 
-    // Create a Gson instance with the TileAction adapter and pretty printing
+    // Create a Gson instance with pretty printing
     Gson gson = new GsonBuilder()
-            .registerTypeAdapter(TileAction.class, new TileActionAdapter())
             .setPrettyPrinting()
             .create();
 
+    // Write the JSON to the file
+    String json = gson.toJson(toJsonTree(board));
+    Files.writeString(filePath, json);
+  }
+
+  /**
+   * Converts a board to the JSON tree that is written to board files.
+   *
+   * @param board the board to convert
+   * @return the JSON object of the board
+   */
+  public JsonObject toJsonTree(Board board) {
+    // Create a Gson instance with the TileAction adapter
+    Gson gson = new GsonBuilder()
+            .registerTypeAdapter(TileAction.class, new TileActionAdapter())
+            .create();
+
     // Create the JSON object for the board
     JsonObject boardJson = new JsonObject();
 
@@ -90,7 +106,7 @@ public class BoardFileWriterGson implements BoardFileWriter {
       // Add the action if available
       TileAction action = tile.getAction();
       if (action != null) {
-        JsonElement actionJson = gson.toJsonTree(action);
+        JsonElement actionJson = gson.toJsonTree(action, TileAction.class);
         tileJson.add("action", actionJson);
       }
 
@@ -98,9 +114,6 @@ public class BoardFileWriterGson implements BoardFileWriter {
     }
 
     boardJson.add("tiles", tilesJson);
-
-    // Write the JSON to the file
-    String json = gson.toJson(boardJson);
-    Files.writeString(filePath, json);
+    return boardJson;
   }
 }
@@ -0,0 +1,135 @@
+package edu.ntnu.iir.bidata.filehandling;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import edu.ntnu.iir.bidata.exceptions.DirectoryCreationException;
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.GameType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stores rendered previews of boards as PNG files, named by a hash of what the board looks like.
+ *
+ * <p>The key of a preview is a SHA-256 hash of the board's tiles as they are written to board
+ * files, together with the game type and the size of the preview. The name of the board is
+ * left out, since it is not drawn. A board that is changed gets a new key, so a preview is
+ * never out of date, and the same board loaded from different files shares one preview.
+ *
+ * <p>This class only stores the encoded files; rendering and decoding is left to the view.
+ */
+public class BoardThumbnailStore {
+  /**
+   * The version of the preview rendering. Changing it gives every board a new key, so previews
+   * drawn by older versions are not used.
+   */
+  private static final int RENDER_VERSION = 1;
+
+  private final Path directory;
+  private final BoardFileWriterGson boardWriter = new BoardFileWriterGson();
+  private final Gson gson = new Gson();
+
+  /**
+   * Creates a store that keeps previews in the given directory.
+   * The directory is created when the first preview is written.
+   *
+   * @param directory the directory for the preview files
+   * @throws IllegalArgumentException if the directory is null
+   */
+  public BoardThumbnailStore(Path directory) {
+    if (directory == null) {
+      throw new IllegalArgumentException("Directory cannot be null");
+    }
+    this.directory = directory;
+  }
+
+  /**
+   * Computes the key of the preview of a board.
+   *
+   * @param board    the board
+   * @param gameType the game type the board is drawn for
+   * @param size     the width and height of the preview in pixels
+   * @return the key, as 64 hexadecimal digits
+   * @throws IllegalArgumentException if the board or game type is null
+   */
+  public String key(Board board, GameType gameType, int size) {
+    if (board == null || gameType == null) {
+      throw new IllegalArgumentException("Board and game type cannot be null");
+    }
+    JsonObject boardJson = boardWriter.toJsonTree(board);
+    boardJson.remove("name");
+    String content = RENDER_VERSION + "|" + gameType + "|" + size + "|" + gson.toJson(boardJson);
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Gets the path of the preview file with a key.
+   *
+   * @param key the key of the preview
+   * @return the path of the file, which may not exist
+   */
+  public Path pathOf(String key) {
+    return directory.resolve(key + ".png");
+  }
+
+  /**
+   * Checks if a preview with a key has been stored.
+   *
+   * @param key the key of the preview
+   * @return true if the preview file exists
+   */
+  public boolean contains(String key) {
+    return Files.isRegularFile(pathOf(key));
+  }
+
+  /**
+   * Stores an encoded preview. The file is written under a temporary name and then moved into
+   * place, so a preview that is being written is never read half done.
+   *
+   * @param key the key of the preview
+   * @param png the PNG file contents
+   * @throws IOException if the directory can't be created or the file can't be written
+   */
+  public void write(String key, byte[] png) throws IOException {
+    try {
+      FileUtils.ensureDirectoryExists(directory);
+    } catch (DirectoryCreationException e) {
+      throw new IOException("Failed to create thumbnail directory: " + directory, e);
+    }
+    Path target = pathOf(key);
+    Path temporary = Files.createTempFile(directory, key, ".tmp");
+    try {
+      Files.write(temporary, png);
+      try {
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Gets the directory the previews are stored in.
+   *
+   * @return the directory
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+}
@@ -23,6 +23,11 @@ public class FileConstants {
    */
   public static final Path PLAYERS_DIR = USER_FILES_DIR.resolve("players");
 
+  /**
+   * The directory where rendered board previews are cached.
+   */
+  public static final Path THUMBNAILS_DIR = USER_FILES_DIR.resolve("thumbnails");
+
   private FileConstants() {
     // Private constructor to prevent instantiation
   }
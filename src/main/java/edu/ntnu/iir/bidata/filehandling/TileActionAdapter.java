@@ -12,6 +12,8 @@ import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
 import edu.ntnu.iir.bidata.model.tileaction.IncomeTaxAction;
 import edu.ntnu.iir.bidata.model.tileaction.JailAction;
 import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyType;
 import edu.ntnu.iir.bidata.model.tileaction.TileAction;
 import edu.ntnu.iir.bidata.model.tileaction.TreasuryAction;
 import java.lang.reflect.Type;
@@ -27,6 +29,7 @@ public class TileActionAdapter implements JsonSerializer<TileAction>, JsonDeseri
   private static final String CHANCE_ACTION = "ChanceAction";
   private static final String INCOME_TAX_ACTION = "IncomeTaxAction";
   private static final String TREASURY_ACTION = "TreasuryAction";
+  private static final String PROPERTY_ACTION = "PropertyAction";
 
   @Override
   public JsonElement serialize(TileAction src, Type typeOfSrc, JsonSerializationContext context) {
@@ -41,8 +44,19 @@ public class TileActionAdapter implements JsonSerializer<TileAction>, JsonDeseri
       case GoToJailAction goToJailAction -> result.addProperty(TYPE_FIELD, GO_TO_JAIL_ACTION);
       case JailAction jailAction -> result.addProperty(TYPE_FIELD, JAIL_ACTION);
       case ChanceAction chanceAction -> result.addProperty(TYPE_FIELD, CHANCE_ACTION);
-      case IncomeTaxAction incomeTaxAction -> result.addProperty(TYPE_FIELD, INCOME_TAX_ACTION);
+      case IncomeTaxAction incomeTaxAction -> {
+        result.addProperty(TYPE_FIELD, INCOME_TAX_ACTION);
+        result.addProperty("amount", incomeTaxAction.getAmount());
+      }
       case TreasuryAction treasuryAction -> result.addProperty(TYPE_FIELD, TREASURY_ACTION);
+      case PropertyAction propertyAction -> {
+        result.addProperty(TYPE_FIELD, PROPERTY_ACTION);
+        result.addProperty("name", propertyAction.getName());
+        result.addProperty("propertyType", propertyAction.getType().name());
+        result.addProperty("group", propertyAction.getGroup());
+        result.addProperty("price", propertyAction.getPrice());
+        result.addProperty("rent", propertyAction.getRent());
+      }
       case null, default -> {
         assert src != null;
         throw new JsonParseException("Unknown TileAction type: " + src.getClass().getName());
@@ -83,9 +97,24 @@ public class TileActionAdapter implements JsonSerializer<TileAction>, JsonDeseri
       case CHANCE_ACTION:
         return new ChanceAction();
       case INCOME_TAX_ACTION:
+        if (jsonObject.has("amount")) {
+          return new IncomeTaxAction(jsonObject.get("amount").getAsInt());
+        }
         return new IncomeTaxAction();
       case TREASURY_ACTION:
         return new TreasuryAction();
+      case PROPERTY_ACTION:
+        try {
+          return new PropertyAction(
+                  jsonObject.get("name").getAsString(),
+                  PropertyType.valueOf(jsonObject.get("propertyType").getAsString()),
+                  jsonObject.get("group").getAsString(),
+                  jsonObject.get("price").getAsInt(),
+                  jsonObject.get("rent").getAsInt()
+          );
+        } catch (NullPointerException | IllegalArgumentException e) {
+          throw new JsonParseException("Invalid PropertyAction: " + jsonObject, e);
+        }
       default:
         throw new JsonParseException("Unknown TileAction type: " + type);
     }
@@ -1,17 +1,30 @@
 package edu.ntnu.iir.bidata.model;
 
+import edu.ntnu.iir.bidata.model.tileaction.TileAction;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * Represents the game board consisting of multiple tiles.
  * A board has dimensions, a name, and contains a collection of tiles indexed by their IDs.
+ *
+ * <p>The board also keeps an index from each tile action class to the IDs of the tiles with
+ * that action, so special tiles such as the jail or the snakes and ladders can be found without
+ * scanning every tile. Tiles added to the board report changes to their action back to the
+ * board, which keeps the index up to date. The order of the tiles along their next tile links
+ * is cached in the same way, so the number of steps between two tiles can be looked up.
  */
 public class Board {
   private String name = "Unnamed board";
   private final Map<Integer, Tile> tiles;
+  private final Map<Class<? extends TileAction>, TreeSet<Integer>> actionIndex = new HashMap<>();
+
+  // The tiles in next tile order, built when first needed and cleared when a link changes
+  private Map<Integer, Integer> pathIndex;
+  private boolean pathIsCycle;
   private final double width;
   private final double height;
 
@@ -30,7 +43,7 @@ public class Board {
   public Board(List<Tile> tiles) {
     this.tiles = new HashMap<>();
     for (Tile tile : tiles) {
-      this.tiles.put(tile.getId(), tile);
+      addTile(tile);
     }
     this.width = 1;
     this.height = 1;
@@ -55,12 +68,216 @@ public class Board {
   }
 
   /**
-   * Adds a tile to the board.
+   * Adds a tile to the board, replacing any tile with the same ID.
+   * A tile can only belong to one board, because it tells that board when its action changes.
+   * Use {@link #copy()} to put the same tiles on another board.
    *
    * @param tile The tile to add to the board
+   * @throws IllegalArgumentException if the tile is null or belongs to another board
    */
   public void addTile(Tile tile) {
-    tiles.put(tile.getId(), tile);
+    if (tile == null) {
+      throw new IllegalArgumentException("Tile cannot be null");
+    }
+    if (tile.getBoard() != null && tile.getBoard() != this) {
+      throw new IllegalArgumentException("Tile " + tile.getId() + " belongs to another board");
+    }
+    Tile replaced = tiles.put(tile.getId(), tile);
+    if (replaced != null) {
+      unindexAction(replaced.getId(), replaced.getAction());
+      replaced.setBoard(null);
+    }
+    tile.setBoard(this);
+    indexAction(tile.getId(), tile.getAction());
+    pathIndex = null;
+  }
+
+  /**
+   * Updates the action index after the action of a tile on this board has changed.
+   * Called by {@link Tile#setAction(TileAction)}.
+   *
+   * @param tile      the tile whose action changed
+   * @param oldAction the action the tile had before, or null
+   */
+  void actionChanged(Tile tile, TileAction oldAction) {
+    unindexAction(tile.getId(), oldAction);
+    indexAction(tile.getId(), tile.getAction());
+  }
+
+  /**
+   * Clears the cached tile order after a next tile link on this board has changed.
+   * Called by {@link Tile#setNextTile(Tile)}.
+   */
+  void linksChanged() {
+    pathIndex = null;
+  }
+
+  /**
+   * Adds a tile ID to the index entry of its action class.
+   *
+   * @param tileId the tile ID
+   * @param action the action of the tile, or null
+   */
+  private void indexAction(int tileId, TileAction action) {
+    if (action != null) {
+      actionIndex.computeIfAbsent(action.getClass(), type -> new TreeSet<>()).add(tileId);
+    }
+  }
+
+  /**
+   * Removes a tile ID from the index entry of its action class.
+   *
+   * @param tileId the tile ID
+   * @param action the action of the tile, or null
+   */
+  private void unindexAction(int tileId, TileAction action) {
+    if (action == null) {
+      return;
+    }
+    TreeSet<Integer> ids = actionIndex.get(action.getClass());
+    if (ids != null) {
+      ids.remove(tileId);
+      if (ids.isEmpty()) {
+        actionIndex.remove(action.getClass());
+      }
+    }
+  }
+
+  /**
+   * Gets the IDs of the tiles whose action is of exactly the given class, in ascending order.
+   *
+   * @param actionType the action class to look for
+   * @return the matching tile IDs, empty if there are none
+   */
+  public List<Integer> getTileIdsWithAction(Class<? extends TileAction> actionType) {
+    TreeSet<Integer> ids = actionIndex.get(actionType);
+    return ids == null ? List.of() : List.copyOf(ids);
+  }
+
+  /**
+   * Gets the tiles whose action is of exactly the given class, in ascending ID order.
+   *
+   * @param actionType the action class to look for
+   * @return the matching tiles, empty if there are none
+   */
+  public List<Tile> getTilesWithAction(Class<? extends TileAction> actionType) {
+    TreeSet<Integer> ids = actionIndex.get(actionType);
+    if (ids == null) {
+      return List.of();
+    }
+    List<Tile> matching = new ArrayList<>(ids.size());
+    for (int id : ids) {
+      matching.add(tiles.get(id));
+    }
+    return matching;
+  }
+
+  /**
+   * Gets the lowest ID of the tiles whose action is of exactly the given class.
+   *
+   * @param actionType the action class to look for
+   * @return the lowest matching tile ID, or -1 if no tile has the action
+   */
+  public int getFirstTileIdWithAction(Class<? extends TileAction> actionType) {
+    TreeSet<Integer> ids = actionIndex.get(actionType);
+    return ids == null ? -1 : ids.first();
+  }
+
+  /**
+   * Counts the tiles whose action is of exactly the given class.
+   *
+   * @param actionType the action class to look for
+   * @return the number of matching tiles
+   */
+  public int countTilesWithAction(Class<? extends TileAction> actionType) {
+    TreeSet<Integer> ids = actionIndex.get(actionType);
+    return ids == null ? 0 : ids.size();
+  }
+
+  /**
+   * Counts the next tile links to follow to get from one tile to another.
+   *
+   * <p>When the links form a single path or a single loop through every tile, the answer is
+   * looked up in a cached tile order. Other layouts fall back to following the links.
+   *
+   * @param fromId the ID of the tile to start from
+   * @param toId   the ID of the tile to reach
+   * @return the number of links to follow, 0 for the same tile, or -1 if the tile cannot be
+   *         reached
+   */
+  public int getPathSteps(int fromId, int toId) {
+    Tile from = tiles.get(fromId);
+    if (from == null || !tiles.containsKey(toId)) {
+      return -1;
+    }
+    if (fromId == toId) {
+      return 0;
+    }
+    if (pathIndex == null) {
+      buildPathIndex();
+    }
+    if (!pathIndex.isEmpty()) {
+      int steps = pathIndex.get(toId) - pathIndex.get(fromId);
+      if (steps < 0) {
+        return pathIsCycle ? steps + pathIndex.size() : -1;
+      }
+      return steps;
+    }
+
+    Tile current = from.getNextTile();
+    for (int steps = 1; current != null && steps <= tiles.size(); steps++) {
+      if (current.getId() == toId) {
+        return steps;
+      }
+      current = current.getNextTile();
+    }
+    return -1;
+  }
+
+  /**
+   * Orders the tiles along their next tile links. The index is left empty when the links do
+   * not form a single path or loop through every tile.
+   */
+  private void buildPathIndex() {
+    pathIndex = new HashMap<>();
+    pathIsCycle = false;
+    if (tiles.isEmpty()) {
+      return;
+    }
+
+    // A path starts at the only tile no other tile links to, a loop at the lowest ID
+    Map<Integer, Integer> incoming = new HashMap<>();
+    for (Tile tile : tiles.values()) {
+      Tile next = tile.getNextTile();
+      if (next != null) {
+        incoming.merge(next.getId(), 1, Integer::sum);
+      }
+    }
+    Tile start = null;
+    int starts = 0;
+    for (Tile tile : tiles.values()) {
+      if (!incoming.containsKey(tile.getId())) {
+        start = tile;
+        starts++;
+      }
+    }
+    if (starts == 0) {
+      start = tiles.get(tiles.keySet().stream().min(Integer::compare).orElseThrow());
+    } else if (starts > 1) {
+      return;
+    }
+
+    Map<Integer, Integer> order = new HashMap<>();
+    Tile current = start;
+    while (current != null && tiles.get(current.getId()) == current
+            && !order.containsKey(current.getId())) {
+      order.put(current.getId(), order.size());
+      current = current.getNextTile();
+    }
+    if (order.size() == tiles.size()) {
+      pathIndex = order;
+      pathIsCycle = current == start;
+    }
   }
 
   /**
@@ -91,6 +308,43 @@ public class Board {
     return tiles.size();
   }
 
+  /**
+   * Makes a copy of the board with a copy of every tile and its styling, so the copy can be
+   * read on another thread while the board itself keeps changing. Tile actions can't be
+   * changed, so the copied tiles share them.
+   *
+   * @return the copy
+   */
+  public Board copy() {
+    Map<Integer, Tile> copies = new HashMap<>();
+    for (Tile tile : tiles.values()) {
+      Tile copy = new Tile(tile.getId());
+      copy.setPosition(tile.getPosition());
+      copy.setSize(tile.getWidth(), tile.getHeight());
+      copy.setAction(tile.getAction());
+      TileStyling styling = tile.getStyling();
+      if (styling != null) {
+        TileStyling stylingCopy = new TileStyling();
+        stylingCopy.setColor(styling.getColor());
+        stylingCopy.setImagePath(styling.getImagePath());
+        stylingCopy.setImageRotation(styling.getImageRotation());
+        copy.setStyling(stylingCopy);
+      } else {
+        copy.setStyling(null);
+      }
+      copies.put(tile.getId(), copy);
+    }
+    for (Tile tile : tiles.values()) {
+      Tile next = tile.getNextTile();
+      if (next != null) {
+        copies.get(tile.getId()).setNextTile(copies.getOrDefault(next.getId(), next));
+      }
+    }
+    Board board = new Board(new ArrayList<>(copies.values()));
+    board.setName(name);
+    return board;
+  }
+
   /**
    * Gets the width of the board.
    *
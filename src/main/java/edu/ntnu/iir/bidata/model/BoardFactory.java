@@ -1,13 +1,20 @@
 package edu.ntnu.iir.bidata.model;
 
+import edu.ntnu.iir.bidata.model.tileaction.ChanceAction;
 import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tileaction.IncomeTaxAction;
 import edu.ntnu.iir.bidata.model.tileaction.JailAction;
 import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyType;
 import edu.ntnu.iir.bidata.model.tileaction.TileAction;
+import edu.ntnu.iir.bidata.model.tileaction.TreasuryAction;
 import edu.ntnu.iir.bidata.utils.RandomMath;
+import edu.ntnu.iir.bidata.utils.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.random.RandomGenerator;
 
 /**
  * Factory class responsible for creating different Board configurations.
@@ -32,6 +39,20 @@ public class BoardFactory {
    * @throws IllegalArgumentException if columns or rows are less than 3
    */
   public static Board randomSnakesAndLadders(int columns, int rows) {
+    return randomSnakesAndLadders(columns, rows, RandomSource.create());
+  }
+
+  /**
+   * Creates a randomly generated Snakes and Ladders board, drawing the ladder and snake
+   * placements from the given generator. A seeded generator always gives the same board.
+   *
+   * @param columns Number of columns in the board (must be at least 3)
+   * @param rows    Number of rows in the board (must be at least 3)
+   * @param random  The generator to draw placements from
+   * @return A configured board with random ladder and snake placements
+   * @throws IllegalArgumentException if columns or rows are less than 3
+   */
+  public static Board randomSnakesAndLadders(int columns, int rows, RandomGenerator random) {
     // the random generation doesn't work for columns < 3 and rows < 3
     if (columns < 3 || rows < 3) {
       throw new IllegalArgumentException("Columns and rows must be at least 3.");
@@ -52,10 +73,10 @@ public class BoardFactory {
     for (int i = 0; i < ladderCount; i++) {
       int start = RandomMath.randomPick(freePositions.stream().filter(
               p -> 1 < p && p < columns * (rows - 1)
-      ).toList()).orElse(-1);
+      ).toList(), random).orElse(-1);
       int end = RandomMath.randomPick(freePositions.stream().filter(
               p -> (start - start % columns) + columns < p && p < columns * rows - 1
-      ).toList()).orElse(-1);
+      ).toList(), random).orElse(-1);
 
       // if no valid positions are found, skip this ladder
       if (start == -1 || end == -1) {
@@ -75,10 +96,10 @@ public class BoardFactory {
     for (int i = 0; i < snakeCount; i++) {
       int start = RandomMath.randomPick(freePositions.stream().filter(
               p -> columns + 1 < p && p < columns * rows - 1
-      ).toList()).orElse(-1);
+      ).toList(), random).orElse(-1);
       int end = RandomMath.randomPick(freePositions.stream().filter(
               p -> 0 < p && p < start - start % columns
-      ).toList()).orElse(-1);
+      ).toList(), random).orElse(-1);
 
       // if no valid positions are found, skip this ladder
       if (start == -1 || end == -1) {
@@ -157,8 +178,8 @@ public class BoardFactory {
    * Applies color styling to a Snakes and Ladders board.
    * Ladders are colored green and snakes are colored red.
    *
-   * <p>This method iterates through all tiles on the board and applies
-   * appropriate color styling based on the tile's action:
+   * <p>This method looks up the tiles with a move action in the board's action index and
+   * applies appropriate color styling based on the action:
    * <ul>
    *   <li>Ladders (actions where end > start) are colored green (#228B22)</li>
    *   <li>Snakes (actions where end < start) are colored red (#ec4a27)</li>
@@ -169,13 +190,12 @@ public class BoardFactory {
    */
   private static void colorSnakesAndLaddersBoard(Board board) {
     // color the snakes and ladders
-    for (Tile tile : board.getTiles()) {
-      if (tile.getAction() instanceof MoveAction action) {
-        if (action.getStart() < action.getEnd()) {
-          tile.getStyling().setColor("#228B22");
-        } else {
-          tile.getStyling().setColor("#ec4a27");
-        }
+    for (Tile tile : board.getTilesWithAction(MoveAction.class)) {
+      MoveAction action = (MoveAction) tile.getAction();
+      if (action.getStart() < action.getEnd()) {
+        tile.getStyling().setColor("#228B22");
+      } else {
+        tile.getStyling().setColor("#ec4a27");
       }
     }
   }
@@ -195,8 +215,9 @@ public class BoardFactory {
    * </p>
    *
    * <p>Each tile is configured with appropriate image paths and rotations based on
-   * its position on the board. Special action tiles like Jail and Go to Jail
-   * are also assigned their appropriate actions.</p>
+   * its position on the board. Special action tiles like Jail, Go to Jail, Chance, Community
+   * Chest and the taxes are also assigned their appropriate actions, and every street, railroad
+   * and utility gets a property action with its classic price and rent.</p>
    *
    * @return A fully configured standard Monopoly board
    */
@@ -234,22 +255,26 @@ public class BoardFactory {
             Map.of(
                     "tileIds", List.of(2, 17, 33),
                     "imagePath", "images/games/monopoly/tiles/community_chest.png",
-                    "rotations", List.of(0.0, 90.0, 270.0)
+                    "rotations", List.of(0.0, 90.0, 270.0),
+                    "special_tile", new TreasuryAction()
             ),
             Map.of(
                     "tileIds", List.of(7, 22, 36),
                     "imagePath", "images/games/monopoly/tiles/chance.png",
-                    "rotations", List.of(0.0, 180.0, 270.0)
+                    "rotations", List.of(0.0, 180.0, 270.0),
+                    "special_tile", new ChanceAction()
             ),
             Map.of(
                     "tileIds", List.of(4),
                     "imagePath", "images/games/monopoly/tiles/income tax.png",
-                    "rotations", List.of(0.0)
+                    "rotations", List.of(0.0),
+                    "special_tile", new IncomeTaxAction(200)
             ),
             Map.of(
                     "tileIds", List.of(38),
                     "imagePath", "images/games/monopoly/tiles/luxury tax.png",
-                    "rotations", List.of(270.0)
+                    "rotations", List.of(270.0),
+                    "special_tile", new IncomeTaxAction(100)
             ),
             Map.of(
                     "tileIds", List.of(5, 15, 25, 35),
@@ -397,9 +422,69 @@ public class BoardFactory {
       }
     }
 
+    addMonopolyProperties(board);
     return board;
   }
 
+  /**
+   * Adds the classic streets, railroads and utilities to a Monopoly board.
+   *
+   * @param board The board to add the properties to
+   */
+  private static void addMonopolyProperties(Board board) {
+    addStreet(board, 1, "Mediterranean Avenue", "brown", 60, 2);
+    addStreet(board, 3, "Baltic Avenue", "brown", 60, 4);
+    addStreet(board, 6, "Oriental Avenue", "light blue", 100, 6);
+    addStreet(board, 8, "Vermont Avenue", "light blue", 100, 6);
+    addStreet(board, 9, "Connecticut Avenue", "light blue", 120, 8);
+    addStreet(board, 11, "St. Charles Place", "pink", 140, 10);
+    addStreet(board, 13, "States Avenue", "pink", 140, 10);
+    addStreet(board, 14, "Virginia Avenue", "pink", 160, 12);
+    addStreet(board, 16, "St. James Place", "orange", 180, 14);
+    addStreet(board, 18, "Tennessee Avenue", "orange", 180, 14);
+    addStreet(board, 19, "New York Avenue", "orange", 200, 16);
+    addStreet(board, 21, "Kentucky Avenue", "red", 220, 18);
+    addStreet(board, 23, "Indiana Avenue", "red", 220, 18);
+    addStreet(board, 24, "Illinois Avenue", "red", 240, 20);
+    addStreet(board, 26, "Atlantic Avenue", "yellow", 260, 22);
+    addStreet(board, 27, "Ventnor Avenue", "yellow", 260, 22);
+    addStreet(board, 29, "Marvin Gardens", "yellow", 280, 24);
+    addStreet(board, 31, "Pacific Avenue", "green", 300, 26);
+    addStreet(board, 32, "North Carolina Avenue", "green", 300, 26);
+    addStreet(board, 34, "Pennsylvania Avenue", "green", 320, 28);
+    addStreet(board, 37, "Park Place", "dark blue", 350, 35);
+    addStreet(board, 39, "Boardwalk", "dark blue", 400, 50);
+
+    String[] railroads = {
+        "Reading Railroad", "Pennsylvania Railroad", "B. & O. Railroad", "Short Line"
+    };
+    for (int i = 0; i < railroads.length; i++) {
+      board.getTile(5 + i * 10).setAction(
+              new PropertyAction(railroads[i], PropertyType.RAILROAD, "railroad", 200, 25));
+    }
+
+    board.getTile(12).setAction(
+            new PropertyAction("Electric Company", PropertyType.UTILITY, "utility", 150, 4));
+    board.getTile(28).setAction(
+            new PropertyAction("Water Works", PropertyType.UTILITY, "utility", 150, 4));
+  }
+
+  /**
+   * Helper method to add a street to a Monopoly board.
+   *
+   * @param board  The board to add the street to
+   * @param tileId The tile of the street
+   * @param name   The name of the street
+   * @param group  The colour group of the street
+   * @param price  The price of the street
+   * @param rent   The rent of the street without houses
+   */
+  private static void addStreet(Board board, int tileId, String name, String group, int price,
+          int rent) {
+    board.getTile(tileId).setAction(
+            new PropertyAction(name, PropertyType.STREET, group, price, rent));
+  }
+
   /**
    * Gets all available boards for the specified game type.
    *
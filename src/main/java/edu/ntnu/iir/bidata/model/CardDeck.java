@@ -0,0 +1,342 @@
+package edu.ntnu.iir.bidata.model;
+
+import edu.ntnu.iir.bidata.model.tileaction.PropertyType;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * A deck of Chance or Treasury cards, for one game or for many games played side by side.
+ *
+ * <p>Every card is a single {@code int}: the low byte is an opcode such as {@link #PAY} or
+ * {@link #ADVANCE_TO}, and the remaining bits are a signed argument, such as the amount to pay
+ * or the tile to advance to. {@link #card(int, int)}, {@link #opcode(int)} and
+ * {@link #argument(int)} build and read cards. The games apply a card with a switch on its
+ * opcode, so drawing and applying a card creates no objects.
+ *
+ * <p>Each game's deck is shuffled once when the game starts, and cards are then drawn through a
+ * cursor that wraps around to the top like a ring buffer, so the order repeats the way a real
+ * deck does when drawn cards go back underneath. The decks of all games are kept in one flat
+ * array.
+ */
+public class CardDeck {
+  /**
+   * A card that does nothing, drawn from a deck without cards.
+   */
+  public static final int NOTHING = 0;
+
+  /**
+   * Advance to the tile in the argument, collecting GO money when passing GO.
+   */
+  public static final int ADVANCE_TO = 1;
+
+  /**
+   * Move the number of tiles in the argument, backwards if it is negative. Only forward moves
+   * collect GO money.
+   */
+  public static final int MOVE_BY = 2;
+
+  /**
+   * Collect the amount in the argument from the bank.
+   */
+  public static final int COLLECT = 3;
+
+  /**
+   * Pay the amount in the argument to the bank.
+   */
+  public static final int PAY = 4;
+
+  /**
+   * Go directly to jail without passing GO.
+   */
+  public static final int GO_TO_JAIL = 5;
+
+  /**
+   * Pay the amount in the argument to every other player.
+   */
+  public static final int PAY_EACH = 6;
+
+  /**
+   * Collect the amount in the argument from every other player.
+   */
+  public static final int COLLECT_FROM_EACH = 7;
+
+  /**
+   * Advance to the next property of the {@link PropertyType} whose ordinal is the argument,
+   * collecting GO money when passing GO.
+   */
+  public static final int ADVANCE_TO_NEAREST = 8;
+
+  private static final int[] STANDARD_CHANCE = {
+      card(ADVANCE_TO, 39),
+      card(ADVANCE_TO, 0),
+      card(ADVANCE_TO, 24),
+      card(ADVANCE_TO, 11),
+      card(ADVANCE_TO, 5),
+      card(ADVANCE_TO_NEAREST, PropertyType.RAILROAD.ordinal()),
+      card(ADVANCE_TO_NEAREST, PropertyType.RAILROAD.ordinal()),
+      card(ADVANCE_TO_NEAREST, PropertyType.UTILITY.ordinal()),
+      card(MOVE_BY, -3),
+      card(GO_TO_JAIL, 0),
+      card(COLLECT, 50),
+      card(COLLECT, 150),
+      card(PAY, 15),
+      card(PAY_EACH, 50),
+  };
+
+  private static final int[] STANDARD_TREASURY = {
+      card(ADVANCE_TO, 0),
+      card(GO_TO_JAIL, 0),
+      card(COLLECT, 200),
+      card(COLLECT, 100),
+      card(COLLECT, 100),
+      card(COLLECT, 100),
+      card(COLLECT, 50),
+      card(COLLECT, 25),
+      card(COLLECT, 20),
+      card(COLLECT, 10),
+      card(COLLECT_FROM_EACH, 10),
+      card(PAY, 100),
+      card(PAY, 50),
+      card(PAY, 50),
+  };
+
+  private final int[] cards;
+  private final CompiledBoard board;
+  private final int games;
+  private final int size;
+
+  // Indexed by game * size + position in the shuffled deck
+  private final int[] order;
+  private final int[] cursors;
+
+  /**
+   * Creates a deck for a single game, in the given order until it is shuffled.
+   *
+   * @param cards the cards of the deck
+   * @param board the board the deck is played on
+   * @throws IllegalArgumentException if the cards or board are null
+   */
+  public CardDeck(int[] cards, CompiledBoard board) {
+    this(cards, board, 1);
+  }
+
+  /**
+   * Creates a deck for many games, each in the given order until it is shuffled.
+   * Cards that refer to a tile or property type the board does not have are left out.
+   *
+   * @param cards the cards of the deck
+   * @param board the board the deck is played on
+   * @param games the number of games
+   * @throws IllegalArgumentException if the cards or board are null or there are no games
+   */
+  public CardDeck(int[] cards, CompiledBoard board, int games) {
+    if (cards == null || board == null) {
+      throw new IllegalArgumentException("Cards and board cannot be null");
+    }
+    if (games < 1) {
+      throw new IllegalArgumentException("Must have at least one game");
+    }
+    int kept = 0;
+    int[] playable = new int[cards.length];
+    for (int card : cards) {
+      if (isPlayable(card, board)) {
+        playable[kept++] = card;
+      }
+    }
+    this.cards = Arrays.copyOf(playable, kept);
+    this.board = board;
+    this.games = games;
+    this.size = kept;
+    this.order = new int[games * size];
+    this.cursors = new int[games];
+    for (int game = 0; game < games; game++) {
+      System.arraycopy(this.cards, 0, order, game * size, size);
+    }
+  }
+
+  /**
+   * Checks whether a card can be played on a board.
+   *
+   * @param card  the card
+   * @param board the board
+   * @return false if the card leads to a tile or property type the board does not have
+   */
+  private static boolean isPlayable(int card, CompiledBoard board) {
+    int argument = argument(card);
+    return switch (opcode(card)) {
+      case ADVANCE_TO -> board.getActionKind(argument) != CompiledBoard.NO_TILE;
+      case ADVANCE_TO_NEAREST -> argument >= 0 && argument < PropertyType.values().length
+              && board.getMaxTileId() >= 0
+              && board.getRentTable().getNextOfType(argument, 0) != -1;
+      default -> true;
+    };
+  }
+
+  /**
+   * Builds a card from an opcode and an argument.
+   *
+   * @param opcode   one of the opcode constants
+   * @param argument the argument, which must fit in 24 signed bits
+   * @return the card
+   */
+  public static int card(int opcode, int argument) {
+    return argument << 8 | opcode;
+  }
+
+  /**
+   * Reads the opcode of a card.
+   *
+   * @param card the card
+   * @return the opcode
+   */
+  public static int opcode(int card) {
+    return card & 0xFF;
+  }
+
+  /**
+   * Reads the argument of a card.
+   *
+   * @param card the card
+   * @return the signed argument
+   */
+  public static int argument(int card) {
+    return card >> 8;
+  }
+
+  /**
+   * Finds the tile a card moves a player to.
+   *
+   * @param card     the card
+   * @param position the tile the player stands on
+   * @return the tile to move to, or -1 if the card does not move the player
+   */
+  public int getMoveTarget(int card, int position) {
+    int argument = argument(card);
+    return switch (opcode(card)) {
+      case ADVANCE_TO -> argument;
+      case MOVE_BY -> Math.floorMod(position + argument, board.getTileCount());
+      case ADVANCE_TO_NEAREST -> board.getRentTable().getNextOfType(argument, position);
+      default -> -1;
+    };
+  }
+
+  /**
+   * Checks whether a card that moves a player moves them forward, so that passing GO pays.
+   *
+   * @param card the card
+   * @return false only for cards that move the player backwards
+   */
+  public static boolean movesForward(int card) {
+    return opcode(card) != MOVE_BY || argument(card) > 0;
+  }
+
+  /**
+   * Gets the classic Chance cards that work without houses or kept cards.
+   *
+   * @return a new array with the cards
+   */
+  public static int[] standardChance() {
+    return STANDARD_CHANCE.clone();
+  }
+
+  /**
+   * Gets the classic Community Chest cards that work without houses or kept cards, used for
+   * Treasury tiles.
+   *
+   * @return a new array with the cards
+   */
+  public static int[] standardTreasury() {
+    return STANDARD_TREASURY.clone();
+  }
+
+  /**
+   * Shuffles the deck of game 0 and puts the cursor on the top card.
+   *
+   * @param random the generator to shuffle with
+   */
+  public void shuffle(RandomGenerator random) {
+    shuffle(0, random);
+  }
+
+  /**
+   * Shuffles the deck of a game and puts the cursor on the top card.
+   * The deck always starts from the same order, so the same generator state gives the same
+   * shuffle.
+   *
+   * @param game   the game
+   * @param random the generator to shuffle with
+   */
+  public void shuffle(int game, RandomGenerator random) {
+    int base = game * size;
+    System.arraycopy(cards, 0, order, base, size);
+    for (int i = size - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = order[base + i];
+      order[base + i] = order[base + j];
+      order[base + j] = swap;
+    }
+    cursors[game] = 0;
+  }
+
+  /**
+   * Draws the next card of game 0.
+   *
+   * @return the card, or {@link #NOTHING} if the deck has no cards
+   */
+  public int draw() {
+    return draw(0);
+  }
+
+  /**
+   * Draws the next card of a game. After the last card, drawing starts over from the top.
+   *
+   * @param game the game
+   * @return the card, or {@link #NOTHING} if the deck has no cards
+   */
+  public int draw(int game) {
+    if (size == 0) {
+      return NOTHING;
+    }
+    int cursor = cursors[game];
+    cursors[game] = cursor + 1 == size ? 0 : cursor + 1;
+    return order[game * size + cursor];
+  }
+
+  /**
+   * Gets the position of the next card to draw in the shuffled deck of a game.
+   *
+   * @param game the game
+   * @return the number of cards drawn since the deck was last started over
+   */
+  public int getCursor(int game) {
+    return cursors[game];
+  }
+
+  /**
+   * Gets the number of cards in the deck.
+   *
+   * @return the card count
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Gets a card of the deck in its unshuffled order.
+   *
+   * @param index the index of the card
+   * @return the card
+   */
+  public int getCard(int index) {
+    return cards[index];
+  }
+
+  /**
+   * Gets the number of games the deck is kept for.
+   *
+   * @return the game count
+   */
+  public int getGames() {
+    return games;
+  }
+}
@@ -0,0 +1,357 @@
+package edu.ntnu.iir.bidata.model;
+
+import edu.ntnu.iir.bidata.model.tileaction.ChanceAction;
+import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tileaction.IncomeTaxAction;
+import edu.ntnu.iir.bidata.model.tileaction.JailAction;
+import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyAction;
+import edu.ntnu.iir.bidata.model.tileaction.TileAction;
+import edu.ntnu.iir.bidata.model.tileaction.TreasuryAction;
+import java.util.Arrays;
+
+/**
+ * A read-only, array-backed snapshot of a {@link Board} for the turn hot path.
+ *
+ * <p>A {@link Board} keeps its tiles in a map and every tile action is an object, so looking up
+ * the tile a player lands on boxes the tile id and identifying its action needs a chain of
+ * {@code instanceof} checks. A compiled board does this work once: every tile id gets a
+ * byte-coded action kind and the tile a move action leads to, stored in plain arrays indexed by
+ * tile id. Resolving a position is then an array read that allocates nothing.
+ *
+ * <p>The games follow a snake or ladder once, so {@link #getJumpTarget(int)} gives the single
+ * hop. Boards can also chain move actions, where the end of one snake is the start of another.
+ * Those chains are resolved up front by {@link #getFinalTarget(int)}, and a chain that loops
+ * back on itself is detected while compiling instead of hanging a game later.
+ *
+ * <p>The snapshot does not follow later changes to the board or its tiles. Compile the board
+ * again after changing it.
+ */
+public class CompiledBoard {
+  /**
+   * Action kind of an id that has no tile.
+   */
+  public static final byte NO_TILE = -1;
+
+  /**
+   * Action kind of a tile without an action.
+   */
+  public static final byte NO_ACTION = 0;
+
+  /**
+   * Action kind of a tile with a {@link MoveAction}, such as a snake or a ladder.
+   */
+  public static final byte MOVE = 1;
+
+  /**
+   * Action kind of a tile with a {@link GoToJailAction}.
+   */
+  public static final byte GO_TO_JAIL = 2;
+
+  /**
+   * Action kind of a tile with a {@link JailAction}.
+   */
+  public static final byte JAIL = 3;
+
+  /**
+   * Action kind of a tile with a {@link ChanceAction}.
+   */
+  public static final byte CHANCE = 4;
+
+  /**
+   * Action kind of a tile with a {@link TreasuryAction}.
+   */
+  public static final byte TREASURY = 5;
+
+  /**
+   * Action kind of a tile with an {@link IncomeTaxAction}.
+   */
+  public static final byte INCOME_TAX = 6;
+
+  /**
+   * Action kind of a tile with an action this class does not know about.
+   */
+  public static final byte OTHER = 7;
+
+  /**
+   * Action kind of a tile with a {@link PropertyAction}.
+   */
+  public static final byte PROPERTY = 8;
+
+  /**
+   * Final target of a tile whose chain of move actions never ends.
+   */
+  public static final int CYCLE = -1;
+
+  private final int tileCount;
+  private final byte[] actionKinds;
+  private final int[] jumpTargets;
+  private final int[] finalTargets;
+  private final int[] taxAmounts;
+  private final int jailPosition;
+  private final boolean hasMoveCycle;
+  private final RentTable rentTable;
+
+  /**
+   * Compiles the given board.
+   *
+   * @param board the board to compile
+   * @throws IllegalArgumentException if the board is null or has a tile with a negative id
+   */
+  public CompiledBoard(Board board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    this.tileCount = board.getTileCount();
+
+    int maxId = -1;
+    Tile[] tiles = board.getTiles().toArray(new Tile[0]);
+    for (Tile tile : tiles) {
+      if (tile.getId() < 0) {
+        throw new IllegalArgumentException("Tile id cannot be negative: " + tile.getId());
+      }
+      maxId = Math.max(maxId, tile.getId());
+    }
+
+    this.actionKinds = new byte[maxId + 1];
+    this.jumpTargets = new int[maxId + 1];
+    this.taxAmounts = new int[maxId + 1];
+    Arrays.fill(actionKinds, NO_TILE);
+    for (int id = 0; id <= maxId; id++) {
+      jumpTargets[id] = id;
+    }
+    int jail = -1;
+    for (Tile tile : tiles) {
+      int id = tile.getId();
+      TileAction action = tile.getAction();
+      actionKinds[id] = kindOf(action);
+      if (action instanceof MoveAction move) {
+        jumpTargets[id] = move.getEnd();
+      } else if (action instanceof IncomeTaxAction tax) {
+        taxAmounts[id] = tax.getAmount();
+      }
+      if (action instanceof JailAction && (jail == -1 || id < jail)) {
+        jail = id;
+      }
+    }
+    this.jailPosition = jail;
+    this.finalTargets = new int[maxId + 1];
+    this.hasMoveCycle = resolveChains();
+    this.rentTable = new RentTable(board);
+  }
+
+  /**
+   * Finds the action kind code of a tile action.
+   *
+   * @param action the action of a tile, or null
+   * @return the byte code of the action kind
+   */
+  private static byte kindOf(TileAction action) {
+    if (action == null) {
+      return NO_ACTION;
+    } else if (action instanceof MoveAction) {
+      return MOVE;
+    } else if (action instanceof GoToJailAction) {
+      return GO_TO_JAIL;
+    } else if (action instanceof JailAction) {
+      return JAIL;
+    } else if (action instanceof ChanceAction) {
+      return CHANCE;
+    } else if (action instanceof TreasuryAction) {
+      return TREASURY;
+    } else if (action instanceof IncomeTaxAction) {
+      return INCOME_TAX;
+    } else if (action instanceof PropertyAction) {
+      return PROPERTY;
+    }
+    return OTHER;
+  }
+
+  /**
+   * Follows every chain of move actions to the tile it finally stops on.
+   * Each tile is walked at most once, with an explicit stack instead of recursion so that
+   * long chains on large boards cannot overflow the call stack.
+   *
+   * @return true if some chain loops back on itself
+   */
+  private boolean resolveChains() {
+    final byte unvisited = 0;
+    final byte onPath = 1;
+    final byte resolved = 2;
+    byte[] state = new byte[finalTargets.length];
+    int[] path = new int[finalTargets.length];
+    boolean foundCycle = false;
+
+    for (int start = 0; start < finalTargets.length; start++) {
+      if (state[start] == resolved) {
+        continue;
+      }
+      int length = 0;
+      int current = start;
+      while (isOnBoard(current) && state[current] == unvisited && hasJump(current)) {
+        state[current] = onPath;
+        path[length++] = current;
+        current = jumpTargets[current];
+      }
+
+      int target;
+      if (!isOnBoard(current)) {
+        target = current;
+      } else if (state[current] == onPath) {
+        target = CYCLE;
+        foundCycle = true;
+      } else if (state[current] == resolved) {
+        target = finalTargets[current];
+      } else {
+        target = current;
+        finalTargets[current] = current;
+        state[current] = resolved;
+      }
+      for (int i = 0; i < length; i++) {
+        finalTargets[path[i]] = target;
+        state[path[i]] = resolved;
+      }
+    }
+    return foundCycle;
+  }
+
+  /**
+   * Checks whether an id lies within the compiled arrays.
+   *
+   * @param id the id to check
+   * @return true if the id can be looked up
+   */
+  private boolean isOnBoard(int id) {
+    return id >= 0 && id < actionKinds.length;
+  }
+
+  /**
+   * Checks whether a tile moves the player somewhere else.
+   *
+   * @param id the tile id
+   * @return true if the tile has a move action that leads to a different tile
+   */
+  private boolean hasJump(int id) {
+    return actionKinds[id] == MOVE && jumpTargets[id] != id;
+  }
+
+  /**
+   * Checks that every id in a range has a tile.
+   *
+   * @param first the first id that must have a tile
+   * @param last  the last id that must have a tile
+   * @throws IllegalArgumentException if a tile in the range is missing
+   */
+  public void requireTiles(int first, int last) {
+    for (int id = first; id <= last; id++) {
+      if (getActionKind(id) == NO_TILE) {
+        throw new IllegalArgumentException("Board is missing tile " + id);
+      }
+    }
+  }
+
+  /**
+   * Checks that every move action on the board leads to a tile within a range.
+   *
+   * @param first the first allowed target
+   * @param last  the last allowed target
+   * @throws IllegalArgumentException if a move action leads outside the range
+   */
+  public void requireMovesWithin(int first, int last) {
+    for (int id = 0; id < actionKinds.length; id++) {
+      int end = jumpTargets[id];
+      if (actionKinds[id] == MOVE && (end < first || end > last)) {
+        throw new IllegalArgumentException(
+                "Move action on tile " + id + " leads to tile " + end + " outside the board");
+      }
+    }
+  }
+
+  /**
+   * Gets the number of tiles on the board.
+   *
+   * @return the tile count
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  /**
+   * Gets the highest tile id on the board.
+   * All per-tile lookups accept ids from 0 up to and including this id.
+   *
+   * @return the highest tile id, or -1 if the board is empty
+   */
+  public int getMaxTileId() {
+    return actionKinds.length - 1;
+  }
+
+  /**
+   * Gets the action kind of a tile.
+   *
+   * @param tileId the tile id
+   * @return one of the action kind constants, or {@link #NO_TILE} if there is no such tile
+   */
+  public byte getActionKind(int tileId) {
+    return isOnBoard(tileId) ? actionKinds[tileId] : NO_TILE;
+  }
+
+  /**
+   * Gets the tile a player ends up on after landing on a tile and following its move action
+   * once, the way the games do.
+   *
+   * @param tileId the tile landed on, between 0 and {@link #getMaxTileId()}
+   * @return the end of the tile's move action, or the tile itself if it has none
+   */
+  public int getJumpTarget(int tileId) {
+    return jumpTargets[tileId];
+  }
+
+  /**
+   * Gets the tile a player ends up on after landing on a tile and following move actions
+   * until reaching a tile without one.
+   *
+   * @param tileId the tile landed on, between 0 and {@link #getMaxTileId()}
+   * @return the last tile of the chain, or {@link #CYCLE} if the chain never ends
+   */
+  public int getFinalTarget(int tileId) {
+    return finalTargets[tileId];
+  }
+
+  /**
+   * Checks whether any chain of move actions on the board loops back on itself.
+   *
+   * @return true if some tile has the final target {@link #CYCLE}
+   */
+  public boolean hasMoveCycle() {
+    return hasMoveCycle;
+  }
+
+  /**
+   * Gets the id of the jail tile.
+   *
+   * @return the lowest id of a tile with a {@link JailAction}, or -1 if there is none
+   */
+  public int getJailPosition() {
+    return jailPosition;
+  }
+
+  /**
+   * Gets the tax paid on a tile.
+   *
+   * @param tileId the tile id, between 0 and {@link #getMaxTileId()}
+   * @return the amount of an {@link IncomeTaxAction} on the tile, or 0 if it has none
+   */
+  public int getTaxAmount(int tileId) {
+    return taxAmounts[tileId];
+  }
+
+  /**
+   * Gets the prices, groups and rents of the properties on the board.
+   *
+   * @return the rent table
+   */
+  public RentTable getRentTable() {
+    return rentTable;
+  }
+}
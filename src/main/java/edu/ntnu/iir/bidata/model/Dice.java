@@ -1,14 +1,38 @@
 package edu.ntnu.iir.bidata.model;
 
+import edu.ntnu.iir.bidata.utils.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a collection of dice for board games.
  * This class manages multiple dice and provides methods to roll them and retrieve results.
+ *
+ * <p>Besides rolling one turn at a time, the dice can roll many turns at once into
+ * caller-supplied arrays with {@link #rollSums(int[], int, int)} and
+ * {@link #rollTurns(int, int[], int[], boolean[])}. The bulk methods allocate nothing and draw
+ * a pair of dice with a single random number looked up in a small table of all face pairs,
+ * which makes them much faster than {@link #rollAll()} followed by {@link #getCounts()}.
  */
 public class Dice {
+  /**
+   * The largest number of sides for which a table of all face pairs is built.
+   */
+  private static final int MAX_PAIR_TABLE_SIDES = 64;
+
   private final List<Die> dice = new ArrayList<>();
+  private final RandomGenerator random;
+  private final int sides;
+  private final int[] scratchFaces;
+  private int sum;
+
+  // Face pair tables, indexed by a random number below sides * sides
+  private final int[] pairSums;
+  private final int[] pairFirst;
+  private final int[] pairSecond;
+  private final boolean[] pairDoubles;
+  private final long pairThreshold;
 
   /**
    * Creates a set of dice with specified number of sides.
@@ -18,12 +42,42 @@ public class Dice {
    * @throws IllegalArgumentException if numberOfDice is less than 1 or sides is not 6
    */
   public Dice(int numberOfDice, int sides) {
+    this(numberOfDice, sides, RandomSource.create());
+  }
+
+  /**
+   * Creates a set of dice that all roll with the given generator.
+   * Rolls are reproducible when the generator is seeded.
+   *
+   * @param numberOfDice the number of dice in the set
+   * @param sides        the number of sides on each die
+   * @param random       the random generator shared by all dice
+   * @throws IllegalArgumentException if numberOfDice is less than 1
+   */
+  public Dice(int numberOfDice, int sides, RandomGenerator random) {
     if (numberOfDice < 1) {
       throw new IllegalArgumentException("Must have at least one die");
     }
 
     for (int i = 0; i < numberOfDice; i++) {
-      dice.add(new Die(sides));
+      dice.add(new Die(sides, random));
+    }
+    this.random = random;
+    this.sides = sides;
+    this.sum = numberOfDice;
+    this.scratchFaces = new int[numberOfDice];
+
+    int pairs = sides <= MAX_PAIR_TABLE_SIDES ? sides * sides : 0;
+    this.pairSums = new int[pairs];
+    this.pairFirst = new int[pairs];
+    this.pairSecond = new int[pairs];
+    this.pairDoubles = new boolean[pairs];
+    this.pairThreshold = pairs == 0 ? 0 : (1L << 32) % pairs;
+    for (int pair = 0; pair < pairs; pair++) {
+      pairFirst[pair] = pair / sides + 1;
+      pairSecond[pair] = pair % sides + 1;
+      pairSums[pair] = pairFirst[pair] + pairSecond[pair];
+      pairDoubles[pair] = pairFirst[pair] == pairSecond[pair];
     }
   }
 
@@ -33,11 +87,12 @@ public class Dice {
    * @return the sum of all dice rolls
    */
   public int rollAll() {
-    int sum = 0;
+    int total = 0;
     for (Die die : dice) {
-      sum += die.roll();
+      total += die.roll();
     }
-    return sum;
+    sum = total;
+    return total;
   }
 
   /**
@@ -46,19 +101,199 @@ public class Dice {
    * @return a list containing the face value of each die
    */
   public List<Integer> getCounts() {
-    return dice.stream()
-            .map(Die::getCount)
-            .toList();
+    List<Integer> counts = new ArrayList<>(dice.size());
+    for (Die die : dice) {
+      counts.add(die.getCount());
+    }
+    return counts;
   }
 
   /**
-   * Calculates the sum of all current dice values.
+   * Gets the current face value of one die without boxing it.
+   *
+   * @param index the index of the die
+   * @return the face value of the die
+   */
+  public int getFace(int index) {
+    return dice.get(index).getCount();
+  }
+
+  /**
+   * Gets the sum of all current dice values.
+   * The sum is kept from the last roll instead of being added up on every call.
    *
    * @return the sum of the current face values of all dice
    */
   public int getSum() {
-    return dice.stream()
-            .mapToInt(Die::getCount)
-            .sum();
+    return sum;
+  }
+
+  /**
+   * Rolls the dice once for every element of the array and stores each sum.
+   *
+   * @param sums the array to fill
+   */
+  public void rollSums(int[] sums) {
+    rollSums(sums, 0, sums.length);
+  }
+
+  /**
+   * Rolls the dice once for every element of a range of the array and stores each sum.
+   * The bulk rolls draw from the same generator as {@link #rollAll()}, but do not change the
+   * current face values of the dice.
+   *
+   * @param sums   the array to fill
+   * @param offset the first index to fill
+   * @param length the number of rolls
+   * @throws IllegalArgumentException if the range does not fit in the array
+   */
+  public void rollSums(int[] sums, int offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > sums.length) {
+      throw new IllegalArgumentException("Range does not fit in the array");
+    }
+    int end = offset + length;
+    if (dice.size() == 2 && pairSums.length > 0) {
+      // The usual two dice: two rolls from every random long, unrolled by two
+      int i = offset;
+      for (; i + 1 < end; i += 2) {
+        long bits = random.nextLong();
+        sums[i] = pairSums[pairFrom(bits >>> 32)];
+        sums[i + 1] = pairSums[pairFrom(bits & 0xFFFFFFFFL)];
+      }
+      if (i < end) {
+        sums[i] = pairSums[random.nextInt(pairSums.length)];
+      }
+    } else {
+      for (int i = offset; i < end; i++) {
+        sums[i] = rollSum(null, 0);
+      }
+    }
+  }
+
+  /**
+   * Rolls the dice for a number of turns and stores the sum, the faces and whether the first
+   * two dice are equal for each turn. The bulk rolls draw from the same generator as
+   * {@link #rollAll()}, but do not change the current face values of the dice.
+   *
+   * @param turns   the number of turns to roll
+   * @param sums    the array for the sum of each turn, at least {@code turns} long
+   * @param faces   the array for the faces, turn by turn with one entry per die, at least
+   *                {@code turns * getNumberOfDice()} long, or null to skip the faces
+   * @param doubles the array for whether each turn rolled doubles, at least {@code turns} long,
+   *                or null to skip it; always false with a single die
+   * @throws IllegalArgumentException if an array is too short
+   */
+  public void rollTurns(int turns, int[] sums, int[] faces, boolean[] doubles) {
+    int numberOfDice = dice.size();
+    if (turns < 0 || sums.length < turns
+            || (faces != null && faces.length < turns * numberOfDice)
+            || (doubles != null && doubles.length < turns)) {
+      throw new IllegalArgumentException("Arrays are too short for " + turns + " turns");
+    }
+    if (numberOfDice == 2 && pairSums.length > 0) {
+      long bits = 0;
+      for (int turn = 0; turn < turns; turn++) {
+        // Every random long gives the pairs of two turns
+        if ((turn & 1) == 0) {
+          bits = random.nextLong();
+        }
+        int pair = pairFrom((turn & 1) == 0 ? bits >>> 32 : bits & 0xFFFFFFFFL);
+        sums[turn] = pairSums[pair];
+        if (faces != null) {
+          faces[2 * turn] = pairFirst[pair];
+          faces[2 * turn + 1] = pairSecond[pair];
+        }
+        if (doubles != null) {
+          doubles[turn] = pairDoubles[pair];
+        }
+      }
+      return;
+    }
+
+    // Other dice counts roll pair by pair, keeping the faces where doubles can be checked
+    for (int turn = 0; turn < turns; turn++) {
+      int[] target = faces != null ? faces : scratchFaces;
+      int offset = faces != null ? turn * numberOfDice : 0;
+      sums[turn] = rollSum(target, offset);
+      if (doubles != null) {
+        doubles[turn] = numberOfDice >= 2 && target[offset] == target[offset + 1];
+      }
+    }
+  }
+
+  /**
+   * Turns 32 random bits into a uniform index into the face pair tables.
+   * The bits are scaled with a multiplication instead of a division. In the rare case where
+   * the scaled value would be biased, a fresh index is drawn from the generator instead.
+   *
+   * @param bits 32 random bits, in the low half of the long
+   * @return a pair index below the number of face pairs
+   */
+  private int pairFrom(long bits) {
+    long product = bits * pairSums.length;
+    if ((product & 0xFFFFFFFFL) < pairThreshold) {
+      return random.nextInt(pairSums.length);
+    }
+    return (int) (product >>> 32);
+  }
+
+  /**
+   * Rolls every die once, two dice at a time where the pair table allows it.
+   *
+   * @param faces  the array to store the faces in, or null to skip them
+   * @param offset the index of the first die in the faces array
+   * @return the sum of the roll
+   */
+  private int rollSum(int[] faces, int offset) {
+    int numberOfDice = dice.size();
+    int total = 0;
+    int die = 0;
+    if (pairSums.length > 0) {
+      int pairs = pairSums.length;
+      for (; die + 1 < numberOfDice; die += 2) {
+        int pair = random.nextInt(pairs);
+        total += pairSums[pair];
+        if (faces != null) {
+          faces[offset + die] = pairFirst[pair];
+          faces[offset + die + 1] = pairSecond[pair];
+        }
+      }
+    }
+    for (; die < numberOfDice; die++) {
+      int face = random.nextInt(sides) + 1;
+      total += face;
+      if (faces != null) {
+        faces[offset + die] = face;
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Gets the number of dice in the set.
+   *
+   * @return the number of dice
+   */
+  public int getNumberOfDice() {
+    return dice.size();
+  }
+
+  /**
+   * Gets the generator the dice roll with. Games use it for their other random choices, such as
+   * shuffling card decks, so a seeded set of dice makes the whole game reproducible.
+   *
+   * @return the random generator
+   */
+  public RandomGenerator getRandom() {
+    return random;
+  }
+
+  /**
+   * Gets the number of sides on each die.
+   *
+   * @return the number of sides
+   */
+  public int getSides() {
+    return sides;
   }
 }
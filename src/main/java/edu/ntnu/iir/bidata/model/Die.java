@@ -1,6 +1,7 @@
 package edu.ntnu.iir.bidata.model;
 
-import java.util.Random;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a die with a configurable number of sides.
@@ -8,17 +9,28 @@ import java.util.Random;
  */
 public class Die {
   private final int sides;
-  private final Random random;
+  private final RandomGenerator random;
   private int count = 1;
 
   /**
-   * Creates a die with the specified number of sides.
+   * Creates a die with the specified number of sides and its own unseeded generator.
    *
    * @param sides the number of sides on the die
    */
   public Die(int sides) {
+    this(sides, RandomSource.create());
+  }
+
+  /**
+   * Creates a die with the specified number of sides that rolls with the given generator.
+   * Several dice may share one generator, for example all dice of one simulated game.
+   *
+   * @param sides  the number of sides on the die
+   * @param random the random generator to roll with
+   */
+  public Die(int sides, RandomGenerator random) {
     this.sides = sides;
-    this.random = new Random();
+    this.random = random;
   }
 
   /**
@@ -32,6 +44,15 @@ public class Die {
     return count;
   }
 
+  /**
+   * Returns the number of sides on the die.
+   *
+   * @return the number of sides
+   */
+  public int getSides() {
+    return sides;
+  }
+
   /**
    * Returns the current value of the die from the last roll.
    * If the die has not been rolled yet, returns the initial value (1).
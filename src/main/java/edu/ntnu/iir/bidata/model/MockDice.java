@@ -102,6 +102,14 @@ public class MockDice extends Dice {
     return new ArrayList<>(lastRolledValues);
   }
 
+  /**
+   * Returns the predefined value of one die.
+   */
+  @Override
+  public int getFace(int index) {
+    return lastRolledValues.get(index);
+  }
+
   /**
    * Returns the sum of the dice values.
    */
@@ -0,0 +1,291 @@
+package edu.ntnu.iir.bidata.model;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the money of every seat in a game, together with a log of every transaction.
+ *
+ * <p>Balances are stored in an {@code int[]} indexed by seat, so reading or changing one is an
+ * array access. Every change is also appended to a transaction log that records who paid, who
+ * was paid, the amount, the {@link TransactionReason} and the turn it happened in. The log is
+ * kept in parallel primitive arrays that double in size when full, so recording a transaction
+ * creates no objects.
+ *
+ * <p>Because every balance is the sum of its transactions, the log can be used to audit a game,
+ * rebuild the balance of a seat after every turn with {@link #getBankrolls(int)}, and undo the
+ * latest turns with {@link #rollbackToTurn(int)}.
+ */
+public class MoneyLedger {
+  /**
+   * The seat used for the bank, which pays and receives money without a balance.
+   */
+  public static final int BANK = -1;
+
+  private static final TransactionReason[] REASONS = TransactionReason.values();
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int[] balances;
+  private int turn;
+
+  // The transaction log, one entry per index
+  private int[] payers = new int[INITIAL_CAPACITY];
+  private int[] payees = new int[INITIAL_CAPACITY];
+  private int[] amounts = new int[INITIAL_CAPACITY];
+  private byte[] reasons = new byte[INITIAL_CAPACITY];
+  private int[] turns = new int[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Creates a ledger where every seat has no money.
+   *
+   * @param seats the number of seats in the game
+   * @throws IllegalArgumentException if the seat count is negative
+   */
+  public MoneyLedger(int seats) {
+    if (seats < 0) {
+      throw new IllegalArgumentException("Seat count cannot be negative");
+    }
+    this.balances = new int[seats];
+  }
+
+  /**
+   * Sets the turn that new transactions are recorded in.
+   *
+   * @param turn the current turn
+   */
+  public void setTurn(int turn) {
+    this.turn = turn;
+  }
+
+  /**
+   * Gets the turn that new transactions are recorded in.
+   *
+   * @return the current turn
+   */
+  public int getTurn() {
+    return turn;
+  }
+
+  /**
+   * Gets the number of seats in the ledger.
+   *
+   * @return the seat count
+   */
+  public int getSeats() {
+    return balances.length;
+  }
+
+  /**
+   * Gets the money of a seat.
+   *
+   * @param seat the seat
+   * @return the balance of the seat
+   */
+  public int getBalance(int seat) {
+    return balances[seat];
+  }
+
+  /**
+   * Pays money from the bank to a seat.
+   *
+   * @param seat   the seat receiving money
+   * @param amount the amount to pay (must be positive)
+   * @param reason why the money is paid
+   * @return the new balance of the seat
+   * @throws IllegalArgumentException if amount is not positive
+   */
+  public int deposit(int seat, int amount, TransactionReason reason) {
+    record(BANK, seat, amount, reason);
+    return balances[seat];
+  }
+
+  /**
+   * Pays money from a seat to the bank.
+   *
+   * @param seat   the seat paying money
+   * @param amount the amount to pay (must be positive)
+   * @param reason why the money is paid
+   * @return the new balance of the seat
+   * @throws IllegalArgumentException if the seat doesn't have enough money or amount is not
+   *                                  positive
+   */
+  public int withdraw(int seat, int amount, TransactionReason reason) {
+    record(seat, BANK, amount, reason);
+    return balances[seat];
+  }
+
+  /**
+   * Moves money from one seat to another, or to or from the {@link #BANK}.
+   *
+   * @param from   the seat paying money
+   * @param to     the seat receiving money
+   * @param amount the amount to move (must be positive)
+   * @param reason why the money is moved
+   * @throws IllegalArgumentException if the paying seat doesn't have enough money or amount is
+   *                                  not positive
+   */
+  public void transfer(int from, int to, int amount, TransactionReason reason) {
+    record(from, to, amount, reason);
+  }
+
+  /**
+   * Checks a transaction, applies it to the balances and appends it to the log.
+   *
+   * @param from   the paying seat or the bank
+   * @param to     the receiving seat or the bank
+   * @param amount the amount
+   * @param reason why the money is moved
+   * @throws IllegalArgumentException if the transaction is not valid
+   */
+  private void record(int from, int to, int amount, TransactionReason reason) {
+    if (amount <= 0) {
+      throw new IllegalArgumentException("Amount must be positive");
+    }
+    if (from != BANK && balances[from] < amount) {
+      throw new IllegalArgumentException("Player doesn't have enough money");
+    }
+    if (size == payers.length) {
+      int capacity = size * 2;
+      payers = Arrays.copyOf(payers, capacity);
+      payees = Arrays.copyOf(payees, capacity);
+      amounts = Arrays.copyOf(amounts, capacity);
+      reasons = Arrays.copyOf(reasons, capacity);
+      turns = Arrays.copyOf(turns, capacity);
+    }
+    payers[size] = from;
+    payees[size] = to;
+    amounts[size] = amount;
+    reasons[size] = (byte) reason.ordinal();
+    turns[size] = turn;
+    size++;
+    apply(from, to, amount);
+  }
+
+  /**
+   * Moves money between balances, skipping the bank.
+   *
+   * @param from   the paying seat or the bank
+   * @param to     the receiving seat or the bank
+   * @param amount the amount, negative to undo a transaction
+   */
+  private void apply(int from, int to, int amount) {
+    if (from != BANK) {
+      balances[from] -= amount;
+    }
+    if (to != BANK) {
+      balances[to] += amount;
+    }
+  }
+
+  /**
+   * Undoes every transaction made in the given turn or later, newest first, and sets the
+   * current turn back to the given turn.
+   *
+   * @param turn the first turn to undo
+   */
+  public void rollbackToTurn(int turn) {
+    while (size > 0 && turns[size - 1] >= turn) {
+      size--;
+      apply(payers[size], payees[size], -amounts[size]);
+    }
+    this.turn = turn;
+  }
+
+  /**
+   * Rebuilds the balance of a seat at the end of every turn from the log.
+   *
+   * @param seat the seat
+   * @return the balance after each turn, indexed by turn up to the current turn
+   */
+  public int[] getBankrolls(int seat) {
+    int[] bankrolls = new int[turn + 1];
+    int balance = 0;
+    int entry = 0;
+    for (int t = 0; t <= turn; t++) {
+      while (entry < size && turns[entry] <= t) {
+        if (payers[entry] == seat) {
+          balance -= amounts[entry];
+        }
+        if (payees[entry] == seat) {
+          balance += amounts[entry];
+        }
+        entry++;
+      }
+      bankrolls[t] = balance;
+    }
+    return bankrolls;
+  }
+
+  /**
+   * Gets the number of transactions in the log.
+   *
+   * @return the transaction count
+   */
+  public int getTransactionCount() {
+    return size;
+  }
+
+  /**
+   * Gets the seat that paid in a transaction.
+   *
+   * @param index the index of the transaction in the log
+   * @return the paying seat, or {@link #BANK}
+   */
+  public int getPayer(int index) {
+    return payers[checkIndex(index)];
+  }
+
+  /**
+   * Gets the seat that was paid in a transaction.
+   *
+   * @param index the index of the transaction in the log
+   * @return the receiving seat, or {@link #BANK}
+   */
+  public int getPayee(int index) {
+    return payees[checkIndex(index)];
+  }
+
+  /**
+   * Gets the amount of a transaction.
+   *
+   * @param index the index of the transaction in the log
+   * @return the amount
+   */
+  public int getAmount(int index) {
+    return amounts[checkIndex(index)];
+  }
+
+  /**
+   * Gets the reason of a transaction.
+   *
+   * @param index the index of the transaction in the log
+   * @return the reason
+   */
+  public TransactionReason getReason(int index) {
+    return REASONS[reasons[checkIndex(index)]];
+  }
+
+  /**
+   * Gets the turn a transaction was made in.
+   *
+   * @param index the index of the transaction in the log
+   * @return the turn
+   */
+  public int getTransactionTurn(int index) {
+    return turns[checkIndex(index)];
+  }
+
+  /**
+   * Checks that a transaction index is in the log.
+   *
+   * @param index the index to check
+   * @return the index
+   * @throws IndexOutOfBoundsException if there is no transaction with the index
+   */
+  private int checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("No transaction at index " + index);
+    }
+    return index;
+  }
+}
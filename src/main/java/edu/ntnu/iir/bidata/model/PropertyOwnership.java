@@ -0,0 +1,243 @@
+package edu.ntnu.iir.bidata.model;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of who owns which property, for one game or for many games played side by side.
+ *
+ * <p>Each tile has a byte with the seat that owns it, and each seat has a bitset of the tiles
+ * it owns, stored as 64-bit words in one flat {@code long[]}. The number of properties a seat
+ * owns in a group is the bit count of its bitset masked with the group's bits from the
+ * {@link RentTable}, so finding a rent needs no loops over tiles and allocates nothing.
+ *
+ * <p>Games are numbered from 0. The methods without a game argument use game 0, which is all a
+ * single game needs.
+ */
+public class PropertyOwnership {
+  /**
+   * Owner of a property nobody has bought.
+   */
+  public static final int NO_OWNER = -1;
+
+  private final RentTable rentTable;
+  private final int games;
+  private final int seats;
+  private final int tileSlots;
+  private final int words;
+
+  // Indexed by game * tileSlots + tile
+  private final byte[] owners;
+  // Indexed by (game * seats + seat) * words + word
+  private final long[] owned;
+
+  /**
+   * Creates the ownership of a single game, with every property unowned.
+   *
+   * @param rentTable the properties of the board
+   * @param seats     the number of seats in the game, at most 127
+   * @throws IllegalArgumentException if the rent table is null or the seat count is out of range
+   */
+  public PropertyOwnership(RentTable rentTable, int seats) {
+    this(rentTable, 1, seats);
+  }
+
+  /**
+   * Creates the ownership of many games, with every property unowned.
+   *
+   * @param rentTable the properties of the board
+   * @param games     the number of games
+   * @param seats     the number of seats in each game, at most 127
+   * @throws IllegalArgumentException if the rent table is null, there are no games or the seat
+   *                                  count is out of range
+   */
+  public PropertyOwnership(RentTable rentTable, int games, int seats) {
+    if (rentTable == null) {
+      throw new IllegalArgumentException("Rent table cannot be null");
+    }
+    if (games < 1) {
+      throw new IllegalArgumentException("Must have at least one game");
+    }
+    if (seats < 0 || seats > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("Seat count must be between 0 and " + Byte.MAX_VALUE);
+    }
+    this.rentTable = rentTable;
+    this.games = games;
+    this.seats = seats;
+    this.tileSlots = rentTable.getTileSlots();
+    this.words = rentTable.getWords();
+    this.owners = new byte[games * tileSlots];
+    this.owned = new long[games * seats * words];
+    Arrays.fill(owners, (byte) NO_OWNER);
+  }
+
+  /**
+   * Makes every property of every game unowned.
+   */
+  public void reset() {
+    Arrays.fill(owners, (byte) NO_OWNER);
+    Arrays.fill(owned, 0L);
+  }
+
+  /**
+   * Makes every property of one game unowned.
+   *
+   * @param game the game
+   */
+  public void reset(int game) {
+    Arrays.fill(owners, game * tileSlots, (game + 1) * tileSlots, (byte) NO_OWNER);
+    Arrays.fill(owned, game * seats * words, (game + 1) * seats * words, 0L);
+  }
+
+  /**
+   * Gets the owner of a property in game 0.
+   *
+   * @param tileId the tile id of the property
+   * @return the owning seat, or {@link #NO_OWNER}
+   */
+  public int getOwner(int tileId) {
+    return getOwner(0, tileId);
+  }
+
+  /**
+   * Gets the owner of a property.
+   *
+   * @param game   the game
+   * @param tileId the tile id of the property
+   * @return the owning seat, or {@link #NO_OWNER}
+   */
+  public int getOwner(int game, int tileId) {
+    return owners[game * tileSlots + tileId];
+  }
+
+  /**
+   * Gives an unowned property in game 0 to a seat.
+   *
+   * @param seat   the buying seat
+   * @param tileId the tile id of the property
+   * @throws IllegalArgumentException if the tile is not a property or is already owned
+   */
+  public void buy(int seat, int tileId) {
+    buy(0, seat, tileId);
+  }
+
+  /**
+   * Gives an unowned property to a seat.
+   *
+   * @param game   the game
+   * @param seat   the buying seat
+   * @param tileId the tile id of the property
+   * @throws IllegalArgumentException if the tile is not a property or is already owned
+   */
+  public void buy(int game, int seat, int tileId) {
+    if (!rentTable.isProperty(tileId)) {
+      throw new IllegalArgumentException("Tile " + tileId + " is not a property");
+    }
+    if (owners[game * tileSlots + tileId] != NO_OWNER) {
+      throw new IllegalArgumentException("Tile " + tileId + " is already owned");
+    }
+    owners[game * tileSlots + tileId] = (byte) seat;
+    owned[(game * seats + seat) * words + (tileId >>> 6)] |= 1L << (tileId & 63);
+  }
+
+  /**
+   * Counts the properties a seat owns in game 0.
+   *
+   * @param seat the seat
+   * @return the number of owned properties
+   */
+  public int countOwned(int seat) {
+    return countOwned(0, seat);
+  }
+
+  /**
+   * Counts the properties a seat owns.
+   *
+   * @param game the game
+   * @param seat the seat
+   * @return the number of owned properties
+   */
+  public int countOwned(int game, int seat) {
+    int base = (game * seats + seat) * words;
+    int count = 0;
+    for (int word = 0; word < words; word++) {
+      count += Long.bitCount(owned[base + word]);
+    }
+    return count;
+  }
+
+  /**
+   * Gets one word of the bitset of properties a seat owns.
+   * Tile id {@code id} is bit {@code id % 64} of word {@code id / 64}.
+   *
+   * @param game the game
+   * @param seat the seat
+   * @param word the word index, below {@link RentTable#getWords()}
+   * @return the bits of the owned tiles in the word
+   */
+  public long getOwnedBits(int game, int seat, int word) {
+    return owned[(game * seats + seat) * words + word];
+  }
+
+  /**
+   * Counts the properties of a group that a seat owns.
+   *
+   * @param game  the game
+   * @param seat  the seat
+   * @param group the group number from the rent table
+   * @return the number of owned properties in the group
+   */
+  public int countOwnedInGroup(int game, int seat, int group) {
+    int base = (game * seats + seat) * words;
+    int count = 0;
+    for (int word = 0; word < words; word++) {
+      count += Long.bitCount(owned[base + word] & rentTable.getGroupMask(group, word));
+    }
+    return count;
+  }
+
+  /**
+   * Gets the rent of an owned property in game 0.
+   *
+   * @param tileId  the tile id of the property
+   * @param diceSum the dice sum of the roll that landed on the property
+   * @return the rent the owner is due, or 0 if the property is unowned
+   */
+  public int getRent(int tileId, int diceSum) {
+    return getRent(0, tileId, diceSum);
+  }
+
+  /**
+   * Gets the rent of an owned property.
+   *
+   * @param game    the game
+   * @param tileId  the tile id of the property
+   * @param diceSum the dice sum of the roll that landed on the property
+   * @return the rent the owner is due, or 0 if the property is unowned
+   */
+  public int getRent(int game, int tileId, int diceSum) {
+    int owner = owners[game * tileSlots + tileId];
+    if (owner == NO_OWNER) {
+      return 0;
+    }
+    int ownedInGroup = countOwnedInGroup(game, owner, rentTable.getGroup(tileId));
+    return rentTable.getRent(tileId, ownedInGroup, diceSum);
+  }
+
+  /**
+   * Gets the rent table the ownership is based on.
+   *
+   * @return the rent table
+   */
+  public RentTable getRentTable() {
+    return rentTable;
+  }
+
+  /**
+   * Gets the number of games tracked.
+   *
+   * @return the game count
+   */
+  public int getGames() {
+    return games;
+  }
+}
@@ -0,0 +1,252 @@
+package edu.ntnu.iir.bidata.model;
+
+import edu.ntnu.iir.bidata.model.tileaction.PropertyAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prices, groups and rents of the properties on a {@link Board}, precomputed into arrays
+ * indexed by tile id.
+ *
+ * <p>Every group of properties gets a number and a bitmask of its tile ids, split into 64-bit
+ * words, so a {@link PropertyOwnership} can count how many properties of a group a player owns
+ * with a few {@link Long#bitCount(long)} calls. The rent of every property is worked out up
+ * front for every number of owned properties in its group, and stored as a fixed part and a
+ * part that is multiplied by the dice sum. Looking up a rent is then
+ * {@code fixed + perDiceSum * diceSum} from two array reads, whatever kind of property it is.
+ *
+ * <p>For cards that send a player to the nearest railroad or utility, the table also keeps the
+ * next property of each {@link PropertyType} after every tile.
+ *
+ * <p>Like {@link CompiledBoard}, the table is a snapshot and does not follow later changes to
+ * the board.
+ */
+public class RentTable {
+  /**
+   * Group of a tile that is not a property.
+   */
+  public static final int NO_GROUP = -1;
+
+  /**
+   * The dice multiplier of a utility when its owner has every utility.
+   */
+  public static final int UTILITY_GROUP_MULTIPLIER = 10;
+
+  private final int tileSlots;
+  private final int words;
+  private final int[] prices;
+  private final int[] groups;
+  private final byte[] types;
+  // Indexed by type ordinal * tileSlots + tile
+  private final int[] nextOfType;
+  private final int groupCount;
+  private final int[] groupSizes;
+  private final long[] groupMasks;
+
+  // Rents indexed by tile * rentColumns + properties owned in the group
+  private final int rentColumns;
+  private final int[] fixedRents;
+  private final int[] diceRents;
+
+  /**
+   * Builds the rent table of a board from the {@link PropertyAction} tiles on it.
+   *
+   * @param board the board to read the properties from
+   * @throws IllegalArgumentException if the board is null or has a tile with a negative id
+   */
+  public RentTable(Board board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null");
+    }
+    int maxId = -1;
+    for (Tile tile : board.getTiles()) {
+      if (tile.getId() < 0) {
+        throw new IllegalArgumentException("Tile id cannot be negative: " + tile.getId());
+      }
+      maxId = Math.max(maxId, tile.getId());
+    }
+    this.tileSlots = maxId + 1;
+    this.words = (tileSlots + 63) / 64;
+    this.prices = new int[tileSlots];
+    this.groups = new int[tileSlots];
+    Arrays.fill(groups, NO_GROUP);
+    this.types = new byte[tileSlots];
+    Arrays.fill(types, (byte) -1);
+
+    // Number the groups in the order of their lowest tile id
+    List<Tile> properties = board.getTilesWithAction(PropertyAction.class);
+    Map<String, Integer> groupNumbers = new HashMap<>();
+    for (Tile tile : properties) {
+      PropertyAction property = (PropertyAction) tile.getAction();
+      int group = groupNumbers.computeIfAbsent(property.getGroup(), name -> groupNumbers.size());
+      groups[tile.getId()] = group;
+      prices[tile.getId()] = property.getPrice();
+      types[tile.getId()] = (byte) property.getType().ordinal();
+    }
+    this.nextOfType = buildNextOfType();
+    this.groupCount = groupNumbers.size();
+    this.groupSizes = new int[groupCount];
+    this.groupMasks = new long[groupCount * words];
+    int largestGroup = 0;
+    for (Tile tile : properties) {
+      int id = tile.getId();
+      int group = groups[id];
+      groupSizes[group]++;
+      largestGroup = Math.max(largestGroup, groupSizes[group]);
+      groupMasks[group * words + (id >>> 6)] |= 1L << (id & 63);
+    }
+
+    this.rentColumns = largestGroup + 1;
+    this.fixedRents = new int[tileSlots * rentColumns];
+    this.diceRents = new int[tileSlots * rentColumns];
+    for (Tile tile : properties) {
+      PropertyAction property = (PropertyAction) tile.getAction();
+      int id = tile.getId();
+      int size = groupSizes[groups[id]];
+      for (int owned = 1; owned <= size; owned++) {
+        int slot = id * rentColumns + owned;
+        int rent = property.getRent();
+        if (property.getType() == PropertyType.STREET) {
+          fixedRents[slot] = owned == size ? rent * 2 : rent;
+        } else if (property.getType() == PropertyType.RAILROAD) {
+          fixedRents[slot] = rent << (owned - 1);
+        } else {
+          diceRents[slot] = owned == size && size > 1 ? UTILITY_GROUP_MULTIPLIER : rent;
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the next property of every type after every tile, wrapping around the board.
+   *
+   * @return the next tile ids, indexed by type ordinal * tileSlots + tile, or -1 if the board
+   *         has no property of the type
+   */
+  private int[] buildNextOfType() {
+    int typeCount = PropertyType.values().length;
+    int[] next = new int[typeCount * tileSlots];
+    for (int type = 0; type < typeCount; type++) {
+      int base = type * tileSlots;
+      // Walk backwards twice, so tiles near the end see the first match after wrapping
+      int found = -1;
+      for (int step = 2 * tileSlots - 1; step >= 0; step--) {
+        int tile = step % tileSlots;
+        if (step < tileSlots) {
+          next[base + tile] = found;
+        }
+        if (types[tile] == type) {
+          found = tile;
+        }
+      }
+    }
+    return next;
+  }
+
+  /**
+   * Checks whether a tile is a property.
+   *
+   * @param tileId the tile id
+   * @return true if the tile can be bought
+   */
+  public boolean isProperty(int tileId) {
+    return tileId >= 0 && tileId < tileSlots && groups[tileId] != NO_GROUP;
+  }
+
+  /**
+   * Gets the price of a property.
+   *
+   * @param tileId the tile id of the property
+   * @return the price, or 0 if the tile is not a property
+   */
+  public int getPrice(int tileId) {
+    return prices[tileId];
+  }
+
+  /**
+   * Finds the first property of a type after a tile, going around the board.
+   *
+   * @param type   the ordinal of the {@link PropertyType}
+   * @param tileId the tile to start after
+   * @return the tile id of the next property of the type, which is the tile itself if it is the
+   *         only one, or -1 if the board has none
+   */
+  public int getNextOfType(int type, int tileId) {
+    return nextOfType[type * tileSlots + tileId];
+  }
+
+  /**
+   * Gets the group number of a property.
+   *
+   * @param tileId the tile id of the property
+   * @return the group number, or {@link #NO_GROUP} if the tile is not a property
+   */
+  public int getGroup(int tileId) {
+    return groups[tileId];
+  }
+
+  /**
+   * Gets the rent of a property.
+   *
+   * @param tileId       the tile id of the property
+   * @param ownedInGroup the number of properties in the group that the owner has, at least 1
+   * @param diceSum      the dice sum of the roll that landed on the property
+   * @return the rent to pay
+   */
+  public int getRent(int tileId, int ownedInGroup, int diceSum) {
+    int slot = tileId * rentColumns + ownedInGroup;
+    return fixedRents[slot] + diceRents[slot] * diceSum;
+  }
+
+  /**
+   * Gets the number of groups on the board.
+   *
+   * @return the group count
+   */
+  public int getGroupCount() {
+    return groupCount;
+  }
+
+  /**
+   * Gets the number of properties in a group.
+   *
+   * @param group the group number
+   * @return the number of properties in the group
+   */
+  public int getGroupSize(int group) {
+    return groupSizes[group];
+  }
+
+  /**
+   * Gets one 64-bit word of the bitmask of the tile ids in a group.
+   * Tile id {@code id} is bit {@code id % 64} of word {@code id / 64}.
+   *
+   * @param group the group number
+   * @param word  the word index, below {@link #getWords()}
+   * @return the bits of the group's tiles in the word
+   */
+  public long getGroupMask(int group, int word) {
+    return groupMasks[group * words + word];
+  }
+
+  /**
+   * Gets the number of 64-bit words in a bitmask over all tile ids.
+   *
+   * @return the word count
+   */
+  public int getWords() {
+    return words;
+  }
+
+  /**
+   * Gets the number of tile ids the table covers, which is the highest tile id plus one.
+   *
+   * @return the number of tile slots
+   */
+  public int getTileSlots() {
+    return tileSlots;
+  }
+}
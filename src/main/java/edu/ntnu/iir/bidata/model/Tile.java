@@ -9,6 +9,8 @@ import javafx.geometry.Point2D;
  * <p>A tile is a fundamental element of the game board with a unique identifier,
  * position, dimensions, and an optional action that occurs when a player lands on it.
  * Tiles form a linked list where each tile points to the next tile in sequence.
+ * A tile added to a {@link Board} reports changes to its action and next tile back to that
+ * board, so the board's indexes stay up to date.
  */
 public class Tile {
   private final int id;
@@ -18,6 +20,7 @@ public class Tile {
   private double height;
   private TileAction action;
   private TileStyling styling;
+  private Board board;
 
   /**
    * Creates a tile with a unique identifier.
@@ -104,6 +107,9 @@ public class Tile {
    */
   public void setNextTile(Tile nextTile) {
     this.nextTile = nextTile;
+    if (board != null) {
+      board.linksChanged();
+    }
   }
 
   /**
@@ -159,7 +165,30 @@ public class Tile {
    * @param action the tile action to set
    */
   public void setAction(TileAction action) {
+    TileAction oldAction = this.action;
     this.action = action;
+    if (board != null) {
+      board.actionChanged(this, oldAction);
+    }
+  }
+
+  /**
+   * Sets the board this tile has been added to.
+   * Called by {@link Board#addTile(Tile)}.
+   *
+   * @param board the board the tile belongs to, or null if it was removed
+   */
+  void setBoard(Board board) {
+    this.board = board;
+  }
+
+  /**
+   * Gets the board this tile has been added to.
+   *
+   * @return the board the tile belongs to, or null if it is not on a board
+   */
+  Board getBoard() {
+    return board;
   }
 
   /**
@@ -0,0 +1,16 @@
+package edu.ntnu.iir.bidata.model;
+
+/**
+ * The reasons money can change hands in a {@link MoneyLedger}.
+ */
+public enum TransactionReason {
+  STARTING_MONEY,
+  PASSING_GO,
+  DEPOSIT,
+  WITHDRAWAL,
+  TRANSFER,
+  PURCHASE,
+  RENT,
+  TAX,
+  CARD,
+}
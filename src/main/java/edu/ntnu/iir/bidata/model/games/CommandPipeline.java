@@ -0,0 +1,114 @@
+package edu.ntnu.iir.bidata.model.games;
+
+import edu.ntnu.iir.bidata.model.Player;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Queues {@link GameCommand}s for a game and runs them in one go.
+ *
+ * <p>A command submitted right after a command it can be merged with is merged into it, so a
+ * burst of roll requests becomes a single command that plays all their turns. Running the
+ * queue with {@link #flush()} returns one {@link TurnSummary} of everything that changed,
+ * which lets a screen or a headless driver play hundreds of turns with one update instead of
+ * one per turn.
+ *
+ * <p>A pipeline is not thread-safe and should be used from the thread that owns the game.
+ */
+public class CommandPipeline {
+  private final Game game;
+  private final ArrayDeque<GameCommand> queue = new ArrayDeque<>();
+
+  /**
+   * Creates an empty pipeline for a game.
+   *
+   * @param game the game to run commands on
+   * @throws IllegalArgumentException if the game is null
+   */
+  public CommandPipeline(Game game) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null");
+    }
+    this.game = game;
+  }
+
+  /**
+   * Adds a command to the queue, merging it with the last queued command when possible.
+   *
+   * @param command the command to add
+   * @throws IllegalArgumentException if the command is null
+   */
+  public void submit(GameCommand command) {
+    if (command == null) {
+      throw new IllegalArgumentException("Command cannot be null");
+    }
+    GameCommand last = queue.peekLast();
+    GameCommand merged = last == null ? null : last.coalesce(command);
+    if (merged != null) {
+      queue.pollLast();
+      queue.addLast(merged);
+    } else {
+      queue.addLast(command);
+    }
+  }
+
+  /**
+   * Gets the number of commands waiting in the queue after merging.
+   *
+   * @return the queued command count
+   */
+  public int getQueuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * Runs every queued command in order and empties the queue.
+   *
+   * @return a summary of the changes made by the commands
+   */
+  public TurnSummary flush() {
+    int[] startPositions = positions();
+    int[] startBalances = game.getBalances();
+
+    int turnsPlayed = 0;
+    while (!queue.isEmpty()) {
+      turnsPlayed += queue.pollFirst().execute(game);
+    }
+
+    int[] moneyChanges = null;
+    if (startBalances != null) {
+      moneyChanges = game.getBalances();
+      for (int seat = 0; seat < moneyChanges.length; seat++) {
+        moneyChanges[seat] -= startBalances[seat];
+      }
+    }
+    return new TurnSummary(turnsPlayed, startPositions, positions(), moneyChanges,
+            game.getCurrentPlayerIndex(), game.getWinner());
+  }
+
+  /**
+   * Submits a command and runs the whole queue.
+   *
+   * @param command the command to run
+   * @return a summary of the changes made by the queued commands
+   * @throws IllegalArgumentException if the command is null
+   */
+  public TurnSummary execute(GameCommand command) {
+    submit(command);
+    return flush();
+  }
+
+  /**
+   * Reads the position of every player.
+   *
+   * @return a new array with the position of each player in the player list
+   */
+  private int[] positions() {
+    List<Player> players = game.getPlayers();
+    int[] positions = new int[players.size()];
+    for (int seat = 0; seat < positions.length; seat++) {
+      positions[seat] = players.get(seat).getPosition();
+    }
+    return positions;
+  }
+}
@@ -1,6 +1,7 @@
 package edu.ntnu.iir.bidata.model.games;
 
 import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.CompiledBoard;
 import edu.ntnu.iir.bidata.model.Dice;
 import edu.ntnu.iir.bidata.model.GameType;
 import edu.ntnu.iir.bidata.model.Player;
@@ -19,6 +20,7 @@ import java.util.List;
  */
 public abstract class Game {
   private Board board;
+  private CompiledBoard compiledBoard;
   private List<Player> players;
   protected Dice dice;
   protected GameType gameType;
@@ -106,6 +108,27 @@ public abstract class Game {
    */
   public void setBoard(Board board) {
     this.board = board;
+    this.compiledBoard = null;
+  }
+
+  /**
+   * Gets the compiled form of the game board, compiling it on first use.
+   * Turn logic reads tile actions from here instead of from the board itself.
+   *
+   * @return the compiled board
+   */
+  protected CompiledBoard getCompiledBoard() {
+    if (compiledBoard == null) {
+      compiledBoard = new CompiledBoard(board);
+    }
+    return compiledBoard;
+  }
+
+  /**
+   * Compiles the game board again, picking up any changes made to it since it was set.
+   */
+  protected void compileBoard() {
+    compiledBoard = new CompiledBoard(board);
   }
 
   /**
@@ -226,6 +249,40 @@ public abstract class Game {
    */
   public abstract void handleEvent(String event);
 
+  /**
+   * Plays one turn for the current player and checks whether the player won.
+   */
+  protected abstract void playTurn();
+
+  /**
+   * Plays turns until the given number of turns have been played or the game is over.
+   *
+   * @param turns the largest number of turns to play
+   * @return the number of turns played
+   * @throws IllegalArgumentException if turns is negative
+   */
+  public int playTurns(int turns) {
+    if (turns < 0) {
+      throw new IllegalArgumentException("Number of turns cannot be negative");
+    }
+    int played = 0;
+    while (played < turns && !isGameOver()) {
+      playTurn();
+      played++;
+    }
+    return played;
+  }
+
+  /**
+   * Gets the money of every player, for games where players have money.
+   *
+   * @return a new array with the money of each player in the player list, or null if players
+   *         in this game have no money
+   */
+  protected int[] getBalances() {
+    return null;
+  }
+
   /**
    * Starts the game.
    */
@@ -0,0 +1,41 @@
+package edu.ntnu.iir.bidata.model.games;
+
+/**
+ * A typed request to change the state of a {@link Game}, run by a {@link CommandPipeline}.
+ *
+ * <p>Commands replace the string events of {@link Game#handleEvent(String)} for callers that
+ * want to play more than one turn at a time. A command may be merged with the command queued
+ * after it, so that many queued requests run as one.
+ */
+public interface GameCommand {
+  /**
+   * Applies the command to a game.
+   *
+   * @param game the game to change
+   * @return the number of turns played
+   */
+  int execute(Game game);
+
+  /**
+   * Merges this command with the command queued right after it, if the two can run as one.
+   *
+   * @param next the command queued after this one
+   * @return a single command doing the work of both, or null if they cannot be merged
+   */
+  default GameCommand coalesce(GameCommand next) {
+    return null;
+  }
+
+  /**
+   * Finds the command for a string event sent by a game screen.
+   *
+   * @param event the event, such as {@code "monopoly_dice_rolled"}
+   * @return the command, or null if the event has no command
+   */
+  static GameCommand fromEvent(String event) {
+    return switch (event) {
+      case "monopoly_dice_rolled", "snakes_and_ladders_dice_rolled" -> new RollDiceCommand(1);
+      default -> null;
+    };
+  }
+}
@@ -1,28 +1,51 @@
 package edu.ntnu.iir.bidata.model.games;
 
+import edu.ntnu.iir.bidata.model.CardDeck;
+import edu.ntnu.iir.bidata.model.CompiledBoard;
 import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.model.MoneyLedger;
 import edu.ntnu.iir.bidata.model.Player;
-import edu.ntnu.iir.bidata.model.Tile;
-import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
+import edu.ntnu.iir.bidata.model.PropertyOwnership;
+import edu.ntnu.iir.bidata.model.RentTable;
+import edu.ntnu.iir.bidata.model.TransactionReason;
 import edu.ntnu.iir.bidata.model.tileaction.JailAction;
-import edu.ntnu.iir.bidata.model.tileaction.TileAction;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 /**
  * Represents a Monopoly game implementation.
  * This class extends the Game class and includes Monopoly-specific functionality
  * such as money management, jail mechanics, and turn handling.
+ *
+ * <p>Players landing on an unowned property buy it when they can afford it, and players
+ * landing on a property owned by someone else pay its rent, or all their money if the rent is
+ * more than they have. Rents come from the {@link RentTable} compiled with the board.
+ * Chance and Treasury tiles draw from a {@link CardDeck} shuffled with the random generator
+ * of the dice when the game starts, and income tax tiles take their tax, or all the player's
+ * money if the tax is more than they have.
  */
 public class MonopolyGame extends Game {
   /**
-   * Map to track the amount of money each player has.
+   * Ledger with the money of each player, indexed by their seat in the player list.
    */
-  private final Map<Player, Integer> playerMoney;
+  private MoneyLedger ledger;
+
+  /**
+   * The number of turns played since the game started.
+   */
+  private int turnNumber;
+
+  /**
+   * The owners of the properties on the board, set up when the game starts.
+   */
+  private PropertyOwnership properties;
+
+  /**
+   * The Chance and Treasury decks, shuffled when the game starts.
+   */
+  private CardDeck chanceDeck;
+  private CardDeck treasuryDeck;
 
   /**
    * Set to track which players are currently in jail.
@@ -32,37 +55,139 @@ public class MonopolyGame extends Game {
   /**
    * The amount of money each player starts with.
    */
-  private static final int STARTING_MONEY = 1500;
+  public static final int STARTING_MONEY = 1500;
 
   /**
    * The amount of money received when passing GO.
    */
-  private static final int PASSING_GO_MONEY = 200;
+  public static final int PASSING_GO_MONEY = 200;
 
   /**
    * The amount of money needed to win the game.
    */
-  private static final int WINNING_MONEY = 2000;
+  public static final int WINNING_MONEY = 2000;
+
+  /**
+   * The largest number of cards drawn in one turn. A card that moves the player to another
+   * Chance or Treasury tile draws again, up to this limit.
+   */
+  public static final int MAX_CARDS_PER_TURN = 3;
+
+  private static final int CARD_STAYED = 0;
+  private static final int CARD_MOVED = 1;
+  private static final int CARD_JAILED = 2;
 
   /**
    * Constructs a new Monopoly game with default values.
-   * Initializes the player money map and the players in jail set.
+   * Initializes an empty money ledger and the players in jail set.
    */
   public MonopolyGame() {
     super();
     gameType = GameType.MONOPOLY;
-    playerMoney = new HashMap<>();
+    ledger = new MoneyLedger(0);
     playersInJail = new HashSet<>();
   }
 
+  /**
+   * Finds the seat of a player, which is their index in the player list.
+   *
+   * @param player the player to find
+   * @return the seat of the player, or -1 if the player is not in the ledger
+   */
+  private int seatOf(Player player) {
+    List<Player> players = getPlayers();
+    if (players == null) {
+      return -1;
+    }
+    int seats = Math.min(players.size(), ledger.getSeats());
+    for (int seat = 0; seat < seats; seat++) {
+      if (players.get(seat) == player) {
+        return seat;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the seat of a player that must be in the game.
+   *
+   * @param player the player to find
+   * @return the seat of the player
+   * @throws IllegalArgumentException if the player is not in the game
+   */
+  private int requireSeat(Player player) {
+    int seat = seatOf(player);
+    if (seat == -1) {
+      throw new IllegalArgumentException("Player is not in this game");
+    }
+    return seat;
+  }
+
   /**
    * Gets the current money amount for a player.
    *
    * @param player the player to check
-   * @return the amount of money the player has
+   * @return the amount of money the player has, or 0 if the player is not in the game
    */
   public int getPlayerMoney(Player player) {
-    return playerMoney.getOrDefault(player, 0);
+    int seat = seatOf(player);
+    return seat == -1 ? 0 : ledger.getBalance(seat);
+  }
+
+  /**
+   * Gets the money of every seat.
+   *
+   * @return a new array with the balance of each seat, indexed like the player list
+   */
+  @Override
+  protected int[] getBalances() {
+    int[] balances = new int[ledger.getSeats()];
+    for (int seat = 0; seat < balances.length; seat++) {
+      balances[seat] = ledger.getBalance(seat);
+    }
+    return balances;
+  }
+
+  /**
+   * Gets the ledger with the money and transaction log of every seat.
+   * Seats are the indexes of the players in the player list.
+   *
+   * @return the money ledger
+   */
+  public MoneyLedger getLedger() {
+    return ledger;
+  }
+
+  /**
+   * Gets the owners of the properties on the board, indexed by seat.
+   *
+   * @return the property ownership, or null if the game has not started
+   */
+  public PropertyOwnership getProperties() {
+    return properties;
+  }
+
+  /**
+   * Gets the player who owns a property.
+   *
+   * @param tileId the tile id of the property
+   * @return the owning player, or null if the property is unowned or the game has not started
+   */
+  public Player getPropertyOwner(int tileId) {
+    if (properties == null || !properties.getRentTable().isProperty(tileId)) {
+      return null;
+    }
+    int owner = properties.getOwner(tileId);
+    return owner == PropertyOwnership.NO_OWNER ? null : getPlayers().get(owner);
+  }
+
+  /**
+   * Gets the number of turns played since the game started.
+   *
+   * @return the turn number
+   */
+  public int getTurnNumber() {
+    return turnNumber;
   }
 
   /**
@@ -71,17 +196,10 @@ public class MonopolyGame extends Game {
    * @param player the player to give money to
    * @param amount the amount to add (must be positive)
    * @return the new balance
-   * @throws IllegalArgumentException if amount is not positive
+   * @throws IllegalArgumentException if amount is not positive or the player is not in the game
    */
   public int addMoney(Player player, int amount) {
-    if (amount <= 0) {
-      throw new IllegalArgumentException("Amount must be positive");
-    }
-
-    int currentAmount = playerMoney.getOrDefault(player, 0);
-    int newAmount = currentAmount + amount;
-    playerMoney.put(player, newAmount);
-    return newAmount;
+    return ledger.deposit(requireSeat(player), amount, TransactionReason.DEPOSIT);
   }
 
   /**
@@ -90,22 +208,11 @@ public class MonopolyGame extends Game {
    * @param player the player to take money from
    * @param amount the amount to remove (must be positive)
    * @return the new balance
-   * @throws IllegalArgumentException if the player doesn't
-   *                                  have enough money or amount is not positive
+   * @throws IllegalArgumentException if the player doesn't have enough money, amount is not
+   *                                  positive or the player is not in the game
    */
   public int removeMoney(Player player, int amount) {
-    if (amount <= 0) {
-      throw new IllegalArgumentException("Amount must be positive");
-    }
-
-    int currentAmount = playerMoney.getOrDefault(player, 0);
-    if (currentAmount < amount) {
-      throw new IllegalArgumentException("Player doesn't have enough money");
-    }
-
-    int newAmount = currentAmount - amount;
-    playerMoney.put(player, newAmount);
-    return newAmount;
+    return ledger.withdraw(requireSeat(player), amount, TransactionReason.WITHDRAWAL);
   }
 
   /**
@@ -114,28 +221,21 @@ public class MonopolyGame extends Game {
    * @param from   the player paying money
    * @param to     the player receiving money
    * @param amount the amount to transfer (must be positive)
-   * @throws IllegalArgumentException if the paying player doesn't
-   *                                  have enough money or amount is not positive
+   * @throws IllegalArgumentException if the paying player doesn't have enough money, amount
+   *                                  is not positive or a player is not in the game
    */
   public void transferMoney(Player from, Player to, int amount) {
-    removeMoney(from, amount);
-    addMoney(to, amount);
+    ledger.transfer(requireSeat(from), requireSeat(to), amount, TransactionReason.TRANSFER);
   }
 
   /**
    * Finds the jail tile position in the board.
+   * The position is looked up in the action index of the board.
    *
    * @return the position of the jail tile, or -1 if not found
    */
   public int findJailPosition() {
-    List<Tile> tiles = getBoard().getTiles();
-    for (int i = 0; i < tiles.size(); i++) {
-      TileAction action = tiles.get(i).getAction();
-      if (action instanceof JailAction) {
-        return i;
-      }
-    }
-    return -1;
+    return getBoard().getFirstTileIdWithAction(JailAction.class);
   }
 
   /**
@@ -183,7 +283,7 @@ public class MonopolyGame extends Game {
   public void handleEvent(String event) {
     switch (event) {
       case "monopoly_dice_rolled":
-        makeTurn();
+        playTurn();
         break;
       default:
         // Ignore unhandled events
@@ -199,8 +299,7 @@ public class MonopolyGame extends Game {
     // roll dice
     this.dice.rollAll();
     int sum = this.dice.getSum();
-    List<Integer> counts = this.dice.getCounts();
-    boolean rolledEqual = Objects.equals(counts.get(0), counts.get(1));
+    boolean rolledEqual = this.dice.getFace(0) == this.dice.getFace(1);
 
     // move current player
     Player currentPlayer = getCurrentPlayer();
@@ -219,21 +318,13 @@ public class MonopolyGame extends Game {
       return;
     }
 
-    int oldPosition = currentPlayer.getPosition();
-    int newPosition = (oldPosition + sum) % getBoard().getTiles().size();
-
-    // Check if player passed GO (tile 0)
-    if (oldPosition > 0 && (newPosition == 0 || newPosition < oldPosition)) {
-      // Player passed GO, add $200
-      addMoney(currentPlayer, PASSING_GO_MONEY);
-    }
-
-    currentPlayer.setPosition(newPosition);
+    CompiledBoard board = getCompiledBoard();
+    int seat = getCurrentPlayerIndex();
+    int newPosition = (currentPlayer.getPosition() + sum) % board.getTileCount();
+    moveForward(seat, currentPlayer, newPosition);
 
     // Process tile action for the new position
-    TileAction tileAction = getBoard().getTile(newPosition).getAction();
-    if (tileAction instanceof GoToJailAction) {
-      sendToJail(currentPlayer);
+    if (resolveLanding(board, seat, currentPlayer, sum)) {
       incrementPlayerTurn();
       return;
     }
@@ -244,11 +335,153 @@ public class MonopolyGame extends Game {
     }
   }
 
+  /**
+   * Moves a player forward to a tile, paying them GO money if they pass GO.
+   *
+   * @param seat        the seat of the player
+   * @param player      the player to move
+   * @param newPosition the tile to move to
+   */
+  private void moveForward(int seat, Player player, int newPosition) {
+    int oldPosition = player.getPosition();
+    // Check if player passed GO (tile 0)
+    if (oldPosition > 0 && newPosition < oldPosition) {
+      ledger.deposit(seat, PASSING_GO_MONEY, TransactionReason.PASSING_GO);
+    }
+    player.setPosition(newPosition);
+  }
+
+  /**
+   * Applies the action of the tile a player stands on. Cards that move the player resolve the
+   * tile they lead to as well, drawing at most {@link #MAX_CARDS_PER_TURN} cards.
+   *
+   * @param board   the compiled board
+   * @param seat    the seat of the player
+   * @param player  the player
+   * @param diceSum the dice sum of the turn, used for utility rents
+   * @return true if the player was sent to jail
+   */
+  private boolean resolveLanding(CompiledBoard board, int seat, Player player, int diceSum) {
+    for (int draws = 0; ; draws++) {
+      int position = player.getPosition();
+      byte actionKind = board.getActionKind(position);
+      if (actionKind == CompiledBoard.GO_TO_JAIL) {
+        sendToJail(player);
+        return true;
+      } else if (actionKind == CompiledBoard.PROPERTY) {
+        landOnProperty(seat, position, diceSum);
+      } else if (actionKind == CompiledBoard.INCOME_TAX) {
+        payBank(seat, board.getTaxAmount(position), TransactionReason.TAX);
+      } else if ((actionKind == CompiledBoard.CHANCE || actionKind == CompiledBoard.TREASURY)
+              && draws < MAX_CARDS_PER_TURN) {
+        CardDeck deck = actionKind == CompiledBoard.CHANCE ? chanceDeck : treasuryDeck;
+        int outcome = applyCard(deck, seat, player, deck.draw());
+        if (outcome == CARD_JAILED) {
+          return true;
+        } else if (outcome == CARD_MOVED) {
+          continue;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Applies the effect of a card to a player.
+   *
+   * @param deck   the deck the card was drawn from
+   * @param seat   the seat of the player
+   * @param player the player
+   * @param card   the card
+   * @return whether the card left the player in place, moved them or sent them to jail
+   */
+  private int applyCard(CardDeck deck, int seat, Player player, int card) {
+    int argument = CardDeck.argument(card);
+    switch (CardDeck.opcode(card)) {
+      case CardDeck.ADVANCE_TO, CardDeck.MOVE_BY, CardDeck.ADVANCE_TO_NEAREST -> {
+        int target = deck.getMoveTarget(card, player.getPosition());
+        if (CardDeck.movesForward(card)) {
+          moveForward(seat, player, target);
+        } else {
+          player.setPosition(target);
+        }
+        return CARD_MOVED;
+      }
+      case CardDeck.GO_TO_JAIL -> {
+        sendToJail(player);
+        return CARD_JAILED;
+      }
+      case CardDeck.COLLECT -> ledger.deposit(seat, argument, TransactionReason.CARD);
+      case CardDeck.PAY -> payBank(seat, argument, TransactionReason.CARD);
+      case CardDeck.PAY_EACH -> {
+        for (int other = 0; other < ledger.getSeats(); other++) {
+          int amount = Math.min(argument, ledger.getBalance(seat));
+          if (other != seat && amount > 0) {
+            ledger.transfer(seat, other, amount, TransactionReason.CARD);
+          }
+        }
+      }
+      case CardDeck.COLLECT_FROM_EACH -> {
+        for (int other = 0; other < ledger.getSeats(); other++) {
+          int amount = Math.min(argument, ledger.getBalance(other));
+          if (other != seat && amount > 0) {
+            ledger.transfer(other, seat, amount, TransactionReason.CARD);
+          }
+        }
+      }
+      default -> {
+        // A card without an effect
+      }
+    }
+    return CARD_STAYED;
+  }
+
+  /**
+   * Pays money from a player to the bank, or all the player's money if they have less.
+   *
+   * @param seat   the seat of the paying player
+   * @param amount the amount to pay
+   * @param reason why the money is paid
+   */
+  private void payBank(int seat, int amount, TransactionReason reason) {
+    int paid = Math.min(amount, ledger.getBalance(seat));
+    if (paid > 0) {
+      ledger.withdraw(seat, paid, reason);
+    }
+  }
+
+  /**
+   * Buys an unowned property if the player can afford it, or pays rent to the owner.
+   * A player who cannot pay the full rent pays all the money they have.
+   *
+   * @param seat    the seat of the player that landed on the property
+   * @param tileId  the tile id of the property
+   * @param diceSum the dice sum of the roll that landed on the property
+   */
+  private void landOnProperty(int seat, int tileId, int diceSum) {
+    int owner = properties.getOwner(tileId);
+    if (owner == PropertyOwnership.NO_OWNER) {
+      int price = properties.getRentTable().getPrice(tileId);
+      if (ledger.getBalance(seat) >= price) {
+        ledger.withdraw(seat, price, TransactionReason.PURCHASE);
+        properties.buy(seat, tileId);
+      }
+    } else if (owner != seat) {
+      int rent = Math.min(properties.getRent(tileId, diceSum), ledger.getBalance(seat));
+      if (rent > 0) {
+        ledger.transfer(seat, owner, rent, TransactionReason.RENT);
+      }
+    }
+  }
+
   /**
    * Makes a turn for the current player and processes the aftermath.
    */
-  private void makeTurn() {
+  @Override
+  protected void playTurn() {
     Player playerThatMadeTurn = getCurrentPlayer();
+    turnNumber++;
+    ledger.setTurn(turnNumber);
     turnLogic();
     afterTurn(playerThatMadeTurn);
   }
@@ -274,16 +507,27 @@ public class MonopolyGame extends Game {
 
   /**
    * Starts the game by initializing player positions and giving each player starting money.
-   * Ensures no players start in jail.
+   * Ensures no players start in jail and every property is unowned, and shuffles the decks.
+   * The board is compiled here, so changes made to it before the game starts are picked up.
    */
   @Override
   public void start() {
+    compileBoard();
+
     // make players start on position 0
     var players = getPlayers();
-    for (Player player : players) {
+    ledger = new MoneyLedger(players.size());
+    properties = new PropertyOwnership(getCompiledBoard().getRentTable(), players.size());
+    chanceDeck = new CardDeck(CardDeck.standardChance(), getCompiledBoard());
+    treasuryDeck = new CardDeck(CardDeck.standardTreasury(), getCompiledBoard());
+    chanceDeck.shuffle(dice.getRandom());
+    treasuryDeck.shuffle(dice.getRandom());
+    turnNumber = 0;
+    for (int seat = 0; seat < players.size(); seat++) {
+      Player player = players.get(seat);
       player.setPosition(0);
       // Give each player the starting amount of money
-      playerMoney.put(player, STARTING_MONEY);
+      ledger.deposit(seat, STARTING_MONEY, TransactionReason.STARTING_MONEY);
       // Ensure no players start in jail
       playersInJail.remove(player);
     }
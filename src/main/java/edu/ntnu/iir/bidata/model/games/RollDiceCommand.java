@@ -0,0 +1,47 @@
+package edu.ntnu.iir.bidata.model.games;
+
+/**
+ * Rolls the dice and plays a number of turns, stopping early if the game ends.
+ * Roll commands queued one after another are merged into a single command.
+ *
+ * @param turns the number of turns to play
+ */
+public record RollDiceCommand(int turns) implements GameCommand {
+  /**
+   * Creates a command that plays the given number of turns.
+   *
+   * @param turns the number of turns to play
+   * @throws IllegalArgumentException if turns is not positive
+   */
+  public RollDiceCommand {
+    if (turns < 1) {
+      throw new IllegalArgumentException("Must roll at least once");
+    }
+  }
+
+  /**
+   * Plays the turns of this command.
+   *
+   * @param game the game to play
+   * @return the number of turns played
+   */
+  @Override
+  public int execute(Game game) {
+    return game.playTurns(turns);
+  }
+
+  /**
+   * Merges this command with a following roll command by adding up their turns.
+   *
+   * @param next the command queued after this one
+   * @return a roll command for both, or null if the next command is not a roll command
+   */
+  @Override
+  public GameCommand coalesce(GameCommand next) {
+    if (next instanceof RollDiceCommand nextRoll) {
+      long total = (long) turns + nextRoll.turns();
+      return new RollDiceCommand((int) Math.min(total, Integer.MAX_VALUE));
+    }
+    return null;
+  }
+}
@@ -1,9 +1,8 @@
 package edu.ntnu.iir.bidata.model.games;
 
+import edu.ntnu.iir.bidata.model.CompiledBoard;
 import edu.ntnu.iir.bidata.model.GameType;
 import edu.ntnu.iir.bidata.model.Player;
-import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
-import edu.ntnu.iir.bidata.model.tileaction.TileAction;
 
 /**
  * Represents a Snakes and Ladders game implementation.
@@ -29,7 +28,7 @@ public class SnakesAndLaddersGame extends Game {
   public void handleEvent(String event) {
     switch (event) {
       case "snakes_and_ladders_dice_rolled":
-        makeTurn();
+        playTurn();
         break;
       default:
         // No action needed for other events
@@ -41,7 +40,8 @@ public class SnakesAndLaddersGame extends Game {
    * Executes a player's turn.
    * Gets the current player, executes turn logic, and checks for game-ending conditions.
    */
-  private void makeTurn() {
+  @Override
+  protected void playTurn() {
     Player playerThatMadeTurn = getCurrentPlayer();
     turnLogic();
     afterTurn(playerThatMadeTurn);
@@ -59,15 +59,11 @@ public class SnakesAndLaddersGame extends Game {
 
     // move current player
     Player currentPlayer = getCurrentPlayer();
-    int numberOfTiles = getBoard().getTiles().size();
-    int newPosition = Math.min(currentPlayer.getPosition() + sum, numberOfTiles);
-    currentPlayer.setPosition(newPosition);
+    CompiledBoard board = getCompiledBoard();
+    int newPosition = Math.min(currentPlayer.getPosition() + sum, board.getTileCount());
 
-    // check if player landed on a snake or ladder
-    TileAction tileAction = getBoard().getTile(newPosition).getAction();
-    if (tileAction instanceof MoveAction) {
-      currentPlayer.setPosition(((MoveAction) tileAction).getEnd());
-    }
+    // follow a snake or ladder if the player landed on one
+    currentPlayer.setPosition(board.getJumpTarget(newPosition));
 
     // increment current player index
     setCurrentPlayerIndex((getCurrentPlayerIndex() + 1) % getPlayers().size());
@@ -80,7 +76,7 @@ public class SnakesAndLaddersGame extends Game {
    * @param playerThatMadeTurn the player who just completed their turn
    */
   private void afterTurn(Player playerThatMadeTurn) {
-    if (playerThatMadeTurn.getPosition() == getBoard().getTiles().size()) {
+    if (playerThatMadeTurn.getPosition() == getCompiledBoard().getTileCount()) {
       setWinner(playerThatMadeTurn);
     }
   }
@@ -88,9 +84,12 @@ public class SnakesAndLaddersGame extends Game {
   /**
    * Initializes the game by setting all players to the starting position.
    * In Snakes and Ladders, all players start at position 1.
+   * The board is compiled here, so changes made to it before the game starts are picked up.
    */
   @Override
   public void start() {
+    compileBoard();
+
     // make players start on position 1
     var players = getPlayers();
     for (Player player : players) {
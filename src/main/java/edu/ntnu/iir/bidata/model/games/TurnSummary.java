@@ -0,0 +1,43 @@
+package edu.ntnu.iir.bidata.model.games;
+
+import edu.ntnu.iir.bidata.model.Player;
+
+/**
+ * What changed in a game while a {@link CommandPipeline} ran its queued commands.
+ * A screen can redraw once from a summary instead of once for every turn.
+ *
+ * @param turnsPlayed        the number of turns played
+ * @param startPositions     the position of each player before the commands ran
+ * @param endPositions       the position of each player after the commands ran
+ * @param moneyChanges       how much the money of each player went up or down, or null if
+ *                           players in the game have no money
+ * @param currentPlayerIndex the index of the player whose turn it is afterwards
+ * @param winner             the winner, or null if the game is not over
+ */
+public record TurnSummary(
+        int turnsPlayed,
+        int[] startPositions,
+        int[] endPositions,
+        int[] moneyChanges,
+        int currentPlayerIndex,
+        Player winner
+) {
+  /**
+   * Checks whether a player ended up on another tile.
+   *
+   * @param seat the index of the player in the player list
+   * @return true if the player's position changed
+   */
+  public boolean hasMoved(int seat) {
+    return startPositions[seat] != endPositions[seat];
+  }
+
+  /**
+   * Checks whether the game ended while the commands ran, or had already ended.
+   *
+   * @return true if the game has a winner
+   */
+  public boolean isGameOver() {
+    return winner != null;
+  }
+}
@@ -6,4 +6,39 @@ package edu.ntnu.iir.bidata.model.tileaction;
  * Implements the TileAction interface to provide specific behavior for income tax tiles.
  */
 public class IncomeTaxAction implements TileAction {
+  /**
+   * The tax paid on a tile created without an amount.
+   */
+  public static final int DEFAULT_AMOUNT = 200;
+
+  private final int amount;
+
+  /**
+   * Constructs a new IncomeTaxAction with the default amount.
+   */
+  public IncomeTaxAction() {
+    this(DEFAULT_AMOUNT);
+  }
+
+  /**
+   * Constructs a new IncomeTaxAction.
+   *
+   * @param amount the amount of money paid to the bank
+   * @throws IllegalArgumentException if the amount is negative
+   */
+  public IncomeTaxAction(int amount) {
+    if (amount < 0) {
+      throw new IllegalArgumentException("Tax amount cannot be negative");
+    }
+    this.amount = amount;
+  }
+
+  /**
+   * Gets the amount of money paid to the bank.
+   *
+   * @return the tax amount
+   */
+  public int getAmount() {
+    return amount;
+  }
 }
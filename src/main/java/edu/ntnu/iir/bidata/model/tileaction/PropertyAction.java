@@ -0,0 +1,89 @@
+package edu.ntnu.iir.bidata.model.tileaction;
+
+/**
+ * Represents a property that a player can buy when landing on its tile, and that other players
+ * pay rent for when they land on it afterwards.
+ * Properties belong to a group, such as a colour group of streets or all the railroads, and the
+ * rent depends on how many properties of the group the owner has.
+ */
+public class PropertyAction implements TileAction {
+  private final String name;
+  private final PropertyType type;
+  private final String group;
+  private final int price;
+  private final int rent;
+
+  /**
+   * Constructs a new PropertyAction.
+   *
+   * @param name  the name of the property
+   * @param type  the kind of property
+   * @param group the name of the group the property belongs to
+   * @param price the price of buying the property
+   * @param rent  the base rent, which is the dice multiplier for utilities
+   * @throws IllegalArgumentException if a value is null, the price is not positive or the rent
+   *                                  is negative
+   */
+  public PropertyAction(String name, PropertyType type, String group, int price, int rent) {
+    if (name == null || type == null || group == null) {
+      throw new IllegalArgumentException("Name, type and group cannot be null");
+    }
+    if (price <= 0) {
+      throw new IllegalArgumentException("Price must be positive");
+    }
+    if (rent < 0) {
+      throw new IllegalArgumentException("Rent cannot be negative");
+    }
+    this.name = name;
+    this.type = type;
+    this.group = group;
+    this.price = price;
+    this.rent = rent;
+  }
+
+  /**
+   * Gets the name of the property.
+   *
+   * @return the property name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the kind of property.
+   *
+   * @return the property type
+   */
+  public PropertyType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the name of the group the property belongs to.
+   *
+   * @return the group name
+   */
+  public String getGroup() {
+    return group;
+  }
+
+  /**
+   * Gets the price of buying the property.
+   *
+   * @return the price
+   */
+  public int getPrice() {
+    return price;
+  }
+
+  /**
+   * Gets the base rent of the property. For utilities this is the number the dice sum is
+   * multiplied by when the owner has a single utility.
+   *
+   * @return the base rent
+   */
+  public int getRent() {
+    return rent;
+  }
+}
@@ -0,0 +1,21 @@
+package edu.ntnu.iir.bidata.model.tileaction;
+
+/**
+ * The kinds of property a player can buy, which decide how the rent of a property grows with
+ * the number of properties its owner has in the same group.
+ */
+public enum PropertyType {
+  /**
+   * A street, whose rent doubles when the owner has every street in its colour group.
+   */
+  STREET,
+  /**
+   * A railroad, whose rent doubles for every other railroad the owner has.
+   */
+  RAILROAD,
+  /**
+   * A utility, whose rent is the dice sum times a multiplier that grows when the owner has
+   * every utility.
+   */
+  UTILITY,
+}
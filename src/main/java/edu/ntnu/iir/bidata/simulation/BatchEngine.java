@@ -0,0 +1,552 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.CardDeck;
+import edu.ntnu.iir.bidata.model.CompiledBoard;
+import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.model.PropertyOwnership;
+import edu.ntnu.iir.bidata.model.RentTable;
+import edu.ntnu.iir.bidata.model.games.MonopolyGame;
+import java.util.Arrays;
+
+/**
+ * Plays many games of one board side by side, with the state of all games kept in parallel
+ * primitive arrays.
+ *
+ * <p>There are no game, player or dice objects per game. The position of seat {@code s} in game
+ * {@code g} is {@code positions[g * players + s]}, and Monopoly money and jail flags use the
+ * same layout. Each game adds one byte for the seat whose turn it is, one for the winner and an
+ * int for the turn count. Property owners are kept for all games in one
+ * {@link PropertyOwnership}, which adds a byte per tile and a bitset per seat, and the shuffled
+ * Chance and Treasury decks in two {@link CardDeck}s, which add an int per card. Four players
+ * of Monopoly on the standard board take about two hundred and fifty bytes per game, including
+ * the shared per-step buffers. On a board where no game can be won, a
+ * {@link StalemateDetector} adds a long and two ints per game.
+ *
+ * <p>{@link #step()} plays one turn in every unfinished game. The dice for all those turns are
+ * rolled in one bulk call, and the games are then advanced in a single pass over the arrays.
+ * Finished games are dropped from the list of running games, so later steps only touch games
+ * that are still being played. On a board where no seat can ever gain money, so that no game
+ * can be won, a Monopoly game is also dropped when the detector finds that it has gone back to
+ * a state it was in before, and {@link #run(int)} takes a turn budget, so games that would
+ * never finish do not hold up the rest. The rules are the same as in
+ * {@link SnakesAndLaddersSimulator} and {@link MonopolySimulator}, and therefore the same as in
+ * the game classes.
+ */
+public class BatchEngine {
+  private static final int NO_WINNER = -1;
+  private static final int CARD_STAYED = 0;
+  private static final int CARD_MOVED = 1;
+  private static final int CARD_JAILED = 2;
+
+  private final GameType gameType;
+  private final CompiledBoard board;
+  private final int tileCount;
+  private final int jailPosition;
+  private final int games;
+  private final int players;
+  private final Dice dice;
+
+  // Per game and seat, indexed by game * players + seat
+  private final int[] positions;
+  private final int[] money;
+  private final boolean[] inJail;
+  private final RentTable rentTable;
+  private final PropertyOwnership properties;
+  private final CardDeck chance;
+  private final CardDeck treasury;
+  private final StalemateDetector stalemates;
+  private final boolean detectStalemates;
+
+  // Per game
+  private final byte[] currentSeat;
+  private final byte[] winnerSeat;
+  private final int[] turns;
+  private final boolean[] stalemated;
+
+  // Games still being played, and the rolls of the current step
+  private final int[] running;
+  private int runningCount;
+  private final int[] sums;
+  private final boolean[] doubles;
+
+  /**
+   * Creates an engine with every game set up at the start.
+   *
+   * @param board    the board all games are played on
+   * @param gameType the rules to play by
+   * @param games    the number of games to play side by side
+   * @param players  the number of players in each game, at most 127
+   * @param dice     the dice to roll for all games
+   * @throws IllegalArgumentException if the game type is null, the board is not valid, there
+   *                                  are no games, the player count is out of range, or
+   *                                  Monopoly is played with fewer than two dice
+   */
+  public BatchEngine(Board board, GameType gameType, int games, int players, Dice dice) {
+    if (gameType == null) {
+      throw new IllegalArgumentException("Game type cannot be null");
+    }
+    if (games < 1) {
+      throw new IllegalArgumentException("Must have at least one game");
+    }
+    if (players < 1 || players > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("Player count must be between 1 and " + Byte.MAX_VALUE);
+    }
+    if (gameType == GameType.MONOPOLY && dice.getNumberOfDice() < 2) {
+      throw new IllegalArgumentException("Monopoly needs at least two dice to roll doubles");
+    }
+    this.gameType = gameType;
+    this.board = gameType == GameType.MONOPOLY
+            ? MonopolySimulator.compile(board)
+            : SnakesAndLaddersSimulator.compile(board);
+    this.tileCount = this.board.getTileCount();
+    this.jailPosition = this.board.getJailPosition();
+    this.games = games;
+    this.players = players;
+    this.dice = dice;
+
+    boolean monopoly = gameType == GameType.MONOPOLY;
+    this.positions = new int[games * players];
+    this.money = monopoly ? new int[games * players] : null;
+    this.inJail = monopoly ? new boolean[games * players] : null;
+    this.rentTable = this.board.getRentTable();
+    this.properties = monopoly ? new PropertyOwnership(rentTable, games, players) : null;
+    this.chance = monopoly ? new CardDeck(CardDeck.standardChance(), this.board, games) : null;
+    this.treasury = monopoly
+            ? new CardDeck(CardDeck.standardTreasury(), this.board, games)
+            : null;
+    this.detectStalemates = monopoly && !MonopolySimulator.canGainMoney(this.board, dice);
+    this.stalemates = detectStalemates ? new StalemateDetector(games) : null;
+    this.currentSeat = new byte[games];
+    this.winnerSeat = new byte[games];
+    this.turns = new int[games];
+    this.stalemated = new boolean[games];
+    this.running = new int[games];
+    this.sums = new int[games];
+    this.doubles = monopoly ? new boolean[games] : null;
+    reset();
+  }
+
+  /**
+   * Sets every game back to the start, with all players on the start tile.
+   * Monopoly decks are shuffled again with the dice's generator, one game after the other.
+   */
+  public void reset() {
+    boolean monopoly = gameType == GameType.MONOPOLY;
+    Arrays.fill(positions, monopoly ? 0 : 1);
+    if (monopoly) {
+      Arrays.fill(money, MonopolyGame.STARTING_MONEY);
+      Arrays.fill(inJail, false);
+      properties.reset();
+      if (stalemates != null) {
+        stalemates.reset();
+      }
+      for (int game = 0; game < games; game++) {
+        chance.shuffle(game, dice.getRandom());
+        treasury.shuffle(game, dice.getRandom());
+      }
+    }
+    Arrays.fill(currentSeat, (byte) 0);
+    Arrays.fill(winnerSeat, (byte) NO_WINNER);
+    Arrays.fill(turns, 0);
+    Arrays.fill(stalemated, false);
+    for (int game = 0; game < games; game++) {
+      running[game] = game;
+    }
+    runningCount = games;
+  }
+
+  /**
+   * Plays one turn in every game that has no winner yet and is not stalemated.
+   *
+   * @return the number of games still being played
+   */
+  public int step() {
+    if (runningCount == 0) {
+      return 0;
+    }
+    if (gameType == GameType.MONOPOLY) {
+      dice.rollTurns(runningCount, sums, null, doubles);
+      stepMonopoly();
+    } else {
+      dice.rollSums(sums, 0, runningCount);
+      stepSnakesAndLadders();
+    }
+    return runningCount;
+  }
+
+  /**
+   * Steps until every game has ended or the turn budget is used up. Since every step plays one
+   * turn in every running game, the games still running afterwards are the ones that hit the
+   * budget.
+   *
+   * @param maxSteps the largest number of steps to take, so boards that cannot be finished
+   *                 still return
+   * @return the number of games still being played
+   */
+  public int run(int maxSteps) {
+    for (int i = 0; i < maxSteps && runningCount > 0; i++) {
+      step();
+    }
+    return runningCount;
+  }
+
+  /**
+   * Advances every running Snakes and Ladders game by one turn and drops finished games.
+   */
+  private void stepSnakesAndLadders() {
+    int kept = 0;
+    for (int i = 0; i < runningCount; i++) {
+      int game = running[i];
+      int seat = currentSeat[game];
+      int slot = game * players + seat;
+
+      int landing = Math.min(positions[slot] + sums[i], tileCount);
+      int position = board.getJumpTarget(landing);
+      positions[slot] = position;
+      turns[game]++;
+
+      if (position == tileCount) {
+        winnerSeat[game] = (byte) seat;
+      } else {
+        currentSeat[game] = (byte) (seat + 1 == players ? 0 : seat + 1);
+        running[kept++] = game;
+      }
+    }
+    runningCount = kept;
+  }
+
+  /**
+   * Advances every running Monopoly game by one turn and drops finished and stalemated games.
+   * On a board where no seat can gain money, a game is checked for a stalemate when the last
+   * seat hands the turn back to the first.
+   */
+  private void stepMonopoly() {
+    int kept = 0;
+    for (int i = 0; i < runningCount; i++) {
+      int game = running[i];
+      int seat = currentSeat[game];
+      int slot = game * players + seat;
+      boolean rolledEqual = doubles[i];
+      int nextSeat = seat + 1 == players ? 0 : seat + 1;
+
+      boolean escapedJail = false;
+      if (inJail[slot] && rolledEqual) {
+        escapedJail = true;
+        inJail[slot] = false;
+      }
+
+      if (inJail[slot]) {
+        currentSeat[game] = (byte) nextSeat;
+      } else {
+        int oldPosition = positions[slot];
+        int newPosition = (oldPosition + sums[i]) % tileCount;
+        if (oldPosition > 0 && newPosition < oldPosition) {
+          money[slot] += MonopolyGame.PASSING_GO_MONEY;
+        }
+        positions[slot] = newPosition;
+
+        if (resolveLanding(game, seat, sums[i])) {
+          inJail[slot] = true;
+          if (jailPosition != -1) {
+            positions[slot] = jailPosition;
+          }
+          currentSeat[game] = (byte) nextSeat;
+        } else if (!rolledEqual || escapedJail) {
+          currentSeat[game] = (byte) nextSeat;
+        }
+      }
+      turns[game]++;
+
+      if (money[slot] >= MonopolyGame.WINNING_MONEY) {
+        winnerSeat[game] = (byte) seat;
+      } else if (detectStalemates && seat == players - 1 && currentSeat[game] == 0
+              && stalemates.check(game, stateHash(game))) {
+        stalemated[game] = true;
+      } else {
+        running[kept++] = game;
+      }
+    }
+    runningCount = kept;
+  }
+
+  /**
+   * Hashes the state of a Monopoly game, the same way as {@link MonopolySimulator}.
+   *
+   * @param game the game index
+   * @return the hash of the state
+   */
+  private long stateHash(int game) {
+    long hash = StalemateDetector.EMPTY_HASH;
+    for (int seat = 0; seat < players; seat++) {
+      int slot = game * players + seat;
+      hash = StalemateDetector.mix(hash, positions[slot]);
+      hash = StalemateDetector.mix(hash, money[slot]);
+      hash = StalemateDetector.mix(hash, inJail[slot] ? 1 : 0);
+      for (int word = 0; word < rentTable.getWords(); word++) {
+        hash = StalemateDetector.mix(hash, properties.getOwnedBits(game, seat, word));
+      }
+    }
+    hash = StalemateDetector.mix(hash, chance.getCursor(game));
+    return StalemateDetector.mix(hash, treasury.getCursor(game));
+  }
+
+  /**
+   * Applies the action of the tile a player stands on, following cards that move the player
+   * the same way as {@link MonopolySimulator}.
+   *
+   * @param game    the game index
+   * @param seat    the seat that moved
+   * @param diceSum the dice sum of the turn
+   * @return true if the player must go to jail
+   */
+  private boolean resolveLanding(int game, int seat, int diceSum) {
+    int slot = game * players + seat;
+    for (int draws = 0; ; draws++) {
+      int position = positions[slot];
+      byte actionKind = board.getActionKind(position);
+      if (actionKind == CompiledBoard.GO_TO_JAIL) {
+        return true;
+      } else if (actionKind == CompiledBoard.PROPERTY) {
+        landOnProperty(game, seat, position, diceSum);
+      } else if (actionKind == CompiledBoard.INCOME_TAX) {
+        money[slot] -= Math.min(board.getTaxAmount(position), money[slot]);
+      } else if ((actionKind == CompiledBoard.CHANCE || actionKind == CompiledBoard.TREASURY)
+              && draws < MonopolyGame.MAX_CARDS_PER_TURN) {
+        CardDeck deck = actionKind == CompiledBoard.CHANCE ? chance : treasury;
+        int outcome = applyCard(deck, game, seat, deck.draw(game));
+        if (outcome == CARD_JAILED) {
+          return true;
+        } else if (outcome == CARD_MOVED) {
+          continue;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Applies the effect of a card to a player.
+   *
+   * @param deck the deck the card was drawn from
+   * @param game the game index
+   * @param seat the seat that drew the card
+   * @param card the card
+   * @return whether the card left the player in place, moved them or sent them to jail
+   */
+  private int applyCard(CardDeck deck, int game, int seat, int card) {
+    int base = game * players;
+    int slot = base + seat;
+    int argument = CardDeck.argument(card);
+    switch (CardDeck.opcode(card)) {
+      case CardDeck.ADVANCE_TO, CardDeck.MOVE_BY, CardDeck.ADVANCE_TO_NEAREST -> {
+        int position = positions[slot];
+        int target = deck.getMoveTarget(card, position);
+        if (CardDeck.movesForward(card) && position > 0 && target < position) {
+          money[slot] += MonopolyGame.PASSING_GO_MONEY;
+        }
+        positions[slot] = target;
+        return CARD_MOVED;
+      }
+      case CardDeck.GO_TO_JAIL -> {
+        return CARD_JAILED;
+      }
+      case CardDeck.COLLECT -> money[slot] += argument;
+      case CardDeck.PAY -> money[slot] -= Math.min(argument, money[slot]);
+      case CardDeck.PAY_EACH -> {
+        for (int other = base; other < base + players; other++) {
+          if (other != slot) {
+            int amount = Math.min(argument, money[slot]);
+            money[slot] -= amount;
+            money[other] += amount;
+          }
+        }
+      }
+      case CardDeck.COLLECT_FROM_EACH -> {
+        for (int other = base; other < base + players; other++) {
+          if (other != slot) {
+            int amount = Math.min(argument, money[other]);
+            money[other] -= amount;
+            money[slot] += amount;
+          }
+        }
+      }
+      default -> {
+        // A card without an effect
+      }
+    }
+    return CARD_STAYED;
+  }
+
+  /**
+   * Buys an unowned property if the player can afford it, or pays rent to the owner, the same
+   * way as {@link MonopolySimulator}.
+   *
+   * @param game    the game index
+   * @param seat    the seat that landed on the property
+   * @param tileId  the tile id of the property
+   * @param diceSum the dice sum of the roll that landed on the property
+   */
+  private void landOnProperty(int game, int seat, int tileId, int diceSum) {
+    int slot = game * players + seat;
+    int owner = properties.getOwner(game, tileId);
+    if (owner == PropertyOwnership.NO_OWNER) {
+      int price = rentTable.getPrice(tileId);
+      if (money[slot] >= price) {
+        money[slot] -= price;
+        properties.buy(game, seat, tileId);
+      }
+    } else if (owner != seat) {
+      int rent = Math.min(properties.getRent(game, tileId, diceSum), money[slot]);
+      money[slot] -= rent;
+      money[game * players + owner] += rent;
+    }
+  }
+
+  /**
+   * Gets the owner of a property in a Monopoly game.
+   *
+   * @param game   the game index
+   * @param tileId the tile id of the property
+   * @return the owning seat, or {@link PropertyOwnership#NO_OWNER}
+   * @throws IllegalStateException if the engine does not play Monopoly
+   */
+  public int getPropertyOwner(int game, int tileId) {
+    if (properties == null) {
+      throw new IllegalStateException("Only Monopoly games have properties");
+    }
+    return properties.getOwner(game, tileId);
+  }
+
+  /**
+   * Adds every game to a summary. Games that are still being played count as censored by the
+   * turn budget, so this is meant to be called after {@link #run(int)}.
+   *
+   * @return a summary of the games that have a winner, with the others counted as censored
+   */
+  public SimulationSummary summarize() {
+    SimulationSummary summary = new SimulationSummary(players);
+    for (int game = 0; game < games; game++) {
+      if (winnerSeat[game] != NO_WINNER) {
+        summary.addGame(turns[game], winnerSeat[game]);
+      } else {
+        summary.addCensored(turns[game],
+                stalemated[game] ? GameOutcome.STALEMATE : GameOutcome.TURN_LIMIT);
+      }
+    }
+    return summary;
+  }
+
+  /**
+   * Gets how a game has ended.
+   *
+   * @param game the game index
+   * @return {@link GameOutcome#WON} or {@link GameOutcome#STALEMATE}, or null if the game is
+   *         still being played
+   */
+  public GameOutcome getOutcome(int game) {
+    if (winnerSeat[game] != NO_WINNER) {
+      return GameOutcome.WON;
+    }
+    return stalemated[game] ? GameOutcome.STALEMATE : null;
+  }
+
+  /**
+   * Gets the number of games that are still being played.
+   *
+   * @return the running game count
+   */
+  public int getRunningCount() {
+    return runningCount;
+  }
+
+  /**
+   * Gets the number of games played side by side.
+   *
+   * @return the game count
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of players in each game.
+   *
+   * @return the player count
+   */
+  public int getPlayers() {
+    return players;
+  }
+
+  /**
+   * Gets the winner of a game.
+   *
+   * @param game the game index
+   * @return the seat that won, or -1 if the game has no winner yet
+   */
+  public int getWinner(int game) {
+    return winnerSeat[game];
+  }
+
+  /**
+   * Gets the number of turns a game has lasted so far.
+   *
+   * @param game the game index
+   * @return the turn count
+   */
+  public int getTurns(int game) {
+    return turns[game];
+  }
+
+  /**
+   * Gets the seat whose turn it is in a game.
+   *
+   * @param game the game index
+   * @return the current seat
+   */
+  public int getCurrentSeat(int game) {
+    return currentSeat[game];
+  }
+
+  /**
+   * Gets the position of a player.
+   *
+   * @param game the game index
+   * @param seat the seat of the player
+   * @return the tile the player stands on
+   */
+  public int getPosition(int game, int seat) {
+    return positions[game * players + seat];
+  }
+
+  /**
+   * Gets the money of a player in a Monopoly game.
+   *
+   * @param game the game index
+   * @param seat the seat of the player
+   * @return the player's money
+   * @throws IllegalStateException if the engine does not play Monopoly
+   */
+  public int getMoney(int game, int seat) {
+    if (money == null) {
+      throw new IllegalStateException("Only Monopoly games have money");
+    }
+    return money[game * players + seat];
+  }
+
+  /**
+   * Checks whether a player in a Monopoly game is in jail.
+   *
+   * @param game the game index
+   * @param seat the seat of the player
+   * @return true if the player is in jail
+   * @throws IllegalStateException if the engine does not play Monopoly
+   */
+  public boolean isInJail(int game, int seat) {
+    if (inJail == null) {
+      throw new IllegalStateException("Only Monopoly games have a jail");
+    }
+    return inJail[game * players + seat];
+  }
+}
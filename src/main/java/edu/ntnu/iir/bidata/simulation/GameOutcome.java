@@ -0,0 +1,15 @@
+package edu.ntnu.iir.bidata.simulation;
+
+/**
+ * How a simulated game ended.
+ *
+ * <p>Only {@link #WON} games have a winner. The other two outcomes are censored games: they
+ * were stopped before anyone won, so their length is only a lower bound on how long they would
+ * have lasted, and they are counted apart from the finished games in a
+ * {@link SimulationSummary}.
+ */
+public enum GameOutcome {
+  WON,
+  TURN_LIMIT,
+  STALEMATE
+}
@@ -0,0 +1,319 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.CardDeck;
+import edu.ntnu.iir.bidata.model.CompiledBoard;
+import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.model.games.MonopolyGame;
+import java.util.Arrays;
+
+/**
+ * Computes the long-run landing probabilities of a Monopoly board as a Markov chain.
+ *
+ * <p>The chain follows one player from roll to roll, with the same rules as
+ * {@link edu.ntnu.iir.bidata.model.games.MonopolyGame}: a move wraps around the board, landing
+ * on a go-to-jail tile moves the player to the jail and locks them in, and a locked-in player
+ * only moves again after rolling doubles. Doubles otherwise only give the player another roll,
+ * and since {@code MonopolyGame} has no limit on doubles in a row, the number of doubles rolled
+ * so far never changes where the next roll leads. The state is therefore the tile together
+ * with a jail flag.
+ *
+ * <p>Chance and Treasury cards that move the player are part of the chain. The games draw from
+ * a deck that was shuffled once and is then drawn in a fixed cycle, so in the long run every
+ * card is drawn equally often, and the chain treats each draw as a uniformly random card of
+ * the deck.
+ *
+ * <p>The transitions are stored as a sparse matrix in compressed-row form, and the stationary
+ * distribution is found by power iteration from a player standing on GO. The iteration uses
+ * the lazy chain {@code (I + P) / 2}, which has the same stationary distribution but always
+ * converges, even on boards where the plain chain would alternate between tiles.
+ */
+public class MonopolyMarkovSolver {
+  private static final int START_POSITION = 0;
+  private static final double TOLERANCE = 1e-13;
+  private static final int MAX_ITERATIONS = 1_000_000;
+
+  private final int tileCount;
+  private final double[] doublesSums;
+  private final double[] otherSums;
+  private final CompiledBoard board;
+  private final int jailPosition;
+  private final CardDeck chance;
+  private final CardDeck treasury;
+  private final int[] rowStart;
+  private final int[] columns;
+  private final double[] probabilities;
+
+  private double[] stationary;
+  private int iterations;
+
+  /**
+   * Builds the transition matrix of the given board.
+   *
+   * @param board the board to solve, with tiles numbered from 0
+   * @param dice  the dice rolled each turn; only the number of dice and sides are used
+   * @throws IllegalArgumentException if the board is missing a tile or there are fewer
+   *                                  than two dice
+   */
+  public MonopolyMarkovSolver(Board board, Dice dice) {
+    if (dice.getNumberOfDice() < 2) {
+      throw new IllegalArgumentException("Monopoly needs at least two dice to roll doubles");
+    }
+    this.board = MonopolySimulator.compile(board);
+    this.tileCount = this.board.getTileCount();
+    this.jailPosition = this.board.getJailPosition();
+    this.chance = new CardDeck(CardDeck.standardChance(), this.board);
+    this.treasury = new CardDeck(CardDeck.standardTreasury(), this.board);
+
+    // Split the sum distribution by whether the first two dice show the same face
+    int sides = dice.getSides();
+    double[] rest = SnakesAndLaddersMarkovSolver.sumDistribution(
+            dice.getNumberOfDice() - 2, sides);
+    int maxSum = dice.getNumberOfDice() * sides;
+    this.doublesSums = new double[maxSum + 1];
+    this.otherSums = new double[maxSum + 1];
+    double pairProbability = 1.0 / ((double) sides * sides);
+    for (int first = 1; first <= sides; first++) {
+      for (int second = 1; second <= sides; second++) {
+        double[] target = first == second ? doublesSums : otherSums;
+        for (int restSum = 0; restSum < rest.length; restSum++) {
+          target[first + second + restSum] += pairProbability * rest[restSum];
+        }
+      }
+    }
+
+    double staysLocked = 0;
+    for (double probability : otherSums) {
+      staysLocked += probability;
+    }
+
+    // State 2 * tile is a free player on the tile, 2 * tile + 1 a player locked in jail there
+    int stateCount = 2 * tileCount;
+    this.rowStart = new int[stateCount + 1];
+    int[] cols = new int[stateCount * 2 * (maxSum + 1)];
+    double[] probs = new double[cols.length];
+    int entries = 0;
+    for (int state = 0; state < stateCount; state++) {
+      // A row never has more entries than there are states
+      if (cols.length - entries < stateCount) {
+        cols = Arrays.copyOf(cols, Math.max(cols.length * 2, entries + stateCount));
+        probs = Arrays.copyOf(probs, cols.length);
+      }
+      rowStart[state] = entries;
+      int tile = state / 2;
+      boolean locked = state % 2 == 1;
+      for (int sum = 0; sum <= maxSum; sum++) {
+        double moving = locked ? doublesSums[sum] : doublesSums[sum] + otherSums[sum];
+        if (moving > 0) {
+          int landing = (tile + sum) % tileCount;
+          entries = addLanding(cols, probs, rowStart[state], entries, landing, moving, 0);
+        }
+      }
+      if (locked) {
+        entries = addEntry(cols, probs, rowStart[state], entries, state, staysLocked);
+      }
+    }
+    rowStart[stateCount] = entries;
+    this.columns = Arrays.copyOf(cols, entries);
+    this.probabilities = Arrays.copyOf(probs, entries);
+  }
+
+  /**
+   * Adds the states a player landing on a tile ends up in to the current row, splitting the
+   * probability over the cards of a Chance or Treasury deck the same way the games follow them.
+   *
+   * @param cols        the column of every entry
+   * @param probs       the probability of every entry
+   * @param rowStart    the first entry of the current row
+   * @param entries     the number of entries so far
+   * @param tile        the tile the player lands on
+   * @param probability the probability of landing there
+   * @param draws       the number of cards drawn so far this turn
+   * @return the number of entries after adding
+   */
+  private int addLanding(
+          int[] cols, double[] probs, int rowStart, int entries, int tile, double probability,
+          int draws
+  ) {
+    byte actionKind = board.getActionKind(tile);
+    if (actionKind == CompiledBoard.GO_TO_JAIL) {
+      return addEntry(cols, probs, rowStart, entries, jailState(tile), probability);
+    }
+    boolean drawsCard = actionKind == CompiledBoard.CHANCE || actionKind == CompiledBoard.TREASURY;
+    CardDeck deck = actionKind == CompiledBoard.CHANCE ? chance : treasury;
+    if (!drawsCard || draws >= MonopolyGame.MAX_CARDS_PER_TURN || deck.getSize() == 0) {
+      return addEntry(cols, probs, rowStart, entries, 2 * tile, probability);
+    }
+
+    double perCard = probability / deck.getSize();
+    for (int i = 0; i < deck.getSize(); i++) {
+      int card = deck.getCard(i);
+      int target = deck.getMoveTarget(card, tile);
+      if (CardDeck.opcode(card) == CardDeck.GO_TO_JAIL) {
+        entries = addEntry(cols, probs, rowStart, entries, jailState(tile), perCard);
+      } else if (target != -1) {
+        entries = addLanding(cols, probs, rowStart, entries, target, perCard, draws + 1);
+      } else {
+        entries = addEntry(cols, probs, rowStart, entries, 2 * tile, perCard);
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Finds the state of a player sent to jail.
+   *
+   * @param tile the tile the player was sent from
+   * @return the locked state on the jail tile, or on the tile itself if the board has no jail
+   */
+  private int jailState(int tile) {
+    int jail = jailPosition == -1 ? tile : jailPosition;
+    return 2 * jail + 1;
+  }
+
+  /**
+   * Adds probability to an entry in the current row, creating the entry if it is new.
+   *
+   * @param cols        the column of every entry
+   * @param probs       the probability of every entry
+   * @param rowStart    the first entry of the current row
+   * @param entries     the number of entries so far
+   * @param column      the column to add to
+   * @param probability the probability to add
+   * @return the number of entries after adding
+   */
+  private static int addEntry(
+          int[] cols, double[] probs, int rowStart, int entries, int column, double probability
+  ) {
+    int existing = rowStart;
+    while (existing < entries && cols[existing] != column) {
+      existing++;
+    }
+    if (existing == entries) {
+      cols[entries] = column;
+      entries++;
+    }
+    probs[existing] += probability;
+    return entries;
+  }
+
+  /**
+   * Runs the power iteration until the distribution stops changing.
+   *
+   * @return the stationary probability of every state
+   */
+  private double[] solveStationary() {
+    double[] current = new double[2 * tileCount];
+    double[] next = new double[2 * tileCount];
+    current[2 * START_POSITION] = 1;
+    for (iterations = 1; iterations <= MAX_ITERATIONS; iterations++) {
+      for (int state = 0; state < current.length; state++) {
+        next[state] = 0.5 * current[state];
+      }
+      for (int state = 0; state < current.length; state++) {
+        double mass = 0.5 * current[state];
+        if (mass == 0) {
+          continue;
+        }
+        for (int e = rowStart[state]; e < rowStart[state + 1]; e++) {
+          next[columns[e]] += mass * probabilities[e];
+        }
+      }
+      double change = 0;
+      for (int state = 0; state < current.length; state++) {
+        change += Math.abs(next[state] - current[state]);
+      }
+      double[] swap = current;
+      current = next;
+      next = swap;
+      if (change < TOLERANCE) {
+        return current;
+      }
+    }
+    throw new IllegalStateException("Stationary distribution did not converge");
+  }
+
+  /**
+   * Gets the stationary distribution, solving it on first use.
+   *
+   * @return the stationary probability of every state
+   */
+  private double[] stationary() {
+    if (stationary == null) {
+      stationary = solveStationary();
+    }
+    return stationary;
+  }
+
+  /**
+   * Gets the long-run probability that a player stands on each tile after a roll.
+   * Players locked in jail count towards the jail tile.
+   *
+   * @return the occupancy of every tile, indexed by tile id
+   */
+  public double[] getTileOccupancy() {
+    double[] states = stationary();
+    double[] occupancy = new double[tileCount];
+    for (int tile = 0; tile < tileCount; tile++) {
+      occupancy[tile] = states[2 * tile] + states[2 * tile + 1];
+    }
+    return occupancy;
+  }
+
+  /**
+   * Gets the long-run probability that a roll lands on each tile.
+   * A landing on a go-to-jail tile counts for that tile, not for the jail, a landing on a card
+   * tile counts for that tile even if a card moves the player on, and a roll that leaves a
+   * player locked in jail does not land anywhere.
+   *
+   * @return the landing probability per roll, indexed by tile id
+   */
+  public double[] getLandingProbabilities() {
+    double[] states = stationary();
+    double[] landings = new double[tileCount];
+    for (int state = 0; state < states.length; state++) {
+      if (states[state] == 0) {
+        continue;
+      }
+      int tile = state / 2;
+      boolean locked = state % 2 == 1;
+      for (int sum = 0; sum < doublesSums.length; sum++) {
+        double moving = locked ? doublesSums[sum] : doublesSums[sum] + otherSums[sum];
+        landings[(tile + sum) % tileCount] += states[state] * moving;
+      }
+    }
+    return landings;
+  }
+
+  /**
+   * Gets the long-run probability that a player is locked in jail after a roll.
+   *
+   * @return the probability of being in jail
+   */
+  public double getJailProbability() {
+    double[] states = stationary();
+    double inJail = 0;
+    for (int tile = 0; tile < tileCount; tile++) {
+      inJail += states[2 * tile + 1];
+    }
+    return inJail;
+  }
+
+  /**
+   * Gets the number of power iterations the solution needed.
+   *
+   * @return the iteration count, or 0 if nothing has been solved yet
+   */
+  public int getIterations() {
+    return stationary == null ? 0 : iterations;
+  }
+
+  /**
+   * Gets the number of non-zero entries in the transition matrix.
+   *
+   * @return the number of stored transitions
+   */
+  public int getTransitionCount() {
+    return columns.length;
+  }
+}
@@ -0,0 +1,31 @@
+package edu.ntnu.iir.bidata.simulation;
+
+/**
+ * The outcome of a single headless Monopoly game.
+ *
+ * <p>The jail-time histogram counts finished jail stays by their length, so
+ * {@code jailTimeHistogram[3]} is the number of times a player spent exactly three of their
+ * own turns in jail before rolling doubles. Stays that were still going on when the game
+ * ended are not counted.
+ *
+ * <p>A game that hit its turn budget or stopped making progress has no winner. Its outcome
+ * tells why it was stopped, and it should be counted apart from finished games.
+ *
+ * @param turns              the total number of turns taken by all players
+ * @param winnerSeat         the index of the winning player in the seating order, or -1 if the
+ *                           game was stopped without a winner
+ * @param finalMoney         the money each seat had when the game ended
+ * @param bankrolls          the money of each seat after every turn, indexed by seat and then
+ *                           by turn, or null if trajectories were not recorded
+ * @param jailTimeHistogram  the number of finished jail stays of each length in turns
+ * @param outcome            whether the game was won or why it was stopped
+ */
+public record MonopolyResult(
+        int turns,
+        int winnerSeat,
+        int[] finalMoney,
+        int[][] bankrolls,
+        int[] jailTimeHistogram,
+        GameOutcome outcome
+) {
+}
@@ -0,0 +1,495 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.CardDeck;
+import edu.ntnu.iir.bidata.model.CompiledBoard;
+import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.model.PropertyOwnership;
+import edu.ntnu.iir.bidata.model.RentTable;
+import edu.ntnu.iir.bidata.model.games.MonopolyGame;
+import java.util.Arrays;
+
+/**
+ * Plays complete Monopoly games without any game or UI objects.
+ *
+ * <p>The board is compiled once into a {@link CompiledBoard}, so finding a go-to-jail tile is
+ * an array lookup and the jail tile is looked up a single time. During a game, each player's
+ * position, money and jail state live in primitive arrays indexed by seat. The rules are the
+ * same as in {@link MonopolyGame}: players start on GO with
+ * {@link MonopolyGame#STARTING_MONEY}, passing GO pays {@link MonopolyGame#PASSING_GO_MONEY},
+ * doubles give another roll or a way out of jail, properties are bought when affordable and
+ * charge rent from the {@link RentTable}, Chance and Treasury tiles draw from decks shuffled
+ * with the dice's generator, income tax tiles take their tax, and the first player to hold
+ * {@link MonopolyGame#WINNING_MONEY} after their turn wins.
+ *
+ * <p>A game that does not finish is stopped and reported without a winner, with a
+ * {@link GameOutcome} that tells why. Every game stops when it reaches the turn budget of the
+ * simulator. A repeated state does not prove that a game with dice can never end, so the
+ * board is first checked for a way for any seat to gain money. Only on a board where no seat
+ * ever can, and no game can therefore be won, is the state of the game hashed at the end of
+ * every round and passed to a {@link StalemateDetector}, which stops the game as a stalemate
+ * once it has gone back to a state it was in before. On every other board games are only
+ * stopped by the turn budget.
+ */
+public class MonopolySimulator {
+  /**
+   * The turn budget of a simulator that plays every game until it is won or stalemated.
+   */
+  public static final int NO_TURN_LIMIT = Integer.MAX_VALUE;
+
+  private static final int START_POSITION = 0;
+  private static final int CARD_STAYED = 0;
+  private static final int CARD_MOVED = 1;
+  private static final int CARD_JAILED = 2;
+
+  private final int tileCount;
+  private final CompiledBoard board;
+  private final RentTable rentTable;
+  private final int jailPosition;
+  private final int playerCount;
+  private final Dice dice;
+  private final boolean recordBankrolls;
+  private final int maxTurns;
+  private final boolean detectStalemates;
+
+  /**
+   * Creates a simulator for the given board that does not record bankroll trajectories.
+   *
+   * @param board       the board to play on, with tiles numbered from 0
+   * @param playerCount the number of players in each game
+   * @param dice        the dice to roll each turn, with at least two dice
+   * @throws IllegalArgumentException if the board is missing a tile or the player count is not
+   *                                  between 1 and 127
+   */
+  public MonopolySimulator(Board board, int playerCount, Dice dice) {
+    this(board, playerCount, dice, false);
+  }
+
+  /**
+   * Creates a simulator for the given board.
+   *
+   * @param board           the board to play on, with tiles numbered from 0
+   * @param playerCount     the number of players in each game
+   * @param dice            the dice to roll each turn, with at least two dice
+   * @param recordBankrolls whether to record the money of every seat after every turn
+   * @throws IllegalArgumentException if the board is missing a tile or the player count is not
+   *                                  between 1 and 127
+   */
+  public MonopolySimulator(Board board, int playerCount, Dice dice, boolean recordBankrolls) {
+    this(board, playerCount, dice, recordBankrolls, NO_TURN_LIMIT);
+  }
+
+  /**
+   * Creates a simulator for the given board with a turn budget for every game.
+   *
+   * @param board           the board to play on, with tiles numbered from 0
+   * @param playerCount     the number of players in each game
+   * @param dice            the dice to roll each turn, with at least two dice
+   * @param recordBankrolls whether to record the money of every seat after every turn
+   * @param maxTurns        the number of turns after which a game without a winner is stopped,
+   *                        or {@link #NO_TURN_LIMIT}
+   * @throws IllegalArgumentException if the board is missing a tile, the player count is not
+   *                                  between 1 and 127 or the turn budget is not positive
+   */
+  public MonopolySimulator(Board board, int playerCount, Dice dice, boolean recordBankrolls,
+          int maxTurns) {
+    if (playerCount < 1 || playerCount > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("Player count must be between 1 and " + Byte.MAX_VALUE);
+    }
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Turn budget must be positive");
+    }
+    this.board = compile(board);
+    this.rentTable = this.board.getRentTable();
+    this.tileCount = this.board.getTileCount();
+    this.jailPosition = this.board.getJailPosition();
+    this.playerCount = playerCount;
+    this.dice = dice;
+    this.recordBankrolls = recordBankrolls;
+    this.maxTurns = maxTurns;
+    this.detectStalemates = !canGainMoney(this.board, dice);
+  }
+
+  /**
+   * Compiles a Monopoly board and checks that it can be played.
+   *
+   * @param board the board to compile
+   * @return the compiled board
+   * @throws IllegalArgumentException if the board is missing a tile
+   */
+  static CompiledBoard compile(Board board) {
+    CompiledBoard compiled = new CompiledBoard(board);
+    compiled.requireTiles(0, compiled.getTileCount() - 1);
+    return compiled;
+  }
+
+  /**
+   * Checks whether any seat could ever gain money on a Monopoly board, by following every tile
+   * a seat can reach from GO with the given dice. Seats gain money by passing GO from a tile
+   * other than GO, from rent and from Chance and Treasury cards, so the check looks for a move
+   * past the last tile that starts after GO, and for a property, Chance or Treasury tile that
+   * can be landed on. Every dice sum is followed from every tile reached, including the jail,
+   * so the check can find money that is never really gained, but never misses any.
+   *
+   * <p>When no seat can gain money, nobody ever reaches {@link MonopolyGame#WINNING_MONEY} and
+   * a game on the board can never be won.
+   *
+   * @param board the compiled board
+   * @param dice  the dice the games are rolled with
+   * @return true if some seat could gain money
+   */
+  static boolean canGainMoney(CompiledBoard board, Dice dice) {
+    int tileCount = board.getTileCount();
+    int jailPosition = board.getJailPosition();
+    int minSum = dice.getNumberOfDice();
+    int maxSum = dice.getNumberOfDice() * dice.getSides();
+    boolean[] reached = new boolean[tileCount];
+    int[] queue = new int[tileCount];
+    int queued = 0;
+    reached[START_POSITION] = true;
+    queue[queued++] = START_POSITION;
+    for (int next = 0; next < queued; next++) {
+      int position = queue[next];
+      for (int sum = minSum; sum <= maxSum; sum++) {
+        int landed = (position + sum) % tileCount;
+        if (position > 0 && landed < position) {
+          return true;
+        }
+        byte actionKind = board.getActionKind(landed);
+        if (actionKind == CompiledBoard.PROPERTY || actionKind == CompiledBoard.CHANCE
+                || actionKind == CompiledBoard.TREASURY) {
+          return true;
+        }
+        if (actionKind == CompiledBoard.GO_TO_JAIL && jailPosition != -1) {
+          landed = jailPosition;
+        }
+        if (!reached[landed]) {
+          reached[landed] = true;
+          queue[queued++] = landed;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Plays one complete game from GO until a player wins or the game is stopped.
+   *
+   * @return the result of the game
+   */
+  public MonopolyResult playGame() {
+    return playGame(dice);
+  }
+
+  /**
+   * Plays one complete game from GO until a player wins or the game is stopped.
+   * Simulators hold no per-game state, so one simulator can play many games at once
+   * on different threads as long as each thread rolls its own dice.
+   *
+   * @param dice the dice to roll each turn
+   * @return the result of the game
+   */
+  public MonopolyResult playGame(Dice dice) {
+    int[] positions = new int[playerCount];
+    Arrays.fill(positions, START_POSITION);
+    int[] money = new int[playerCount];
+    Arrays.fill(money, MonopolyGame.STARTING_MONEY);
+    boolean[] inJail = new boolean[playerCount];
+    int[] jailTurns = new int[playerCount];
+    int[] jailTimeHistogram = new int[8];
+    int[] bankrollLog = recordBankrolls ? new int[64 * playerCount] : null;
+    PropertyOwnership properties = new PropertyOwnership(rentTable, playerCount);
+    CardDeck chance = new CardDeck(CardDeck.standardChance(), board);
+    CardDeck treasury = new CardDeck(CardDeck.standardTreasury(), board);
+    chance.shuffle(dice.getRandom());
+    treasury.shuffle(dice.getRandom());
+    StalemateDetector stalemates = detectStalemates ? new StalemateDetector() : null;
+
+    int seat = 0;
+    int turns = 0;
+    while (true) {
+      int seatThatMadeTurn = seat;
+
+      dice.rollAll();
+      int sum = dice.getSum();
+      boolean rolledEqual = dice.getFace(0) == dice.getFace(1);
+
+      boolean escapedJail = false;
+      if (inJail[seat]) {
+        jailTurns[seat]++;
+        if (rolledEqual) {
+          escapedJail = true;
+          inJail[seat] = false;
+          jailTimeHistogram = recordJailStay(jailTimeHistogram, jailTurns[seat]);
+        }
+      }
+
+      if (inJail[seat]) {
+        seat = (seat + 1) % playerCount;
+      } else {
+        int oldPosition = positions[seat];
+        int newPosition = (oldPosition + sum) % tileCount;
+        if (oldPosition > 0 && newPosition < oldPosition) {
+          money[seat] += MonopolyGame.PASSING_GO_MONEY;
+        }
+        positions[seat] = newPosition;
+
+        if (resolveLanding(positions, money, properties, chance, treasury, seat, sum)) {
+          inJail[seat] = true;
+          jailTurns[seat] = 0;
+          if (jailPosition != -1) {
+            positions[seat] = jailPosition;
+          }
+          seat = (seat + 1) % playerCount;
+        } else if (!rolledEqual || escapedJail) {
+          seat = (seat + 1) % playerCount;
+        }
+      }
+
+      if (bankrollLog != null) {
+        bankrollLog = recordBankrolls(bankrollLog, turns, money);
+      }
+      turns++;
+
+      GameOutcome outcome = null;
+      if (money[seatThatMadeTurn] >= MonopolyGame.WINNING_MONEY) {
+        outcome = GameOutcome.WON;
+      } else if (turns >= maxTurns) {
+        outcome = GameOutcome.TURN_LIMIT;
+      } else if (detectStalemates && seat == 0 && seatThatMadeTurn == playerCount - 1
+              && stalemates.check(
+                      stateHash(positions, money, inJail, properties, chance, treasury))) {
+        outcome = GameOutcome.STALEMATE;
+      }
+      if (outcome != null) {
+        return new MonopolyResult(
+                turns,
+                outcome == GameOutcome.WON ? seatThatMadeTurn : -1,
+                money,
+                bankrollLog == null ? null : splitBankrolls(bankrollLog, turns),
+                jailTimeHistogram,
+                outcome
+        );
+      }
+    }
+  }
+
+  /**
+   * Hashes the state of a game: where every seat stands, its money, whether it is in jail,
+   * which properties it owns and where both decks are.
+   *
+   * @param positions  the position of every seat
+   * @param money      the money of every seat
+   * @param inJail     the jail flag of every seat
+   * @param properties the owners of the properties in the game
+   * @param chance     the Chance deck of the game
+   * @param treasury   the Treasury deck of the game
+   * @return the hash of the state
+   */
+  private long stateHash(int[] positions, int[] money, boolean[] inJail,
+          PropertyOwnership properties, CardDeck chance, CardDeck treasury) {
+    long hash = StalemateDetector.EMPTY_HASH;
+    for (int s = 0; s < playerCount; s++) {
+      hash = StalemateDetector.mix(hash, positions[s]);
+      hash = StalemateDetector.mix(hash, money[s]);
+      hash = StalemateDetector.mix(hash, inJail[s] ? 1 : 0);
+      for (int word = 0; word < rentTable.getWords(); word++) {
+        hash = StalemateDetector.mix(hash, properties.getOwnedBits(0, s, word));
+      }
+    }
+    hash = StalemateDetector.mix(hash, chance.getCursor(0));
+    return StalemateDetector.mix(hash, treasury.getCursor(0));
+  }
+
+  /**
+   * Applies the action of the tile a seat stands on, following cards that move the seat the
+   * same way as {@link MonopolyGame}.
+   *
+   * @param positions  the position of every seat
+   * @param money      the money of every seat
+   * @param properties the owners of the properties in the game
+   * @param chance     the Chance deck of the game
+   * @param treasury   the Treasury deck of the game
+   * @param seat       the seat that moved
+   * @param diceSum    the dice sum of the turn
+   * @return true if the seat must go to jail
+   */
+  private boolean resolveLanding(int[] positions, int[] money, PropertyOwnership properties,
+          CardDeck chance, CardDeck treasury, int seat, int diceSum) {
+    for (int draws = 0; ; draws++) {
+      int position = positions[seat];
+      byte actionKind = board.getActionKind(position);
+      if (actionKind == CompiledBoard.GO_TO_JAIL) {
+        return true;
+      } else if (actionKind == CompiledBoard.PROPERTY) {
+        landOnProperty(properties, money, seat, position, diceSum);
+      } else if (actionKind == CompiledBoard.INCOME_TAX) {
+        money[seat] -= Math.min(board.getTaxAmount(position), money[seat]);
+      } else if ((actionKind == CompiledBoard.CHANCE || actionKind == CompiledBoard.TREASURY)
+              && draws < MonopolyGame.MAX_CARDS_PER_TURN) {
+        CardDeck deck = actionKind == CompiledBoard.CHANCE ? chance : treasury;
+        int outcome = applyCard(deck, positions, money, seat, deck.draw());
+        if (outcome == CARD_JAILED) {
+          return true;
+        } else if (outcome == CARD_MOVED) {
+          continue;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Applies the effect of a card to a seat.
+   *
+   * @param deck      the deck the card was drawn from
+   * @param positions the position of every seat
+   * @param money     the money of every seat
+   * @param seat      the seat that drew the card
+   * @param card      the card
+   * @return whether the card left the seat in place, moved it or sent it to jail
+   */
+  private int applyCard(CardDeck deck, int[] positions, int[] money, int seat, int card) {
+    int argument = CardDeck.argument(card);
+    switch (CardDeck.opcode(card)) {
+      case CardDeck.ADVANCE_TO, CardDeck.MOVE_BY, CardDeck.ADVANCE_TO_NEAREST -> {
+        int position = positions[seat];
+        int target = deck.getMoveTarget(card, position);
+        if (CardDeck.movesForward(card) && position > 0 && target < position) {
+          money[seat] += MonopolyGame.PASSING_GO_MONEY;
+        }
+        positions[seat] = target;
+        return CARD_MOVED;
+      }
+      case CardDeck.GO_TO_JAIL -> {
+        return CARD_JAILED;
+      }
+      case CardDeck.COLLECT -> money[seat] += argument;
+      case CardDeck.PAY -> money[seat] -= Math.min(argument, money[seat]);
+      case CardDeck.PAY_EACH -> {
+        for (int other = 0; other < playerCount; other++) {
+          if (other != seat) {
+            int amount = Math.min(argument, money[seat]);
+            money[seat] -= amount;
+            money[other] += amount;
+          }
+        }
+      }
+      case CardDeck.COLLECT_FROM_EACH -> {
+        for (int other = 0; other < playerCount; other++) {
+          if (other != seat) {
+            int amount = Math.min(argument, money[other]);
+            money[other] -= amount;
+            money[seat] += amount;
+          }
+        }
+      }
+      default -> {
+        // A card without an effect
+      }
+    }
+    return CARD_STAYED;
+  }
+
+  /**
+   * Buys an unowned property if the seat can afford it, or pays rent to the owner, the same way
+   * as {@link MonopolyGame}.
+   *
+   * @param properties the owners of the properties in the game
+   * @param money      the money of every seat
+   * @param seat       the seat that landed on the property
+   * @param tileId     the tile id of the property
+   * @param diceSum    the dice sum of the roll that landed on the property
+   */
+  private void landOnProperty(PropertyOwnership properties, int[] money, int seat, int tileId,
+          int diceSum) {
+    int owner = properties.getOwner(tileId);
+    if (owner == PropertyOwnership.NO_OWNER) {
+      int price = rentTable.getPrice(tileId);
+      if (money[seat] >= price) {
+        money[seat] -= price;
+        properties.buy(seat, tileId);
+      }
+    } else if (owner != seat) {
+      int rent = Math.min(properties.getRent(tileId, diceSum), money[seat]);
+      money[seat] -= rent;
+      money[owner] += rent;
+    }
+  }
+
+  /**
+   * Counts one finished jail stay, growing the histogram if the stay is longer than any before.
+   *
+   * @param histogram the histogram to update
+   * @param turns     the number of turns the stay lasted
+   * @return the updated histogram, which may be a new array
+   */
+  private static int[] recordJailStay(int[] histogram, int turns) {
+    if (turns >= histogram.length) {
+      histogram = Arrays.copyOf(histogram, Math.max(turns + 1, histogram.length * 2));
+    }
+    histogram[turns]++;
+    return histogram;
+  }
+
+  /**
+   * Appends the money of every seat to the flat bankroll log.
+   *
+   * @param log   the log, holding one block of seats per turn
+   * @param turn  the zero-based turn being recorded
+   * @param money the money of every seat after the turn
+   * @return the updated log, which may be a new array
+   */
+  private int[] recordBankrolls(int[] log, int turn, int[] money) {
+    int offset = turn * playerCount;
+    if (offset + playerCount > log.length) {
+      log = Arrays.copyOf(log, log.length * 2);
+    }
+    System.arraycopy(money, 0, log, offset, playerCount);
+    return log;
+  }
+
+  /**
+   * Splits the flat bankroll log into one trajectory per seat.
+   *
+   * @param log   the log, holding one block of seats per turn
+   * @param turns the number of recorded turns
+   * @return the trajectories, indexed by seat and then by turn
+   */
+  private int[][] splitBankrolls(int[] log, int turns) {
+    int[][] bankrolls = new int[playerCount][turns];
+    for (int turn = 0; turn < turns; turn++) {
+      for (int s = 0; s < playerCount; s++) {
+        bankrolls[s][turn] = log[turn * playerCount + s];
+      }
+    }
+    return bankrolls;
+  }
+
+  /**
+   * Gets the number of tiles on the compiled board.
+   *
+   * @return the tile count
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  /**
+   * Gets the number of players in each game.
+   *
+   * @return the player count
+   */
+  public int getPlayerCount() {
+    return playerCount;
+  }
+
+  /**
+   * Gets the number of turns after which a game without a winner is stopped.
+   *
+   * @return the turn budget, or {@link #NO_TURN_LIMIT}
+   */
+  public int getMaxTurns() {
+    return maxTurns;
+  }
+}
@@ -0,0 +1,158 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs many simulated games of one board in parallel on a fork/join pool.
+ *
+ * <p>Every game rolls with its own stream from {@link RandomSource#gameStream(long, long)},
+ * seeded from the run seed and the index of the game. The stream of a game therefore does not
+ * depend on which thread plays it or in which order, and a run with the same seed and game
+ * count always gives the same summary, no matter how many threads are used.
+ *
+ * <p>The games are split into fixed-size chunks. Each chunk fills its own
+ * {@link SimulationSummary} without any locking, and the summaries are merged as the
+ * fork/join tasks are joined.
+ *
+ * <p>Monopoly games can be given a turn budget. Games stopped by the budget or by stalemate
+ * detection are counted as censored in the summary instead of as finished games.
+ */
+public class MonteCarloRunner {
+  /**
+   * The number of games a single task plays before it stops splitting.
+   */
+  private static final int GAMES_PER_TASK = 256;
+
+  private final GameType gameType;
+  private final int playerCount;
+  private final SnakesAndLaddersSimulator snakesAndLaddersSimulator;
+  private final MonopolySimulator monopolySimulator;
+
+  /**
+   * Creates a runner for the given board and game type.
+   * The board is compiled once and shared by all threads.
+   *
+   * @param board       the board to play on
+   * @param gameType    the rules to play by
+   * @param playerCount the number of players in each game
+   * @throws IllegalArgumentException if the game type is null or the board is not valid
+   */
+  public MonteCarloRunner(Board board, GameType gameType, int playerCount) {
+    this(board, gameType, playerCount, MonopolySimulator.NO_TURN_LIMIT);
+  }
+
+  /**
+   * Creates a runner for the given board and game type with a turn budget for Monopoly games.
+   * The board is compiled once and shared by all threads.
+   *
+   * @param board       the board to play on
+   * @param gameType    the rules to play by
+   * @param playerCount the number of players in each game
+   * @param maxTurns    the number of turns after which a Monopoly game without a winner is
+   *                    stopped, or {@link MonopolySimulator#NO_TURN_LIMIT}
+   * @throws IllegalArgumentException if the game type is null, the board is not valid or the
+   *                                  turn budget is not positive
+   */
+  public MonteCarloRunner(Board board, GameType gameType, int playerCount, int maxTurns) {
+    if (gameType == null) {
+      throw new IllegalArgumentException("Game type cannot be null");
+    }
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Turn budget must be positive");
+    }
+    this.gameType = gameType;
+    this.playerCount = playerCount;
+    Dice defaultDice = new Dice(2, 6);
+    this.snakesAndLaddersSimulator = gameType == GameType.SNAKES_AND_LADDERS
+            ? new SnakesAndLaddersSimulator(board, playerCount, defaultDice)
+            : null;
+    this.monopolySimulator = gameType == GameType.MONOPOLY
+            ? new MonopolySimulator(board, playerCount, defaultDice, false, maxTurns)
+            : null;
+  }
+
+  /**
+   * Plays the given number of games on the common fork/join pool.
+   *
+   * @param games the number of games to play
+   * @param seed  the seed of the run
+   * @return the summary of all games
+   */
+  public SimulationSummary run(int games, long seed) {
+    return ForkJoinPool.commonPool().invoke(new GameRangeTask(seed, 0, games));
+  }
+
+  /**
+   * Plays the given number of games on a dedicated pool with the given number of threads.
+   *
+   * @param games       the number of games to play
+   * @param seed        the seed of the run
+   * @param parallelism the number of threads to use
+   * @return the summary of all games
+   */
+  public SimulationSummary run(int games, long seed, int parallelism) {
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return pool.invoke(new GameRangeTask(seed, 0, games));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Plays one game with its own dice and adds the result to the summary.
+   *
+   * @param summary the summary to add to
+   * @param dice    the dice of this game
+   */
+  private void playInto(SimulationSummary summary, Dice dice) {
+    switch (gameType) {
+      case SNAKES_AND_LADDERS -> summary.accept(snakesAndLaddersSimulator.playGame(dice));
+      case MONOPOLY -> summary.accept(monopolySimulator.playGame(dice));
+    }
+  }
+
+  /**
+   * Fork/join task that plays a range of games, splitting it in half until it is small enough.
+   */
+  private class GameRangeTask extends RecursiveTask<SimulationSummary> {
+    private final long seed;
+    private final int from;
+    private final int to;
+
+    /**
+     * Creates a task for the games with index from (inclusive) to (exclusive).
+     *
+     * @param seed the seed of the run
+     * @param from the first game index
+     * @param to   the game index after the last one
+     */
+    GameRangeTask(long seed, int from, int to) {
+      this.seed = seed;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected SimulationSummary compute() {
+      if (to - from <= GAMES_PER_TASK) {
+        SimulationSummary summary = new SimulationSummary(playerCount);
+        for (int game = from; game < to; game++) {
+          playInto(summary, new Dice(2, 6, RandomSource.gameStream(seed, game)));
+        }
+        return summary;
+      }
+
+      int middle = (from + to) >>> 1;
+      GameRangeTask left = new GameRangeTask(seed, from, middle);
+      left.fork();
+      SimulationSummary right = new GameRangeTask(seed, middle, to).compute();
+      return left.join().merge(right);
+    }
+  }
+}
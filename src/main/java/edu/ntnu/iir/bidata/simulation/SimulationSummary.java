@@ -0,0 +1,273 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated statistics over many simulated games.
+ *
+ * <p>A summary is a mutable accumulator that is not thread-safe. Every worker fills its own
+ * summary and the summaries are combined with {@link #merge(SimulationSummary)} at the end.
+ * All counters are whole numbers, so merging in any order gives exactly the same summary.
+ *
+ * <p>Games that were stopped without a winner are censored: their length only says that the
+ * game would have lasted at least that long. Counting them as finished games would pull the
+ * turn statistics down, so they are only counted by {@link #getCensoredGames()} and its
+ * related getters, and every other statistic covers finished games alone.
+ */
+public class SimulationSummary {
+  private long games;
+  private long totalTurns;
+  private int minTurns = Integer.MAX_VALUE;
+  private int maxTurns;
+  private long[] turnHistogram = new long[64];
+  private long[] winsBySeat;
+  private long[] jailTimeHistogram = new long[0];
+  private long censoredGames;
+  private long stalemateGames;
+  private long censoredTurns;
+
+  /**
+   * Creates an empty summary for games with the given number of players.
+   *
+   * @param playerCount the number of players in each game
+   */
+  public SimulationSummary(int playerCount) {
+    this.winsBySeat = new long[playerCount];
+  }
+
+  /**
+   * Adds the result of a Snakes and Ladders game.
+   *
+   * @param result the result to add
+   */
+  public void accept(SnakesAndLaddersResult result) {
+    addGame(result.turns(), result.winnerSeat());
+  }
+
+  /**
+   * Adds the result of a Monopoly game.
+   *
+   * @param result the result to add
+   */
+  public void accept(MonopolyResult result) {
+    if (result.outcome() != GameOutcome.WON) {
+      addCensored(result.turns(), result.outcome());
+      return;
+    }
+    addGame(result.turns(), result.winnerSeat());
+    int[] stays = result.jailTimeHistogram();
+    jailTimeHistogram = ensureLength(jailTimeHistogram, stays.length);
+    for (int i = 0; i < stays.length; i++) {
+      jailTimeHistogram[i] += stays[i];
+    }
+  }
+
+  /**
+   * Records the turn count and winner of one game.
+   *
+   * @param turns      the number of turns the game lasted
+   * @param winnerSeat the seat that won
+   */
+  void addGame(int turns, int winnerSeat) {
+    games++;
+    totalTurns += turns;
+    minTurns = Math.min(minTurns, turns);
+    maxTurns = Math.max(maxTurns, turns);
+    turnHistogram = ensureLength(turnHistogram, turns + 1);
+    turnHistogram[turns]++;
+    winsBySeat[winnerSeat]++;
+  }
+
+  /**
+   * Records a game that was stopped without a winner.
+   *
+   * @param turns   the number of turns played before the game was stopped
+   * @param outcome why the game was stopped
+   */
+  void addCensored(int turns, GameOutcome outcome) {
+    censoredGames++;
+    censoredTurns += turns;
+    if (outcome == GameOutcome.STALEMATE) {
+      stalemateGames++;
+    }
+  }
+
+  /**
+   * Adds all games of another summary to this one.
+   *
+   * @param other the summary to merge into this one
+   * @return this summary
+   */
+  public SimulationSummary merge(SimulationSummary other) {
+    games += other.games;
+    totalTurns += other.totalTurns;
+    minTurns = Math.min(minTurns, other.minTurns);
+    maxTurns = Math.max(maxTurns, other.maxTurns);
+    turnHistogram = addInto(turnHistogram, other.turnHistogram);
+    winsBySeat = addInto(winsBySeat, other.winsBySeat);
+    jailTimeHistogram = addInto(jailTimeHistogram, other.jailTimeHistogram);
+    censoredGames += other.censoredGames;
+    stalemateGames += other.stalemateGames;
+    censoredTurns += other.censoredTurns;
+    return this;
+  }
+
+  /**
+   * Adds the counts of one array into another, growing the target if needed.
+   *
+   * @param target the array to add into
+   * @param source the array to add
+   * @return the target, which may be a new array
+   */
+  private static long[] addInto(long[] target, long[] source) {
+    target = ensureLength(target, source.length);
+    for (int i = 0; i < source.length; i++) {
+      target[i] += source[i];
+    }
+    return target;
+  }
+
+  /**
+   * Grows an array to at least the given length, doubling to keep growth amortized.
+   *
+   * @param array  the array to grow
+   * @param length the minimum length
+   * @return the array itself if it is long enough, otherwise a larger copy
+   */
+  private static long[] ensureLength(long[] array, int length) {
+    if (array.length >= length) {
+      return array;
+    }
+    return Arrays.copyOf(array, Math.max(length, array.length * 2));
+  }
+
+  /**
+   * Gets the number of finished games in this summary.
+   *
+   * @return the game count, not counting censored games
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the total number of turns over all games.
+   *
+   * @return the total turn count
+   */
+  public long getTotalTurns() {
+    return totalTurns;
+  }
+
+  /**
+   * Gets the mean number of turns per game.
+   *
+   * @return the mean turn count, or 0 if there are no games
+   */
+  public double getMeanTurns() {
+    return games == 0 ? 0 : (double) totalTurns / games;
+  }
+
+  /**
+   * Gets the length of the shortest game.
+   *
+   * @return the minimum turn count, or 0 if there are no games
+   */
+  public int getMinTurns() {
+    return games == 0 ? 0 : minTurns;
+  }
+
+  /**
+   * Gets the length of the longest game.
+   *
+   * @return the maximum turn count
+   */
+  public int getMaxTurns() {
+    return maxTurns;
+  }
+
+  /**
+   * Gets the number of games of each length.
+   *
+   * @return a copy of the histogram, indexed by turn count up to the maximum turn count
+   */
+  public long[] getTurnHistogram() {
+    return Arrays.copyOf(turnHistogram, games == 0 ? 0 : maxTurns + 1);
+  }
+
+  /**
+   * Gets the number of games won by each seat.
+   *
+   * @return a copy of the win counts, indexed by seat
+   */
+  public long[] getWinsBySeat() {
+    return winsBySeat.clone();
+  }
+
+  /**
+   * Gets the number of finished jail stays of each length over all Monopoly games.
+   *
+   * @return a copy of the histogram, indexed by stay length in turns up to the longest stay
+   */
+  public long[] getJailTimeHistogram() {
+    int length = jailTimeHistogram.length;
+    while (length > 0 && jailTimeHistogram[length - 1] == 0) {
+      length--;
+    }
+    return Arrays.copyOf(jailTimeHistogram, length);
+  }
+
+  /**
+   * Gets the number of games that were stopped without a winner.
+   *
+   * @return the censored game count
+   */
+  public long getCensoredGames() {
+    return censoredGames;
+  }
+
+  /**
+   * Gets the number of censored games that were stopped because they stopped making progress.
+   *
+   * @return the stalemated game count
+   */
+  public long getStalemateGames() {
+    return stalemateGames;
+  }
+
+  /**
+   * Gets the number of censored games that were stopped by the turn budget.
+   *
+   * @return the game count that hit the turn budget
+   */
+  public long getTurnLimitGames() {
+    return censoredGames - stalemateGames;
+  }
+
+  /**
+   * Gets the total number of turns played in censored games.
+   *
+   * @return the censored turn count
+   */
+  public long getCensoredTurns() {
+    return censoredTurns;
+  }
+
+  /**
+   * Returns a string representation of the summary.
+   *
+   * @return a string containing the game count, turn statistics, wins and censored games
+   */
+  @Override
+  public String toString() {
+    return "SimulationSummary{"
+            + "games=" + games
+            + ", meanTurns=" + getMeanTurns()
+            + ", minTurns=" + getMinTurns()
+            + ", maxTurns=" + maxTurns
+            + ", winsBySeat=" + Arrays.toString(winsBySeat)
+            + ", censoredGames=" + censoredGames
+            + ", stalemateGames=" + stalemateGames
+            + '}';
+  }
+}
@@ -0,0 +1,380 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.CompiledBoard;
+import edu.ntnu.iir.bidata.model.Dice;
+import java.util.Arrays;
+
+/**
+ * Computes exact game statistics for a Snakes and Ladders board as an absorbing Markov chain.
+ *
+ * <p>The state of a single player is the tile they stand on. From tile {@code p}, a dice sum
+ * {@code s} moves the player to {@code min(p + s, tileCount)}, and a snake or ladder on that
+ * tile is followed once, exactly as in
+ * {@link edu.ntnu.iir.bidata.model.games.SnakesAndLaddersGame}. The last tile is absorbing.
+ *
+ * <p>The transitions are stored as a sparse matrix in compressed-row form, with at most one
+ * entry per distinct dice sum in each row. Expected values are found with Gauss-Seidel sweeps,
+ * which converge in a single sweep on boards without snakes, and distributions are found by
+ * pushing the state vector through the matrix one turn at a time.
+ */
+public class SnakesAndLaddersMarkovSolver {
+  private static final int START_POSITION = 1;
+  private static final double TOLERANCE = 1e-12;
+  private static final int MAX_SWEEPS = 100_000;
+
+  private final int tileCount;
+  private final double[] sumProbabilities;
+  private final int[] rowStart;
+  private final int[] columns;
+  private final double[] probabilities;
+  private final int[] incomingStart;
+  private final int[] incomingRows;
+  private final double[] incomingProbabilities;
+  private final boolean[] reachable;
+
+  private double[] expectedVisits;
+  private double expectedTurns = Double.NaN;
+
+  /**
+   * Builds the transition matrix of the given board.
+   *
+   * @param board the board to solve, with tiles numbered from 1 to the tile count
+   * @param dice  the dice rolled each turn; only the number of dice and sides are used
+   * @throws IllegalArgumentException if the board is not valid or a player starting on it
+   *                                  might never reach the last tile
+   */
+  public SnakesAndLaddersMarkovSolver(Board board, Dice dice) {
+    this.tileCount = board.getTileCount();
+    this.sumProbabilities = sumDistribution(dice.getNumberOfDice(), dice.getSides());
+    CompiledBoard compiled = SnakesAndLaddersSimulator.compile(board);
+
+    // Compressed rows for the transient tiles 1..tileCount-1; the last tile has no row
+    int maxEntries = 0;
+    for (double probability : sumProbabilities) {
+      if (probability > 0) {
+        maxEntries++;
+      }
+    }
+    this.rowStart = new int[tileCount + 1];
+    int[] cols = new int[tileCount * maxEntries];
+    double[] probs = new double[tileCount * maxEntries];
+    int entries = 0;
+    for (int p = 1; p < tileCount; p++) {
+      rowStart[p] = entries;
+      for (int sum = 1; sum < sumProbabilities.length; sum++) {
+        double probability = sumProbabilities[sum];
+        if (probability == 0) {
+          continue;
+        }
+        int target = compiled.getJumpTarget(Math.min(p + sum, tileCount));
+        int existing = rowStart[p];
+        while (existing < entries && cols[existing] != target) {
+          existing++;
+        }
+        if (existing == entries) {
+          cols[entries] = target;
+          entries++;
+        }
+        probs[existing] += probability;
+      }
+    }
+    rowStart[tileCount] = entries;
+    this.columns = Arrays.copyOf(cols, entries);
+    this.probabilities = Arrays.copyOf(probs, entries);
+
+    // The transposed matrix, so each tile can find the tiles leading to it
+    this.incomingStart = new int[tileCount + 2];
+    for (int column : columns) {
+      incomingStart[column + 1]++;
+    }
+    for (int i = 1; i < incomingStart.length; i++) {
+      incomingStart[i] += incomingStart[i - 1];
+    }
+    this.incomingRows = new int[entries];
+    this.incomingProbabilities = new double[entries];
+    int[] fill = Arrays.copyOf(incomingStart, incomingStart.length);
+    for (int p = 1; p < tileCount; p++) {
+      for (int e = rowStart[p]; e < rowStart[p + 1]; e++) {
+        int slot = fill[columns[e]]++;
+        incomingRows[slot] = p;
+        incomingProbabilities[slot] = probabilities[e];
+      }
+    }
+
+    this.reachable = findReachableTiles();
+  }
+
+  /**
+   * Computes the probability of every dice sum by convolving the faces of the dice.
+   *
+   * @param numberOfDice the number of dice
+   * @param sides        the number of sides on each die
+   * @return the probability of each sum, indexed by sum
+   */
+  static double[] sumDistribution(int numberOfDice, int sides) {
+    double[] distribution = {1.0};
+    for (int die = 0; die < numberOfDice; die++) {
+      double[] next = new double[distribution.length + sides];
+      for (int sum = 0; sum < distribution.length; sum++) {
+        for (int face = 1; face <= sides; face++) {
+          next[sum + face] += distribution[sum] / sides;
+        }
+      }
+      distribution = next;
+    }
+    return distribution;
+  }
+
+  /**
+   * Finds the tiles a player can reach from the start, and makes sure every one of them can
+   * still reach the last tile. Otherwise the expected game length would be infinite.
+   * The iterations only sweep these tiles, since nothing else affects the result.
+   *
+   * @return whether each tile can be reached from the start, indexed by tile id
+   * @throws IllegalArgumentException if some reachable tile can never reach the last tile
+   */
+  private boolean[] findReachableTiles() {
+    int[] queue = new int[tileCount + 1];
+
+    // Tiles that can reach the last tile, found by walking the edges backwards
+    boolean[] canFinish = new boolean[tileCount + 1];
+    int head = 0;
+    int tail = 0;
+    canFinish[tileCount] = true;
+    queue[tail++] = tileCount;
+    while (head < tail) {
+      int tile = queue[head++];
+      for (int e = incomingStart[tile]; e < incomingStart[tile + 1]; e++) {
+        if (!canFinish[incomingRows[e]]) {
+          canFinish[incomingRows[e]] = true;
+          queue[tail++] = incomingRows[e];
+        }
+      }
+    }
+
+    // Every tile reachable from the start must be able to finish
+    boolean[] reached = new boolean[tileCount + 1];
+    head = 0;
+    tail = 0;
+    reached[START_POSITION] = true;
+    queue[tail++] = START_POSITION;
+    while (head < tail) {
+      int tile = queue[head++];
+      if (!canFinish[tile]) {
+        throw new IllegalArgumentException(
+                "A player reaching tile " + tile + " can never finish the game");
+      }
+      if (tile == tileCount) {
+        continue;
+      }
+      for (int e = rowStart[tile]; e < rowStart[tile + 1]; e++) {
+        if (!reached[columns[e]]) {
+          reached[columns[e]] = true;
+          queue[tail++] = columns[e];
+        }
+      }
+    }
+    return reached;
+  }
+
+  /**
+   * Gets the expected number of turns a single player needs to reach the last tile.
+   *
+   * @return the expected number of turns from the start tile
+   */
+  public double getExpectedTurns() {
+    if (Double.isNaN(expectedTurns)) {
+      expectedTurns = solveExpectedTurns();
+    }
+    return expectedTurns;
+  }
+
+  /**
+   * Solves {@code E[p] = 1 + sum of Q[p][t] * E[t]} with backward Gauss-Seidel sweeps.
+   * Most transitions lead forward, so sweeping from the end reuses values from the same sweep.
+   *
+   * @return the expected number of turns from the start tile
+   */
+  private double solveExpectedTurns() {
+    if (START_POSITION == tileCount) {
+      return 0;
+    }
+    double[] expected = new double[tileCount + 1];
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double maxChange = 0;
+      for (int p = tileCount - 1; p >= 1; p--) {
+        if (!reachable[p]) {
+          continue;
+        }
+        double value = 1;
+        for (int e = rowStart[p]; e < rowStart[p + 1]; e++) {
+          value += probabilities[e] * expected[columns[e]];
+        }
+        maxChange = Math.max(maxChange, Math.abs(value - expected[p]) / value);
+        expected[p] = value;
+      }
+      if (maxChange < TOLERANCE) {
+        return expected[START_POSITION];
+      }
+    }
+    throw new IllegalStateException("Expected turns did not converge");
+  }
+
+  /**
+   * Gets the expected number of turns a single player starts on each tile.
+   * The start tile counts the first turn, and the last tile is never counted.
+   *
+   * @return the expected visits, indexed by tile id
+   */
+  public double[] getExpectedVisits() {
+    if (expectedVisits == null) {
+      expectedVisits = solveExpectedVisits();
+    }
+    return expectedVisits.clone();
+  }
+
+  /**
+   * Solves {@code N[t] = [t is the start] + sum of N[p] * Q[p][t]} with forward
+   * Gauss-Seidel sweeps over the transposed matrix.
+   *
+   * @return the expected visits, indexed by tile id
+   */
+  private double[] solveExpectedVisits() {
+    double[] visits = new double[tileCount + 1];
+    if (START_POSITION == tileCount) {
+      return visits;
+    }
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double maxChange = 0;
+      for (int t = 1; t < tileCount; t++) {
+        if (!reachable[t]) {
+          continue;
+        }
+        double value = t == START_POSITION ? 1 : 0;
+        for (int e = incomingStart[t]; e < incomingStart[t + 1]; e++) {
+          value += visits[incomingRows[e]] * incomingProbabilities[e];
+        }
+        if (value > 0) {
+          maxChange = Math.max(maxChange, Math.abs(value - visits[t]) / value);
+        }
+        visits[t] = value;
+      }
+      if (maxChange < TOLERANCE) {
+        return visits;
+      }
+    }
+    throw new IllegalStateException("Expected visits did not converge");
+  }
+
+  /**
+   * Gets the expected number of times a single player's dice move lands on each tile
+   * in one game, before a snake or ladder on that tile moves them on.
+   *
+   * @return the expected landings, indexed by tile id
+   */
+  public double[] getExpectedLandings() {
+    double[] visits = getExpectedVisits();
+    double[] landings = new double[tileCount + 1];
+    for (int p = 1; p < tileCount; p++) {
+      if (visits[p] == 0) {
+        continue;
+      }
+      for (int sum = 1; sum < sumProbabilities.length; sum++) {
+        landings[Math.min(p + sum, tileCount)] += visits[p] * sumProbabilities[sum];
+      }
+    }
+    return landings;
+  }
+
+  /**
+   * Gets the probability that a single turn lands on each tile, which is the expected
+   * landings on the tile divided by the expected game length.
+   *
+   * @return the landing probability per turn, indexed by tile id
+   */
+  public double[] getLandingProbabilities() {
+    double[] landings = getExpectedLandings();
+    double turns = getExpectedTurns();
+    for (int tile = 0; tile < landings.length; tile++) {
+      landings[tile] /= turns;
+    }
+    return landings;
+  }
+
+  /**
+   * Gets the distribution of the number of turns a single player needs to finish.
+   * The probability that more than {@code maxTurns} turns are needed is left out, so the
+   * entries sum to slightly less than one when the cut-off is too short.
+   *
+   * @param maxTurns the longest game length to compute
+   * @return the probability of finishing on exactly each turn, indexed by turn count
+   */
+  public double[] getTurnDistribution(int maxTurns) {
+    double[] finished = new double[maxTurns + 1];
+    if (START_POSITION == tileCount) {
+      finished[0] = 1;
+      return finished;
+    }
+    double[] current = new double[tileCount + 1];
+    double[] next = new double[tileCount + 1];
+    current[START_POSITION] = 1;
+    double remaining = 1;
+    for (int turn = 1; turn <= maxTurns && remaining > TOLERANCE; turn++) {
+      Arrays.fill(next, 0);
+      for (int p = 1; p < tileCount; p++) {
+        double mass = current[p];
+        if (mass == 0) {
+          continue;
+        }
+        for (int e = rowStart[p]; e < rowStart[p + 1]; e++) {
+          next[columns[e]] += mass * probabilities[e];
+        }
+      }
+      finished[turn] = next[tileCount];
+      remaining -= next[tileCount];
+      next[tileCount] = 0;
+      double[] swap = current;
+      current = next;
+      next = swap;
+    }
+    return finished;
+  }
+
+  /**
+   * Gets the distribution of the total number of turns in a game with several players,
+   * counting the turns of every player, as reported by {@link SnakesAndLaddersSimulator}.
+   *
+   * <p>Players move independently, so if {@code S(r)} is the probability that one player has
+   * not finished after {@code r} of their own turns, the game ends on seat {@code i} in round
+   * {@code r} with probability {@code S(r)^i * (S(r-1) - S(r)) * S(r-1)^(players-1-i)}.
+   *
+   * @param playerCount the number of players
+   * @param maxRounds   the longest game to compute, in rounds of all players
+   * @return the probability of the game ending after exactly each total turn count
+   */
+  public double[] getGameLengthDistribution(int playerCount, int maxRounds) {
+    double[] single = getTurnDistribution(maxRounds);
+    double[] gameLength = new double[maxRounds * playerCount + 1];
+    double survivedBefore = 1 - single[0];
+    for (int round = 1; round <= maxRounds; round++) {
+      double survived = survivedBefore - single[round];
+      for (int seat = 0; seat < playerCount; seat++) {
+        gameLength[(round - 1) * playerCount + seat + 1] = Math.pow(survived, seat)
+                * single[round]
+                * Math.pow(survivedBefore, playerCount - 1 - seat);
+      }
+      survivedBefore = survived;
+    }
+    return gameLength;
+  }
+
+  /**
+   * Gets the number of non-zero entries in the transition matrix.
+   *
+   * @return the number of stored transitions
+   */
+  public int getTransitionCount() {
+    return columns.length;
+  }
+}
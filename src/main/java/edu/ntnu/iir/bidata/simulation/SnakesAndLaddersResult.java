@@ -0,0 +1,15 @@
+package edu.ntnu.iir.bidata.simulation;
+
+/**
+ * The outcome of a single headless Snakes and Ladders game.
+ *
+ * <p>The landing counts are indexed by tile id, so {@code tileLandings[5]} is the number of
+ * times any player ended a dice move on tile 5, before a snake or ladder on that tile moved
+ * them on. Index 0 is unused since Snakes and Ladders tiles start at 1.
+ *
+ * @param turns        the total number of turns taken by all players
+ * @param winnerSeat   the index of the winning player in the seating order
+ * @param tileLandings how many times a dice move landed on each tile, indexed by tile id
+ */
+public record SnakesAndLaddersResult(int turns, int winnerSeat, int[] tileLandings) {
+}
@@ -0,0 +1,116 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.CompiledBoard;
+import edu.ntnu.iir.bidata.model.Dice;
+import java.util.Arrays;
+
+/**
+ * Plays complete Snakes and Ladders games without any game or UI objects.
+ *
+ * <p>The board is compiled once into a {@link CompiledBoard}, so a turn is a dice roll,
+ * an array lookup and a few integer operations. The rules are the same as in
+ * {@link edu.ntnu.iir.bidata.model.games.SnakesAndLaddersGame}: everyone starts on tile 1,
+ * a move is capped at the last tile, a snake or ladder is followed once and the first player
+ * to stand on the last tile after their turn wins. Given the same dice rolls, the simulator
+ * produces the same winner and turn count as the game.
+ */
+public class SnakesAndLaddersSimulator {
+  private static final int START_POSITION = 1;
+
+  private final int tileCount;
+  private final CompiledBoard board;
+  private final int playerCount;
+  private final Dice dice;
+
+  /**
+   * Creates a simulator for the given board.
+   *
+   * @param board       the board to play on, with tiles numbered from 1 to the tile count
+   * @param playerCount the number of players in each game
+   * @param dice        the dice to roll each turn
+   * @throws IllegalArgumentException if the board is missing a tile, a snake or ladder leads
+   *                                  off the board, or there are no players
+   */
+  public SnakesAndLaddersSimulator(Board board, int playerCount, Dice dice) {
+    if (playerCount < 1) {
+      throw new IllegalArgumentException("Must have at least one player");
+    }
+    this.board = compile(board);
+    this.tileCount = this.board.getTileCount();
+    this.playerCount = playerCount;
+    this.dice = dice;
+  }
+
+  /**
+   * Compiles a Snakes and Ladders board and checks that it can be played.
+   *
+   * @param board the board to compile
+   * @return the compiled board
+   * @throws IllegalArgumentException if the board is missing a tile or a snake or ladder
+   *                                  leads off the board
+   */
+  static CompiledBoard compile(Board board) {
+    CompiledBoard compiled = new CompiledBoard(board);
+    compiled.requireTiles(1, compiled.getTileCount());
+    compiled.requireMovesWithin(1, compiled.getTileCount());
+    return compiled;
+  }
+
+  /**
+   * Plays one complete game from the start position until a player wins.
+   *
+   * @return the result of the game
+   */
+  public SnakesAndLaddersResult playGame() {
+    return playGame(dice);
+  }
+
+  /**
+   * Plays one complete game from the start position until a player wins.
+   * Simulators hold no per-game state, so one simulator can play many games at once
+   * on different threads as long as each thread rolls its own dice.
+   *
+   * @param dice the dice to roll each turn
+   * @return the result of the game
+   */
+  public SnakesAndLaddersResult playGame(Dice dice) {
+    int[] positions = new int[playerCount];
+    Arrays.fill(positions, START_POSITION);
+    int[] tileLandings = new int[tileCount + 1];
+
+    int seat = 0;
+    int turns = 0;
+    while (true) {
+      dice.rollAll();
+      int landing = Math.min(positions[seat] + dice.getSum(), tileCount);
+      tileLandings[landing]++;
+      int position = board.getJumpTarget(landing);
+      positions[seat] = position;
+      turns++;
+
+      if (position == tileCount) {
+        return new SnakesAndLaddersResult(turns, seat, tileLandings);
+      }
+      seat = (seat + 1) % playerCount;
+    }
+  }
+
+  /**
+   * Gets the number of tiles on the compiled board.
+   *
+   * @return the tile count
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  /**
+   * Gets the number of players in each game.
+   *
+   * @return the player count
+   */
+  public int getPlayerCount() {
+    return playerCount;
+  }
+}
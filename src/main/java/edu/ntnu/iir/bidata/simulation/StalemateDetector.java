@@ -0,0 +1,147 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Finds games that have gone back to a state they were in before, for one game or for many
+ * games played side by side.
+ *
+ * <p>The caller hashes the whole state of a game at the end of every round and passes the hash
+ * to {@link #check(int, long)}. The detector uses Brent's cycle detection: it keeps one saved
+ * hash per game, compares every new hash with it, and saves a new hash after a number of
+ * rounds that doubles each time. A game that repeats a cycle of any length is therefore found
+ * within about twice the cycle length plus the rounds before the cycle started, with a single
+ * long and two ints per game and no history.
+ *
+ * <p>Because the dice are random, a repeated state does not prove that a game can never end.
+ * Balances go down as well as up, through rent, taxes and cards, and seats that sit in jail
+ * leave the state unchanged for whole rounds, so a game that can still be won often returns to
+ * an earlier state. The detector must therefore only be used for games that are already known
+ * never to end, such as Monopoly games on a board where no seat can ever gain money, to decide
+ * when to stop them. Games that might still end must rely on a turn budget.
+ *
+ * <p>Games are numbered from 0. The methods without a game argument use game 0.
+ */
+public class StalemateDetector {
+  private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+  private static final int MAX_WINDOW = 1 << 30;
+
+  /**
+   * The hash to start every state hash from with {@link #mix(long, int)}.
+   */
+  public static final long EMPTY_HASH = 0x243F6A8885A308D3L;
+
+  private final long[] savedHashes;
+  private final int[] windows;
+  private final int[] rounds;
+
+  /**
+   * Creates a detector for a single game.
+   */
+  public StalemateDetector() {
+    this(1);
+  }
+
+  /**
+   * Creates a detector for many games.
+   *
+   * @param games the number of games
+   * @throws IllegalArgumentException if there are no games
+   */
+  public StalemateDetector(int games) {
+    if (games < 1) {
+      throw new IllegalArgumentException("Must have at least one game");
+    }
+    this.savedHashes = new long[games];
+    this.windows = new int[games];
+    this.rounds = new int[games];
+    reset();
+  }
+
+  /**
+   * Forgets the states of every game.
+   */
+  public void reset() {
+    for (int game = 0; game < savedHashes.length; game++) {
+      reset(game);
+    }
+  }
+
+  /**
+   * Forgets the states of a game.
+   *
+   * @param game the game
+   */
+  public void reset(int game) {
+    savedHashes[game] = EMPTY_HASH;
+    windows[game] = 1;
+    rounds[game] = -1;
+  }
+
+  /**
+   * Checks the state of game 0 at the end of a round.
+   *
+   * @param stateHash the hash of the whole state of the game
+   * @return true if the game has been in the same state before
+   */
+  public boolean check(long stateHash) {
+    return check(0, stateHash);
+  }
+
+  /**
+   * Checks the state of a game at the end of a round.
+   *
+   * @param game      the game
+   * @param stateHash the hash of the whole state of the game
+   * @return true if the game has been in the same state before
+   */
+  public boolean check(int game, long stateHash) {
+    // A round of -1 means that no state has been saved yet
+    int round = rounds[game];
+    if (round >= 0 && stateHash == savedHashes[game]) {
+      return true;
+    }
+    round++;
+    if (round == 0 || round == windows[game]) {
+      savedHashes[game] = stateHash;
+      if (round > 0 && windows[game] < MAX_WINDOW) {
+        windows[game] *= 2;
+      }
+      round = 0;
+    }
+    rounds[game] = round;
+    return false;
+  }
+
+  /**
+   * Adds a value to a state hash.
+   *
+   * @param hash  the hash so far, starting with {@link #EMPTY_HASH}
+   * @param value the value to add
+   * @return the new hash
+   */
+  public static long mix(long hash, int value) {
+    hash = (hash ^ value) * MULTIPLIER;
+    return hash ^ (hash >>> 29);
+  }
+
+  /**
+   * Adds a long value to a state hash, as its low and then its high half.
+   *
+   * @param hash  the hash so far, starting with {@link #EMPTY_HASH}
+   * @param value the value to add
+   * @return the new hash
+   */
+  public static long mix(long hash, long value) {
+    return mix(mix(hash, (int) value), (int) (value >>> 32));
+  }
+
+  /**
+   * Gets the number of games the detector is kept for.
+   *
+   * @return the game count
+   */
+  public int getGames() {
+    return savedHashes.length;
+  }
+}
@@ -3,21 +3,32 @@ package edu.ntnu.iir.bidata.utils;
 import java.io.FileInputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.scene.image.Image;
 
 /**
  * Utility class for loading images in JavaFX from various sources.
+ *
+ * <p>Loaded images are kept in an {@link LruCache} bounded by their approximate decoded size,
+ * four bytes for every pixel. Every image is decoded at most once at a time, even when several
+ * threads ask for it. Images that are on screen can be pinned with {@link #pinImage(String)} so
+ * they are never evicted.
  */
 public class ImageLoadTester {
+  /**
+   * The approximate number of decoded bytes the unpinned images in the cache may take.
+   */
+  public static final long MAX_CACHE_BYTES = 256L * 1024 * 1024;
+
   // Cache to store loaded images using path as key
-  private static final ConcurrentHashMap<String, Image> imageCache = new ConcurrentHashMap<>();
+  private static final LruCache<String, Image> imageCache =
+          new LruCache<>(MAX_CACHE_BYTES, ImageLoadTester::decodedBytes);
   private static final Logger LOGGER = Logger.getLogger(ImageLoadTester.class.getName());
 
   /**
    * Attempts to load an image using multiple methods.
+   * The image is taken from the cache if it has been loaded before.
    *
    * @param imagePath The path to the image
    * @return The loaded image or null if all methods fail
@@ -26,12 +37,54 @@ public class ImageLoadTester {
     if (imagePath == null) {
       return null;
     }
+    return imageCache.computeIfAbsent(imagePath, ImageLoadTester::loadImage);
+  }
 
-    // Check if image is already in cache
-    if (imageCache.containsKey(imagePath)) {
-      return imageCache.get(imagePath);
-    }
+  /**
+   * Pins an image in the cache so that it is not evicted while it is on screen.
+   * Every pin must be matched by a call to {@link #unpinImage(String)}.
+   *
+   * @param imagePath The path to the image
+   */
+  public static void pinImage(String imagePath) {
+    imageCache.pin(imagePath);
+  }
+
+  /**
+   * Removes a pin added with {@link #pinImage(String)}.
+   *
+   * @param imagePath The path to the image
+   */
+  public static void unpinImage(String imagePath) {
+    imageCache.unpin(imagePath);
+  }
 
+  /**
+   * Gets the image cache, for its size and its hit, miss and eviction counters.
+   *
+   * @return the image cache
+   */
+  public static LruCache<String, Image> getImageCache() {
+    return imageCache;
+  }
+
+  /**
+   * Estimates the number of bytes a decoded image takes, four for every pixel.
+   *
+   * @param image The image
+   * @return The approximate size of the decoded image in bytes
+   */
+  private static long decodedBytes(Image image) {
+    return (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * 4;
+  }
+
+  /**
+   * Loads an image without the cache, trying every method in turn.
+   *
+   * @param imagePath The path to the image
+   * @return The loaded image or null if all methods fail
+   */
+  private static Image loadImage(String imagePath) {
     // Normalize path
     String resourcePath = imagePath;
     if (resourcePath.startsWith("/")) {
@@ -48,7 +101,6 @@ public class ImageLoadTester {
       if (inputStream != null) {
         image = new Image(inputStream);
         if (!image.isError()) {
-          imageCache.put(imagePath, image);
           return image;
         }
       }
@@ -60,7 +112,6 @@ public class ImageLoadTester {
     try {
       image = new Image("file:" + imagePath);
       if (!image.isError()) {
-        imageCache.put(imagePath, image);
         return image;
       }
     } catch (Exception e) {
@@ -71,7 +122,6 @@ public class ImageLoadTester {
     try {
       image = new Image(imagePath);
       if (!image.isError()) {
-        imageCache.put(imagePath, image);
         return image;
       }
     } catch (Exception e) {
@@ -83,7 +133,6 @@ public class ImageLoadTester {
       if (Files.exists(Paths.get(imagePath))) {
         image = new Image(new FileInputStream(imagePath));
         if (!image.isError()) {
-          imageCache.put(imagePath, image);
           return image;
         }
       }
@@ -97,7 +146,6 @@ public class ImageLoadTester {
       if (Files.exists(resourcesPath)) {
         image = new Image(new FileInputStream(resourcesPath.toFile()));
         if (!image.isError()) {
-          imageCache.put(imagePath, image);
           return image;
         }
       }
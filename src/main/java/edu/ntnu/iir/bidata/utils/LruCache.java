@@ -0,0 +1,339 @@
+package edu.ntnu.iir.bidata.utils;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe cache that keeps values up to a total weight and evicts the least recently
+ * used values first.
+ *
+ * <p>Every value has a weight, such as the approximate number of bytes it takes, given by a
+ * weigher function. When the total weight goes over the limit, the least recently used values
+ * are evicted until it fits again. Values can be pinned, for example while they are on screen,
+ * and pinned values are never evicted, even if that leaves the cache over its limit.
+ *
+ * <p>{@link #computeIfAbsent(Object, Function)} loads every key at most once at a time. Threads
+ * that ask for a key while another thread loads it wait for that load instead of loading the
+ * key again. The loading itself runs outside the lock of the cache, so a slow load doesn't
+ * block lookups of other keys. Loaders may return null for values that can't be loaded, and
+ * null is never cached.
+ *
+ * <p>The cache counts hits, misses and evictions, for tuning the weight limit.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class LruCache<K, V> {
+  private final long maxWeight;
+  private final ToLongFunction<V> weigher;
+
+  // Guarded by this: entries in access order, least recently used first
+  private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+  private final Map<K, Integer> pins = new HashMap<>();
+  private long weight;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /**
+   * A cached value and the weight it had when it was added.
+   *
+   * @param value  the value
+   * @param weight the weight of the value
+   */
+  private record Entry<V>(V value, long weight) {
+  }
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param maxWeight the largest total weight of the unpinned values
+   * @param weigher   the function giving the weight of a value, which must not be negative
+   * @throws IllegalArgumentException if the weight limit is negative or the weigher is null
+   */
+  public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+    if (maxWeight < 0) {
+      throw new IllegalArgumentException("Maximum weight cannot be negative");
+    }
+    if (weigher == null) {
+      throw new IllegalArgumentException("Weigher cannot be null");
+    }
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+  }
+
+  /**
+   * Gets the value of a key, loading it if it is not cached. If another thread is already
+   * loading the key, waits for that load instead.
+   *
+   * @param key    the key
+   * @param loader the function that loads the value of a key, returning null if it can't
+   * @return the cached or loaded value, or null if the loader returned null
+   * @throws IllegalArgumentException if the key or the loader is null, or the weigher gives a
+   *                                  negative weight
+   */
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+    if (key == null || loader == null) {
+      throw new IllegalArgumentException("Key and loader cannot be null");
+    }
+    CompletableFuture<V> future;
+    CompletableFuture<V> inProgress;
+    synchronized (this) {
+      Entry<V> entry = entries.get(key);
+      if (entry != null) {
+        hitCount++;
+        return entry.value();
+      }
+      inProgress = loading.get(key);
+      if (inProgress == null) {
+        missCount++;
+        future = new CompletableFuture<>();
+        loading.put(key, future);
+      } else {
+        // Another thread is loading the key, so this lookup doesn't load anything
+        hitCount++;
+        future = inProgress;
+      }
+    }
+    if (inProgress != null) {
+      // Wait outside the lock, which the loading thread needs to add the value
+      return await(inProgress);
+    }
+
+    V value;
+    try {
+      value = loader.apply(key);
+      if (value != null) {
+        put(key, value);
+      }
+    } catch (RuntimeException | Error e) {
+      synchronized (this) {
+        loading.remove(key);
+      }
+      future.completeExceptionally(e);
+      throw e;
+    }
+    synchronized (this) {
+      loading.remove(key);
+    }
+    future.complete(value);
+    return value;
+  }
+
+  /**
+   * Waits for a load started by another thread.
+   *
+   * @param future the future of the load
+   * @return the loaded value, or null if it couldn't be loaded
+   */
+  private V await(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the value of a key if it is cached.
+   *
+   * @param key the key
+   * @return the cached value, or null if the key is not cached
+   */
+  public synchronized V getIfPresent(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    return entry.value();
+  }
+
+  /**
+   * Adds or replaces the value of a key and evicts values if the cache is over its limit.
+   *
+   * @param key   the key
+   * @param value the value
+   * @throws IllegalArgumentException if the key or value is null, or the weigher gives a
+   *                                  negative weight
+   */
+  public void put(K key, V value) {
+    if (key == null || value == null) {
+      throw new IllegalArgumentException("Key and value cannot be null");
+    }
+    long valueWeight = weigher.applyAsLong(value);
+    if (valueWeight < 0) {
+      throw new IllegalArgumentException("Weight cannot be negative");
+    }
+    synchronized (this) {
+      Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight));
+      if (previous != null) {
+        weight -= previous.weight();
+      }
+      weight += valueWeight;
+      evict();
+    }
+  }
+
+  /**
+   * Removes the value of a key. Pins of the key are kept.
+   *
+   * @param key the key
+   */
+  public synchronized void invalidate(K key) {
+    Entry<V> entry = entries.remove(key);
+    if (entry != null) {
+      weight -= entry.weight();
+    }
+  }
+
+  /**
+   * Removes every value. Pins are kept.
+   */
+  public synchronized void invalidateAll() {
+    entries.clear();
+    weight = 0;
+  }
+
+  /**
+   * Pins a key so that its value is not evicted. A key can be pinned several times, for
+   * example by several screens, and stays pinned until it has been unpinned as many times.
+   * A key can be pinned before its value is loaded.
+   *
+   * @param key the key
+   * @throws IllegalArgumentException if the key is null
+   */
+  public synchronized void pin(K key) {
+    if (key == null) {
+      throw new IllegalArgumentException("Key cannot be null");
+    }
+    pins.merge(key, 1, Integer::sum);
+  }
+
+  /**
+   * Removes one pin of a key, and evicts values if the cache is over its limit once the key is
+   * no longer pinned.
+   *
+   * @param key the key
+   * @throws IllegalStateException if the key is not pinned
+   */
+  public synchronized void unpin(K key) {
+    Integer count = pins.get(key);
+    if (count == null) {
+      throw new IllegalStateException("Key is not pinned: " + key);
+    }
+    if (count == 1) {
+      pins.remove(key);
+      evict();
+    } else {
+      pins.put(key, count - 1);
+    }
+  }
+
+  /**
+   * Checks if a key is pinned.
+   *
+   * @param key the key
+   * @return true if the key is pinned at least once
+   */
+  public synchronized boolean isPinned(K key) {
+    return pins.containsKey(key);
+  }
+
+  /**
+   * Evicts the least recently used unpinned values until the total weight is within the limit.
+   */
+  private void evict() {
+    Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+    while (weight > maxWeight && iterator.hasNext()) {
+      Map.Entry<K, Entry<V>> eldest = iterator.next();
+      if (pins.containsKey(eldest.getKey())) {
+        continue;
+      }
+      iterator.remove();
+      weight -= eldest.getValue().weight();
+      evictionCount++;
+    }
+  }
+
+  /**
+   * Gets the largest total weight of the unpinned values.
+   *
+   * @return the weight limit
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Gets the total weight of the cached values.
+   *
+   * @return the weight, which can go over the limit when pinned values don't fit
+   */
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Gets the number of cached values.
+   *
+   * @return the value count
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the number of lookups that found a cached value or a load in progress.
+   *
+   * @return the hit count
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Gets the number of lookups that found nothing, and for
+   * {@link #computeIfAbsent(Object, Function)} had to load the value.
+   *
+   * @return the miss count
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Gets the number of values evicted to keep the cache within its limit.
+   *
+   * @return the eviction count
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Describes the size and the counters of the cache.
+   *
+   * @return the description
+   */
+  @Override
+  public synchronized String toString() {
+    return "LruCache[size=" + entries.size() + ", weight=" + weight + "/" + maxWeight
+            + ", hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+            + ", pinned=" + pins.size() + "]";
+  }
+}
@@ -2,6 +2,8 @@ package edu.ntnu.iir.bidata.utils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class providing various random number generation and random selection functions.
@@ -16,7 +18,24 @@ public class RandomMath {
    * @return A random integer between min (inclusive) and max (exclusive)
    */
   public static int getRandomNumber(int min, int max) {
-    return (int) ((Math.random() * (max - min)) + min);
+    return getRandomNumber(min, max, ThreadLocalRandom.current());
+  }
+
+  /**
+   * Generates a random integer between the specified minimum and maximum values (inclusive of min,
+   * exclusive of max) using the given generator.
+   *
+   * @param min    The minimum value (inclusive)
+   * @param max    The maximum value (exclusive)
+   * @param random The generator to draw from
+   * @return A random integer between min (inclusive) and max (exclusive), or min if the range
+   *         is empty
+   */
+  public static int getRandomNumber(int min, int max, RandomGenerator random) {
+    if (max <= min) {
+      return min;
+    }
+    return random.nextInt(min, max);
   }
 
   /**
@@ -27,9 +46,21 @@ public class RandomMath {
    * @return An Optional containing a random element from the list, or empty if the list is empty
    */
   public static <T> Optional<T> randomPick(List<T> list) {
+    return randomPick(list, ThreadLocalRandom.current());
+  }
+
+  /**
+   * Picks a random element from a list using the given generator.
+   *
+   * @param <T>    The type of elements in the list
+   * @param list   The list to pick from
+   * @param random The generator to draw from
+   * @return An Optional containing a random element from the list, or empty if the list is empty
+   */
+  public static <T> Optional<T> randomPick(List<T> list, RandomGenerator random) {
     if (list.isEmpty()) {
       return Optional.empty();
     }
-    return Optional.of(list.get(getRandomNumber(0, list.size())));
+    return Optional.of(list.get(getRandomNumber(0, list.size(), random)));
   }
 }
@@ -0,0 +1,74 @@
+package edu.ntnu.iir.bidata.utils;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Creates the random generators used by dice, board generation and rendering.
+ *
+ * <p>Everything that rolls or picks at random takes a {@link RandomGenerator}, so the caller
+ * decides where the randomness comes from:
+ * <ul>
+ *   <li>{@link #create()} gives an unseeded generator for normal play.</li>
+ *   <li>{@link #seeded(long)} gives a generator that always produces the same sequence,
+ *   for replays and tests.</li>
+ *   <li>{@link #gameStream(long, long)} gives every game of a parallel run its own
+ *   independent stream, so results do not depend on which thread plays which game.</li>
+ *   <li>{@link #fast(long)} gives a {@link SplitMix64} generator for single-threaded
+ *   simulation loops.</li>
+ * </ul>
+ *
+ * <p>None of the generators are thread-safe. Each game or thread should own its generator
+ * instead of sharing one, which also avoids the contention of a shared {@code Random}.
+ */
+public class RandomSource {
+  /**
+   * The algorithm of the splittable generators, a fast LXM generator with 192 bits of state.
+   */
+  public static final String STREAM_ALGORITHM = "L64X128MixRandom";
+
+  private static final RandomGeneratorFactory<SplittableGenerator> STREAM_FACTORY =
+          RandomGeneratorFactory.of(STREAM_ALGORITHM);
+
+  /**
+   * Creates an unseeded splittable generator.
+   *
+   * @return a new generator with a seed that differs on every call
+   */
+  public static SplittableGenerator create() {
+    return STREAM_FACTORY.create();
+  }
+
+  /**
+   * Creates a splittable generator with a fixed seed.
+   *
+   * @param seed the seed; the same seed always gives the same sequence
+   * @return a new seeded generator
+   */
+  public static SplittableGenerator seeded(long seed) {
+    return STREAM_FACTORY.create(seed);
+  }
+
+  /**
+   * Creates the random stream of a single game in a run.
+   * The game index is mixed into the seed so neighbouring games get unrelated streams.
+   *
+   * @param seed      the seed of the run
+   * @param gameIndex the index of the game in the run
+   * @return a generator that only this game uses
+   */
+  public static SplittableGenerator gameStream(long seed, long gameIndex) {
+    return STREAM_FACTORY.create(SplitMix64.mix(seed + gameIndex * 0x9E3779B97F4A7C15L));
+  }
+
+  /**
+   * Creates a fast generator that is meant to be used by a single thread.
+   *
+   * @param seed the seed; the same seed always gives the same sequence
+   * @return a new SplitMix64 generator
+   */
+  public static RandomGenerator fast(long seed) {
+    return new SplitMix64(seed);
+  }
+}
@@ -0,0 +1,98 @@
+package edu.ntnu.iir.bidata.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Packs rectangles into one larger rectangle, for building texture atlases.
+ *
+ * <p>The rectangles are placed on shelves: sorted from tallest to shortest, they are put side
+ * by side in a row until the row is full, and the next row starts below the tallest rectangle
+ * of the row above. For rectangles of similar height, such as the tile images of a board, this
+ * wastes little space and is fast and simple.
+ */
+public class ShelfPacker {
+  /**
+   * The positions of packed rectangles.
+   *
+   * @param xs     the x-coordinate of every rectangle, or -1 if it did not fit
+   * @param ys     the y-coordinate of every rectangle, or -1 if it did not fit
+   * @param width  the width of the area used by the placed rectangles
+   * @param height the height of the area used by the placed rectangles
+   */
+  public record Layout(int[] xs, int[] ys, int width, int height) {
+    /**
+     * Checks if a rectangle fit in the packed area.
+     *
+     * @param index the index of the rectangle
+     * @return true if the rectangle was placed
+     */
+    public boolean isPlaced(int index) {
+      return xs[index] >= 0;
+    }
+  }
+
+  /**
+   * Packs rectangles into an area of at most the given size.
+   * Rectangles that don't fit are left out and marked as not placed.
+   *
+   * @param widths    the width of every rectangle
+   * @param heights   the height of every rectangle
+   * @param maxWidth  the largest width of the packed area
+   * @param maxHeight the largest height of the packed area
+   * @param padding   the empty space to keep between rectangles
+   * @return the positions of the rectangles
+   * @throws IllegalArgumentException if the arrays differ in length, a size is negative or the
+   *                                  padding is negative
+   */
+  public static Layout pack(int[] widths, int[] heights, int maxWidth, int maxHeight,
+          int padding) {
+    if (widths.length != heights.length) {
+      throw new IllegalArgumentException("Widths and heights must have the same length");
+    }
+    if (maxWidth < 0 || maxHeight < 0 || padding < 0) {
+      throw new IllegalArgumentException("Sizes and padding cannot be negative");
+    }
+    int count = widths.length;
+    Integer[] order = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      if (widths[i] < 0 || heights[i] < 0) {
+        throw new IllegalArgumentException("Rectangle sizes cannot be negative");
+      }
+      order[i] = i;
+    }
+    // Tallest first, so every shelf is about as tall as what it holds
+    Arrays.sort(order, Comparator.comparingInt((Integer i) -> heights[i]).reversed());
+
+    int[] xs = new int[count];
+    int[] ys = new int[count];
+    Arrays.fill(xs, -1);
+    Arrays.fill(ys, -1);
+    int shelfX = 0;
+    int shelfY = 0;
+    int shelfHeight = 0;
+    int usedWidth = 0;
+    int usedHeight = 0;
+    for (int i : order) {
+      if (widths[i] > maxWidth) {
+        continue;
+      }
+      if (shelfX + widths[i] > maxWidth) {
+        // Start a new shelf below the current one
+        shelfY += shelfHeight + padding;
+        shelfX = 0;
+        shelfHeight = 0;
+      }
+      if (shelfY + heights[i] > maxHeight) {
+        continue;
+      }
+      xs[i] = shelfX;
+      ys[i] = shelfY;
+      shelfX += widths[i] + padding;
+      shelfHeight = Math.max(shelfHeight, heights[i]);
+      usedWidth = Math.max(usedWidth, xs[i] + widths[i]);
+      usedHeight = Math.max(usedHeight, ys[i] + heights[i]);
+    }
+    return new Layout(xs, ys, usedWidth, usedHeight);
+  }
+}
@@ -0,0 +1,86 @@
+package edu.ntnu.iir.bidata.utils;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A small and fast random generator based on SplitMix64.
+ *
+ * <p>The whole state is a single {@code long} that is advanced by a constant on every call,
+ * so a roll costs an addition and a few multiplications. The generator is not thread-safe and
+ * is meant for simulation loops where one thread owns the generator, such as a single game or
+ * a benchmark. Use {@link RandomSource#gameStream(long, long)} when games run on many threads.
+ */
+public class SplitMix64 implements RandomGenerator {
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private long state;
+
+  /**
+   * Creates a generator with the given seed.
+   *
+   * @param seed the seed; the same seed always gives the same sequence
+   */
+  public SplitMix64(long seed) {
+    this.state = seed;
+  }
+
+  /**
+   * Returns the next 64 random bits.
+   *
+   * @return a random long
+   */
+  @Override
+  public long nextLong() {
+    state += GOLDEN_GAMMA;
+    return mix(state);
+  }
+
+  /**
+   * Returns the next 32 random bits, taken from the high half of a long.
+   *
+   * @return a random int
+   */
+  @Override
+  public int nextInt() {
+    return (int) (nextLong() >>> 32);
+  }
+
+  /**
+   * Returns a random int from 0 (inclusive) to the bound (exclusive).
+   * Uses a multiply and shift instead of a division, and only retries in the rare case
+   * where the result would be biased.
+   *
+   * @param bound the upper bound (exclusive)
+   * @return a random int in the range
+   * @throws IllegalArgumentException if the bound is not positive
+   */
+  @Override
+  public int nextInt(int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("Bound must be positive");
+    }
+    long product = (nextLong() >>> 32) * bound;
+    int low = (int) product;
+    if (Integer.compareUnsigned(low, bound) < 0) {
+      int threshold = Integer.remainderUnsigned(-bound, bound);
+      while (Integer.compareUnsigned(low, threshold) < 0) {
+        product = (nextLong() >>> 32) * bound;
+        low = (int) product;
+      }
+    }
+    return (int) (product >>> 32);
+  }
+
+  /**
+   * Scrambles a value with the SplitMix64 finalizer.
+   * Nearby inputs give unrelated outputs, which also makes this useful for deriving seeds.
+   *
+   * @param z the value to scramble
+   * @return the scrambled value
+   */
+  public static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -29,6 +29,9 @@ public interface AppEvent<T> {
   };
   AppEvent<String> IN_GAME_EVENT = new AppEvent<>() {
   };
+  // Plays the given number of turns at once, updating the game screen a single time
+  AppEvent<Integer> FAST_FORWARD = new AppEvent<>() {
+  };
   AppEvent<Void> PLAY_AGAIN = new AppEvent<>() {
   };
   
@@ -0,0 +1,217 @@
+package edu.ntnu.iir.bidata.view;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Counts and times the delivery of {@link AppEvent}s, both for every event and for every
+ * listener, so slow handlers can be found.
+ *
+ * <p>Every event and every listener has its own {@link LatencyHistogram}. Histograms are
+ * created the first time they are needed and kept in concurrent maps, so recording takes no
+ * lock. The times are how long the listeners ran, on whichever thread the
+ * {@link DispatchPolicy} of the event chose, and do not include time spent waiting for that
+ * thread.
+ *
+ * <p>Listeners are named after their event and the order in which they were first timed for
+ * that event, such as {@code LOAD_BOARD#0}. A listener added to two events has one name and one
+ * histogram for each. The metrics can be read at any time with the getters or
+ * {@link #report()}, and written out at a fixed rate with
+ * {@link #startReporting(long, TimeUnit, Consumer)}.
+ */
+public class DispatchMetrics {
+  private static final Map<AppEvent<?>, String> EVENT_NAMES = findEventNames();
+
+  private final Map<AppEvent<?>, LatencyHistogram> events = new ConcurrentHashMap<>();
+  private final Map<AppEvent<?>, EventListeners> listeners = new ConcurrentHashMap<>();
+  private ScheduledExecutorService reporter;
+
+  /**
+   * The timed listeners of one event, and the number of listeners named so far.
+   *
+   * @param timed     the name and histogram of every listener that has been called
+   * @param nextIndex the index in the name of the next listener
+   */
+  private record EventListeners(
+          Map<GameEventListener<?>, TimedListener> timed, AtomicInteger nextIndex) {
+  }
+
+  /**
+   * The name and histogram of one listener of one event.
+   *
+   * @param index     the order in which the listener was first timed for the event
+   * @param name      the name of the listener
+   * @param histogram the histogram of its calls
+   */
+  private record TimedListener(int index, String name, LatencyHistogram histogram) {
+  }
+
+  /**
+   * Finds the names of the event constants declared in {@link AppEvent}.
+   *
+   * @return the name of every event constant
+   */
+  private static Map<AppEvent<?>, String> findEventNames() {
+    Map<AppEvent<?>, String> names = new IdentityHashMap<>();
+    for (Field field : AppEvent.class.getFields()) {
+      if (Modifier.isStatic(field.getModifiers()) && AppEvent.class.equals(field.getType())) {
+        try {
+          names.put((AppEvent<?>) field.get(null), field.getName());
+        } catch (IllegalAccessException e) {
+          // Interface fields are always public, so this cannot happen
+        }
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Gets the name of an event.
+   *
+   * @param event the event
+   * @return the name of the event constant, or the class name for other events
+   */
+  public static String nameOf(AppEvent<?> event) {
+    String name = EVENT_NAMES.get(event);
+    return name != null ? name : event.getClass().getName();
+  }
+
+  /**
+   * Records one call of a listener.
+   *
+   * @param event    the event that was delivered
+   * @param listener the listener that was called
+   * @param nanos    how long the listener ran
+   */
+  public void recordListener(AppEvent<?> event, GameEventListener<?> listener, long nanos) {
+    EventListeners eventListeners = listeners.computeIfAbsent(event,
+            key -> new EventListeners(new ConcurrentHashMap<>(), new AtomicInteger()));
+    TimedListener timed = eventListeners.timed().get(listener);
+    if (timed == null) {
+      timed = eventListeners.timed().computeIfAbsent(listener, key -> {
+        int index = eventListeners.nextIndex().getAndIncrement();
+        return new TimedListener(index, nameOf(event) + "#" + index, new LatencyHistogram());
+      });
+    }
+    timed.histogram().record(nanos);
+  }
+
+  /**
+   * Records one delivery of an event to all its listeners.
+   *
+   * @param event the event that was delivered
+   * @param nanos how long all listeners ran together
+   */
+  public void recordEvent(AppEvent<?> event, long nanos) {
+    events.computeIfAbsent(event, key -> new LatencyHistogram()).record(nanos);
+  }
+
+  /**
+   * Gets the histogram of an event.
+   *
+   * @param event the event
+   * @return the histogram of its deliveries, or null if it has not been delivered
+   */
+  public LatencyHistogram getEventHistogram(AppEvent<?> event) {
+    return events.get(event);
+  }
+
+  /**
+   * Gets the histograms of the listeners of an event.
+   *
+   * @param event the event
+   * @return the histogram of every listener that has been called, by listener name, in the
+   *         order the listeners were first timed
+   */
+  public Map<String, LatencyHistogram> getListenerHistograms(AppEvent<?> event) {
+    Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    EventListeners eventListeners = listeners.get(event);
+    if (eventListeners != null) {
+      eventListeners.timed().values().stream()
+              .sorted(Comparator.comparingInt(TimedListener::index))
+              .forEach(timed -> histograms.put(timed.name(), timed.histogram()));
+    }
+    return histograms;
+  }
+
+  /**
+   * Describes the metrics of every event and listener, one line each, slowest event first.
+   *
+   * @return the report, empty if no event has been delivered
+   */
+  public String report() {
+    StringBuilder report = new StringBuilder();
+    events.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().getMaxNanos(), a.getValue().getMaxNanos()))
+            .forEach(entry -> {
+              appendLine(report, nameOf(entry.getKey()), entry.getValue());
+              getListenerHistograms(entry.getKey())
+                      .forEach((name, histogram) -> appendLine(report, "  " + name, histogram));
+            });
+    return report.toString();
+  }
+
+  /**
+   * Appends one line with the count and latencies of a histogram, in milliseconds.
+   *
+   * @param report    the report to append to
+   * @param name      the name of the line
+   * @param histogram the histogram
+   */
+  private static void appendLine(StringBuilder report, String name, LatencyHistogram histogram) {
+    report.append(String.format("%s count=%d mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms%n",
+            name,
+            histogram.getCount(),
+            histogram.getMeanNanos() / 1e6,
+            histogram.getPercentileNanos(50) / 1e6,
+            histogram.getPercentileNanos(99) / 1e6,
+            histogram.getMaxNanos() / 1e6));
+  }
+
+  /**
+   * Writes the report to a sink at a fixed rate on a daemon thread, replacing any earlier
+   * schedule. Nothing is written while no event has been delivered.
+   *
+   * @param period the time between reports
+   * @param unit   the unit of the period
+   * @param sink   where to write each report, such as {@code System.out::print}
+   * @throws IllegalArgumentException if the period is not positive or the sink is null
+   */
+  public synchronized void startReporting(long period, TimeUnit unit, Consumer<String> sink) {
+    if (period <= 0 || sink == null) {
+      throw new IllegalArgumentException("Period must be positive and sink cannot be null");
+    }
+    stopReporting();
+    reporter = Executors.newSingleThreadScheduledExecutor(task -> {
+      Thread thread = new Thread(task, "dispatch-metrics-reporter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    reporter.scheduleAtFixedRate(() -> {
+      String report = report();
+      if (!report.isEmpty()) {
+        sink.accept(report);
+      }
+    }, period, period, unit);
+  }
+
+  /**
+   * Stops writing reports, if they were started.
+   */
+  public synchronized void stopReporting() {
+    if (reporter != null) {
+      reporter.shutdownNow();
+      reporter = null;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package edu.ntnu.iir.bidata.view;
+
+/**
+ * Decides which thread the listeners of an {@link AppEvent} run on.
+ */
+public enum DispatchPolicy {
+  /**
+   * Listeners run right away on the thread that emitted the event.
+   */
+  SAME_THREAD,
+
+  /**
+   * Listeners run on the UI thread. An event emitted on the UI thread is handled right away,
+   * and an event emitted on any other thread is handed over to the UI thread.
+   */
+  UI_THREAD,
+
+  /**
+   * Listeners run on the background worker, so slow work such as file access does not freeze
+   * the UI. Listeners that change the UI must hand that work back with
+   * {@link UiApp#runOnUiThread(Runnable)}.
+   */
+  BACKGROUND
+}
@@ -0,0 +1,234 @@
+package edu.ntnu.iir.bidata.view;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Delivers {@link AppEvent}s to their listeners, on the thread chosen by the
+ * {@link DispatchPolicy} of each event.
+ *
+ * <p>The bus can be used from any thread. Listeners are kept in copy-on-write lists, so
+ * emitting an event never takes a lock and a listener may add or remove listeners while it is
+ * being called. Events use {@link DispatchPolicy#SAME_THREAD} until another policy is set.
+ *
+ * <p>Background listeners run on a single worker thread. Events sent to the worker are
+ * therefore handled one at a time and in the order they were emitted, and their listeners
+ * never run at the same time as each other. An exception thrown by a background listener is
+ * printed and does not stop the worker.
+ *
+ * <p>The bus does not depend on JavaFX. The UI thread is given as an executor and a check for
+ * whether the caller is on it, which for JavaFX are {@code Platform::runLater} and
+ * {@code Platform::isFxApplicationThread}.
+ *
+ * <p>When {@link DispatchMetrics} are set, every listener call is timed and recorded. Without
+ * metrics the clock is never read.
+ */
+public class EventBus {
+  private final Map<AppEvent<?>, List<GameEventListener<?>>> listeners =
+          new ConcurrentHashMap<>();
+  private final Map<AppEvent<?>, DispatchPolicy> policies = new ConcurrentHashMap<>();
+  private final Executor uiExecutor;
+  private final BooleanSupplier onUiThread;
+  private final ExecutorService worker;
+  private volatile DispatchMetrics metrics;
+
+  /**
+   * Creates a bus with its own background worker thread.
+   *
+   * @param uiExecutor runs tasks on the UI thread
+   * @param onUiThread tells whether the calling thread is the UI thread
+   * @throws IllegalArgumentException if the executor or check is null
+   */
+  public EventBus(Executor uiExecutor, BooleanSupplier onUiThread) {
+    this(uiExecutor, onUiThread, Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "event-bus-worker");
+      thread.setDaemon(true);
+      return thread;
+    }));
+  }
+
+  /**
+   * Creates a bus that runs background listeners on the given executor.
+   *
+   * @param uiExecutor runs tasks on the UI thread
+   * @param onUiThread tells whether the calling thread is the UI thread
+   * @param worker     runs background listeners, and should run one task at a time to keep
+   *                   events in order
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public EventBus(Executor uiExecutor, BooleanSupplier onUiThread, ExecutorService worker) {
+    if (uiExecutor == null || onUiThread == null || worker == null) {
+      throw new IllegalArgumentException("Executors and thread check cannot be null");
+    }
+    this.uiExecutor = uiExecutor;
+    this.onUiThread = onUiThread;
+    this.worker = worker;
+  }
+
+  /**
+   * Registers a listener for an event.
+   *
+   * @param <T>      the type of data associated with the event
+   * @param event    the event to listen for
+   * @param listener the listener to be notified when the event occurs
+   */
+  public <T> void addListener(AppEvent<T> event, GameEventListener<T> listener) {
+    listeners.computeIfAbsent(event, key -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  /**
+   * Unregisters a listener for an event.
+   *
+   * @param <T>      the type of data associated with the event
+   * @param event    the event to stop listening for
+   * @param listener the listener to be removed
+   */
+  public <T> void removeListener(AppEvent<T> event, GameEventListener<T> listener) {
+    List<GameEventListener<?>> eventListeners = listeners.get(event);
+    if (eventListeners != null) {
+      eventListeners.remove(listener);
+    }
+  }
+
+  /**
+   * Sets the thread the listeners of an event run on.
+   *
+   * @param event  the event
+   * @param policy the dispatch policy
+   * @throws IllegalArgumentException if the policy is null
+   */
+  public void setPolicy(AppEvent<?> event, DispatchPolicy policy) {
+    if (policy == null) {
+      throw new IllegalArgumentException("Dispatch policy cannot be null");
+    }
+    policies.put(event, policy);
+  }
+
+  /**
+   * Gets the thread the listeners of an event run on.
+   *
+   * @param event the event
+   * @return the dispatch policy, {@link DispatchPolicy#SAME_THREAD} unless another was set
+   */
+  public DispatchPolicy getPolicy(AppEvent<?> event) {
+    return policies.getOrDefault(event, DispatchPolicy.SAME_THREAD);
+  }
+
+  /**
+   * Delivers an event to its listeners. The listeners registered when the event is emitted
+   * are the ones that are called, even if the event is handled later on another thread.
+   *
+   * @param <T>   the type of data associated with the event
+   * @param event the event to emit
+   * @param data  the data to pass to listeners
+   */
+  public <T> void emit(AppEvent<T> event, T data) {
+    List<GameEventListener<?>> eventListeners = listeners.get(event);
+    if (eventListeners == null || eventListeners.isEmpty()) {
+      return;
+    }
+    // A delivery on another thread must not see listeners added after the event was emitted
+    Iterable<GameEventListener<?>> snapshot = List.copyOf(eventListeners);
+    Runnable delivery = () -> deliver(event, snapshot, data);
+    switch (getPolicy(event)) {
+      case SAME_THREAD -> delivery.run();
+      case UI_THREAD -> runOnUi(delivery);
+      case BACKGROUND -> runInBackground(delivery);
+    }
+  }
+
+  /**
+   * Calls every listener in order with the event data, timing each call if metrics are set.
+   *
+   * @param <T>       the type of data associated with the event
+   * @param event     the event being delivered
+   * @param listeners the listeners to call
+   * @param data      the data to pass to listeners
+   */
+  @SuppressWarnings("unchecked")
+  private <T> void deliver(AppEvent<T> event, Iterable<GameEventListener<?>> listeners, T data) {
+    DispatchMetrics recorder = metrics;
+    if (recorder == null) {
+      for (GameEventListener<?> listener : listeners) {
+        ((GameEventListener<T>) listener).onEvent(data);
+      }
+      return;
+    }
+
+    long deliveryStart = System.nanoTime();
+    long listenerStart = deliveryStart;
+    for (GameEventListener<?> listener : listeners) {
+      ((GameEventListener<T>) listener).onEvent(data);
+      long listenerEnd = System.nanoTime();
+      recorder.recordListener(event, listener, listenerEnd - listenerStart);
+      listenerStart = listenerEnd;
+    }
+    recorder.recordEvent(event, listenerStart - deliveryStart);
+  }
+
+  /**
+   * Sets the metrics that listener calls are recorded in.
+   *
+   * @param metrics the metrics, or null to stop timing listeners
+   */
+  public void setMetrics(DispatchMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Gets the metrics that listener calls are recorded in.
+   *
+   * @return the metrics, or null if listeners are not timed
+   */
+  public DispatchMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Runs a task on the UI thread, right away if the caller is already on it.
+   *
+   * @param task the task to run
+   */
+  public void runOnUi(Runnable task) {
+    if (onUiThread.getAsBoolean()) {
+      task.run();
+    } else {
+      uiExecutor.execute(task);
+    }
+  }
+
+  /**
+   * Runs a task on the background worker, after the background listeners and tasks already
+   * sent to it, printing any exception it throws.
+   *
+   * @param task the task to run
+   * @throws IllegalStateException if the bus has been shut down
+   */
+  public void runInBackground(Runnable task) {
+    try {
+      worker.execute(() -> {
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          System.err.println("Error in background event listener: " + e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      throw new IllegalStateException("Event bus has been shut down", e);
+    }
+  }
+
+  /**
+   * Stops the background worker after the events already sent to it are handled.
+   */
+  public void shutdown() {
+    worker.shutdown();
+  }
+}
@@ -0,0 +1,141 @@
+package edu.ntnu.iir.bidata.view;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ *
+ * <p>Buckets are laid out like an HDR histogram: every power of two is split into eight
+ * buckets of equal width, so a recorded duration is off by at most an eighth of its size and
+ * the whole range of a long fits in fewer than five hundred buckets. Recording finds the bucket
+ * with a leading-zero count and a shift, and updates atomic counters without taking a lock, so
+ * many threads can record at once.
+ *
+ * <p>Readings taken while other threads are recording may be a few recordings behind, but
+ * every recording is eventually counted.
+ */
+public class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records one duration.
+   *
+   * @param nanos the duration in nanoseconds, where negative values count as zero
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts.incrementAndGet(bucketOf(value));
+    count.increment();
+    totalNanos.add(value);
+    maxNanos.accumulate(value);
+  }
+
+  /**
+   * Finds the bucket of a duration.
+   *
+   * @param value the duration, not negative
+   * @return the bucket index
+   */
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Finds the smallest duration in a bucket.
+   *
+   * @param bucket the bucket index
+   * @return the lower bound of the bucket in nanoseconds
+   */
+  static long lowerBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long subBucket = bucket % SUB_BUCKETS;
+    return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+
+  /**
+   * Gets the number of recorded durations.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the sum of all recorded durations.
+   *
+   * @return the total in nanoseconds
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * Gets the mean recorded duration.
+   *
+   * @return the mean in nanoseconds, or 0 if nothing was recorded
+   */
+  public double getMeanNanos() {
+    long recorded = getCount();
+    return recorded == 0 ? 0 : (double) getTotalNanos() / recorded;
+  }
+
+  /**
+   * Gets the longest recorded duration.
+   *
+   * @return the maximum in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Gets a percentile of the recorded durations, rounded up to the end of its bucket.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the duration in nanoseconds that the given share of recordings did not exceed, or 0
+   *         if nothing was recorded
+   * @throws IllegalArgumentException if the percentile is out of range
+   */
+  public long getPercentileNanos(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    long[] snapshot = new long[BUCKETS];
+    long recorded = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      snapshot[bucket] = counts.get(bucket);
+      recorded += snapshot[bucket];
+    }
+    if (recorded == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += snapshot[bucket];
+      if (seen >= rank) {
+        long upperBound = bucket + 1 < BUCKETS ? lowerBoundOf(bucket + 1) - 1 : Long.MAX_VALUE;
+        return Math.min(upperBound, getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+}
@@ -1,8 +1,17 @@
 package edu.ntnu.iir.bidata.view;
 
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.model.Player;
+import edu.ntnu.iir.bidata.model.PlayingPiece;
+import edu.ntnu.iir.bidata.model.games.Game;
+import java.util.List;
+
 /**
  * Interface defining the core UI application functionality.
- * Provides methods for application lifecycle management and event handling.
+ * Provides methods for application lifecycle management, event handling and moving between
+ * the screens of the application. The screens are named by what they show, so the controller
+ * works the same with a graphical UI and with a headless one.
  */
 public interface UiApp {
   /**
@@ -60,6 +69,95 @@ public interface UiApp {
     emitEvent(event, null);
   }
 
+  /**
+   * Sets the thread the listeners of an event run on.
+   *
+   * @param event  the event
+   * @param policy the dispatch policy
+   */
+  void setDispatchPolicy(AppEvent<?> event, DispatchPolicy policy);
+
+  /**
+   * Runs a task on the UI thread. Listeners running in the background use this to hand
+   * their results back to the UI.
+   *
+   * @param task the task to run
+   */
+  void runOnUiThread(Runnable task);
+
+  /**
+   * Runs a task on the background worker that also runs background listeners. Listeners on the
+   * UI thread use this for slow work, such as writing a file, after copying what it needs.
+   *
+   * @param task the task to run
+   */
+  void runInBackground(Runnable task);
+
+  /**
+   * Gets the counts and latencies of event deliveries.
+   *
+   * @return the dispatch metrics
+   */
+  DispatchMetrics getDispatchMetrics();
+
+  /**
+   * Shows the home screen, without a way back to earlier screens.
+   */
+  void showHome();
+
+  /**
+   * Shows the boards that can be chosen for a game type.
+   *
+   * @param gameType the game type that was chosen
+   * @param boards   the boards to choose from
+   */
+  void showBoardChoice(GameType gameType, List<Board> boards);
+
+  /**
+   * Adds a board loaded from a file to the boards to choose from, if they are being shown.
+   *
+   * @param board the loaded board
+   */
+  void addLoadedBoard(Board board);
+
+  /**
+   * Shows the player setup for a game.
+   *
+   * @param players    the players to start with
+   * @param pieces     the playing pieces to choose from
+   * @param maxPlayers the largest number of players
+   */
+  void showPlayerChoice(List<Player> players, List<PlayingPiece> pieces, int maxPlayers);
+
+  /**
+   * Replaces the players in the player setup with players loaded from a file, if the setup is
+   * being shown.
+   *
+   * @param players the loaded players
+   */
+  void showLoadedPlayers(List<Player> players);
+
+  /**
+   * Shows the screen of a game that has just started.
+   *
+   * @param game the started game
+   */
+  void showGame(Game game);
+
+  /**
+   * Updates the game screen with the current state of the game.
+   *
+   * @param game the game being played
+   */
+  void updateGame(Game game);
+
+  /**
+   * Shows who won the game, without a way back to the game.
+   *
+   * @param winnerName the name of the winner
+   */
+  void showGameOver(String winnerName);
+
   /**
    * Displays a message to the user through the UI.
    *
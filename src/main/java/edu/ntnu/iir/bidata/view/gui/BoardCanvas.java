@@ -5,26 +5,63 @@ import edu.ntnu.iir.bidata.model.Player;
 import edu.ntnu.iir.bidata.model.Tile;
 import edu.ntnu.iir.bidata.utils.ImageLoadTester;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import javafx.animation.AnimationTimer;
-import javafx.geometry.Point2D;
+import javafx.application.Platform;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
 
 
 /**
  * Abstract base class for drawing board games on a JavaFX Canvas with animation support.
  * Handles rendering of tiles, players, and animations of player movements between tiles.
+ *
+ * <p>Everything that does not move, such as the tiles, is drawn by
+ * {@link #drawStaticLayer(GraphicsContext)} into an off-screen image once for every canvas size.
+ * A frame then copies that image with {@link #drawCachedStaticLayer()} and only draws the
+ * players on top. The image is drawn again when the canvas is resized, when the tile images
+ * have finished loading, or when {@link #invalidateStaticLayer()} is called.
+ *
+ * <p>Tile images are drawn from the {@link TextureAtlas} of the board once it has been built.
+ *
+ * <p>While pieces are animated, the canvas remembers where each piece was drawn. A frame
+ * copies the static layer back over the union of the old and new bounds of the pieces that
+ * moved, and draws only the pieces inside that rectangle, so the cost of a frame follows the
+ * movement instead of the size of the board.
  */
 public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas {
   protected final Board board;
   protected List<Player> players = List.of();
   protected boolean showTileNumbers = true; // Controls whether tile numbers are displayed
 
+  // The off-screen static layer, drawn again when it no longer matches the canvas
+  private Canvas layerCanvas;
+  private WritableImage staticLayer;
+  private double layerScale;
+  private boolean staticLayerValid = false;
+
+  // Canvas bounds of the pieces on screen, as x, y and size for each piece in drawing order
+  private static final double PIECE_OUTLINE_WIDTH = 2;
+  private double[] drawnPieceBounds = new double[0];
+  private double[] nextPieceBounds = new double[0];
+  private int drawnPieceCount = 0;
+
+  // The tile images packed into one image, once they have been loaded
+  private TextureAtlas atlas;
+
+  // Images pinned in the image cache while the canvas is in a scene
+  private final Set<String> pinnedImagePaths = new HashSet<>();
+
   // Animation properties
   // (Help from AI: most animation logic was done with AI as this is not essential to the task)
   private boolean animating = false;
@@ -47,9 +84,15 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
     setWidth(500);
     setHeight(500);
 
-    // Add listener to redraw when the canvas size changes
-    widthProperty().addListener(observable -> draw());
-    heightProperty().addListener(observable -> draw());
+    // Add listener to redraw the static layer and the board when the canvas size changes
+    widthProperty().addListener(observable -> {
+      invalidateStaticLayer();
+      draw();
+    });
+    heightProperty().addListener(observable -> {
+      invalidateStaticLayer();
+      draw();
+    });
 
     // Initialize animation timer
     animationTimer = new AnimationTimer() {
@@ -60,19 +103,57 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
         // Update approximately 60 times per second
         if (lastUpdate == 0 || now - lastUpdate >= 16_000_000) {
           updateAnimation();
-          draw();
+          repaintMovedPieces();
           lastUpdate = now;
         }
       }
     };
 
+    // Keep the images of the board in the image cache while the board is shown
+    sceneProperty().addListener(observable -> updatePinnedImages());
+
     // Preload all tile images asynchronously
     preloadImages();
   }
 
+  /**
+   * Pins the tile and piece images in the image cache while the canvas is in a scene, and
+   * unpins them when it is removed, so that images on screen are never evicted.
+   */
+  private void updatePinnedImages() {
+    Set<String> wanted = new HashSet<>();
+    if (getScene() != null) {
+      for (Tile tile : board.getTiles()) {
+        if (tile.getStyling() != null && tile.getStyling().getImagePath() != null) {
+          wanted.add(tile.getStyling().getImagePath());
+        }
+      }
+      for (Player player : players) {
+        if (player != null && player.getPlayingPiece() != null
+                && player.getPlayingPiece().getImagePath() != null) {
+          wanted.add(player.getPlayingPiece().getImagePath());
+        }
+      }
+    }
+    for (String path : wanted) {
+      if (pinnedImagePaths.add(path)) {
+        ImageLoadTester.pinImage(path);
+      }
+    }
+    pinnedImagePaths.removeIf(path -> {
+      if (wanted.contains(path)) {
+        return false;
+      }
+      ImageLoadTester.unpinImage(path);
+      return true;
+    });
+  }
+
   /**
    * Preloads all tile images in the background to improve rendering performance.
-   * Uses asynchronous loading to avoid blocking the UI thread.
+   * Uses asynchronous loading to avoid blocking the UI thread. When the images are loaded,
+   * they are packed into the texture atlas of the board and the static layer is drawn again so
+   * that it includes them.
    */
   private void preloadImages() {
     CompletableFuture.runAsync(() -> {
@@ -82,7 +163,11 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
           ImageLoadTester.attemptLoadImage(tile.getStyling().getImagePath());
         }
       }
-    });
+    }).thenRun(() -> Platform.runLater(() -> {
+      atlas = TextureAtlas.forBoard(board);
+      invalidateStaticLayer();
+      draw();
+    }));
   }
 
   /**
@@ -111,6 +196,7 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
     updateLastKnownPositions();
     // Preload player images
     preloadPlayerImages();
+    updatePinnedImages();
     draw();
   }
 
@@ -263,13 +349,191 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
    */
   public abstract void draw();
 
+  /**
+   * Draws the parts of the board that don't move. The tiles are drawn by default, and
+   * subclasses add what else belongs to the board.
+   * The result is cached, so this is only called when the static layer is drawn again.
+   *
+   * @param gc the graphics context of the off-screen layer, the same size as this canvas
+   */
+  protected void drawStaticLayer(GraphicsContext gc) {
+    drawTiles(gc);
+  }
+
+  /**
+   * Marks the static layer as out of date, so that it is drawn again on the next frame.
+   * Call this after changing anything that {@link #drawStaticLayer(GraphicsContext)} draws.
+   */
+  public void invalidateStaticLayer() {
+    staticLayerValid = false;
+  }
+
+  /**
+   * Draws the cached static layer onto the canvas, first drawing the layer again if it is out
+   * of date. The layer is drawn at the render scale of the window, so it stays sharp on high
+   * density screens.
+   */
+  protected void drawCachedStaticLayer() {
+    double width = getWidth();
+    double height = getHeight();
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    double scale = getRenderScale();
+    if (!staticLayerValid || scale != layerScale) {
+      renderStaticLayer(width, height, scale);
+    }
+    getGraphicsContext2D().drawImage(staticLayer, 0, 0, width, height);
+    // The layer covers every piece drawn before it
+    drawnPieceCount = 0;
+  }
+
+  /**
+   * Repaints only the part of the canvas where pieces moved since the last frame.
+   * The static layer is copied back over the union of the old and new bounds of every moved
+   * piece, and the pieces overlapping that rectangle are drawn again, in their usual order.
+   * Falls back to {@link #draw()} when the static layer or the pieces on screen are out of
+   * date.
+   */
+  protected void repaintMovedPieces() {
+    if (!staticLayerValid || getRenderScale() != layerScale || drawnPieceCount == 0
+            || drawnPieceCount != players.size()) {
+      draw();
+      return;
+    }
+
+    // Find the union of the old and new bounds of the pieces that moved
+    double[] bounds = computePieceBounds(players, nextPieceBounds);
+    nextPieceBounds = bounds;
+    double minX = Double.MAX_VALUE;
+    double minY = Double.MAX_VALUE;
+    double maxX = -Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    for (int i = 0; i < drawnPieceCount * 3; i += 3) {
+      if (bounds[i] == drawnPieceBounds[i] && bounds[i + 1] == drawnPieceBounds[i + 1]
+              && bounds[i + 2] == drawnPieceBounds[i + 2]) {
+        continue;
+      }
+      minX = Math.min(minX, Math.min(bounds[i], drawnPieceBounds[i]));
+      minY = Math.min(minY, Math.min(bounds[i + 1], drawnPieceBounds[i + 1]));
+      maxX = Math.max(maxX, Math.max(bounds[i] + bounds[i + 2],
+              drawnPieceBounds[i] + drawnPieceBounds[i + 2]));
+      maxY = Math.max(maxY, Math.max(bounds[i + 1] + bounds[i + 2],
+              drawnPieceBounds[i + 1] + drawnPieceBounds[i + 2]));
+    }
+    if (minX > maxX) {
+      return;
+    }
+
+    // Grow the rectangle by the outline and round it out to whole pixels inside the canvas
+    double margin = PIECE_OUTLINE_WIDTH;
+    double x = Math.max(0, Math.floor(minX - margin));
+    double y = Math.max(0, Math.floor(minY - margin));
+    double width = Math.min(getWidth(), Math.ceil(maxX + margin)) - x;
+    double height = Math.min(getHeight(), Math.ceil(maxY + margin)) - y;
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+
+    GraphicsContext gc = getGraphicsContext2D();
+    gc.save();
+    gc.beginPath();
+    gc.rect(x, y, width, height);
+    gc.clip();
+    gc.clearRect(x, y, width, height);
+    gc.drawImage(staticLayer,
+            x * layerScale, y * layerScale, width * layerScale, height * layerScale,
+            x, y, width, height);
+    for (int piece = 0; piece < players.size(); piece++) {
+      int i = piece * 3;
+      double size = bounds[i + 2];
+      if (bounds[i] - margin < x + width && bounds[i] + size + margin > x
+              && bounds[i + 1] - margin < y + height && bounds[i + 1] + size + margin > y) {
+        drawPiece(gc, players.get(piece), bounds[i], bounds[i + 1], size);
+      }
+    }
+    gc.restore();
+
+    // The new bounds are now the ones on screen
+    nextPieceBounds = drawnPieceBounds;
+    drawnPieceBounds = bounds;
+  }
+
+  /**
+   * Draws the static layer on an off-screen canvas and copies it into the cached image.
+   * The canvas and the image are reused as long as the size doesn't change.
+   *
+   * @param width  the width of the canvas
+   * @param height the height of the canvas
+   * @param scale  the render scale of the window
+   */
+  private void renderStaticLayer(double width, double height, double scale) {
+    if (layerCanvas == null) {
+      layerCanvas = new Canvas(width, height);
+    } else {
+      layerCanvas.setWidth(width);
+      layerCanvas.setHeight(height);
+      layerCanvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+    }
+    drawStaticLayer(layerCanvas.getGraphicsContext2D());
+
+    int pixelWidth = (int) Math.ceil(width * scale);
+    int pixelHeight = (int) Math.ceil(height * scale);
+    if (staticLayer == null || (int) staticLayer.getWidth() != pixelWidth
+            || (int) staticLayer.getHeight() != pixelHeight) {
+      staticLayer = new WritableImage(pixelWidth, pixelHeight);
+    }
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    parameters.setTransform(Transform.scale(scale, scale));
+    layerCanvas.snapshot(parameters, staticLayer);
+
+    layerScale = scale;
+    staticLayerValid = true;
+  }
+
+  /**
+   * Gets the render scale of the window showing the canvas.
+   *
+   * @return the render scale, or 1 if the canvas is not shown in a window
+   */
+  private double getRenderScale() {
+    if (getScene() == null) {
+      return 1;
+    }
+    Window window = getScene().getWindow();
+    return window == null ? 1 : Math.max(1, window.getRenderScaleX());
+  }
+
   /**
    * Draws the players on the board, handling animation of movement.
+   * Remembers where each piece was drawn, for {@link #repaintMovedPieces()}.
    *
    * @param players the list of players to draw
    */
   protected void drawPlayers(List<Player> players) {
     GraphicsContext gc = getGraphicsContext2D();
+    double[] bounds = computePieceBounds(players, drawnPieceBounds);
+    drawnPieceBounds = bounds;
+
+    for (int i = 0; i < players.size(); i++) {
+      drawPiece(gc, players.get(i), bounds[3 * i], bounds[3 * i + 1], bounds[3 * i + 2]);
+    }
+    drawnPieceCount = players.size();
+  }
+
+  /**
+   * Computes where every piece is drawn on the canvas, using the animated position of players
+   * that are moving.
+   *
+   * @param players the players to compute bounds for
+   * @param bounds  an array to reuse if it is large enough, or null
+   * @return an array with the x, y and size of each piece in canvas coordinates
+   */
+  private double[] computePieceBounds(List<Player> players, double[] bounds) {
+    if (bounds == null || bounds.length < players.size() * 3) {
+      bounds = new double[players.size() * 3];
+    }
 
     for (int i = 0; i < players.size(); i++) {
       Player player = players.get(i);
@@ -303,39 +567,37 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
       double tileWidth = tile.getWidth();
       double tileHeight = tile.getHeight();
 
-      List<Point2D> offsets = List.of(
-              new Point2D(0, 0),
-              new Point2D(tileWidth / 2, 0),
-              new Point2D(0, tileHeight / 2),
-              new Point2D(tileWidth / 2, tileHeight / 2)
-      );
-      // Use modulo for safety with more than 4 players
-      Point2D offset = offsets.get(i % offsets.size());
-      Point2D playerPos = tile.getPosition().add(offset);
-      double playerSize = Math.min(tileWidth, tileHeight) * 0.5 * getWidth();
-
-      // Get the player image from cache
-      String imagePath = player.getPlayingPiece().getImagePath();
-      Image image = ImageLoadTester.attemptLoadImage(imagePath);
-
-      if (image != null && !image.isError()) {
-        gc.drawImage(
-                image,
-                playerPos.getX() * getWidth(),
-                playerPos.getY() * getHeight(),
-                playerSize,
-                playerSize
-        );
-        // draw outline of the tile
-        gc.setStroke(Color.BLACK);
-        gc.setLineWidth(2);
-        gc.strokeRect(
-                playerPos.getX() * getWidth(),
-                playerPos.getY() * getHeight(),
-                playerSize,
-                playerSize
-        );
-      }
+      // Pieces share a tile in its four quarters; use modulo for safety with more than 4 players
+      int quarter = i % 4;
+      double offsetX = (quarter & 1) == 0 ? 0 : tileWidth / 2;
+      double offsetY = (quarter & 2) == 0 ? 0 : tileHeight / 2;
+      bounds[3 * i] = (tile.getPosition().getX() + offsetX) * getWidth();
+      bounds[3 * i + 1] = (tile.getPosition().getY() + offsetY) * getHeight();
+      bounds[3 * i + 2] = Math.min(tileWidth, tileHeight) * 0.5 * getWidth();
+    }
+    return bounds;
+  }
+
+  /**
+   * Draws the image of one piece with an outline.
+   *
+   * @param gc     the graphics context to draw on
+   * @param player the player whose piece is drawn
+   * @param x      the x-coordinate on the canvas
+   * @param y      the y-coordinate on the canvas
+   * @param size   the width and height of the piece
+   */
+  private void drawPiece(GraphicsContext gc, Player player, double x, double y, double size) {
+    // Get the player image from cache
+    String imagePath = player.getPlayingPiece().getImagePath();
+    Image image = ImageLoadTester.attemptLoadImage(imagePath);
+
+    if (image != null && !image.isError()) {
+      gc.drawImage(image, x, y, size, size);
+      // draw outline of the tile
+      gc.setStroke(Color.BLACK);
+      gc.setLineWidth(PIECE_OUTLINE_WIDTH);
+      gc.strokeRect(x, y, size, size);
     }
   }
 
@@ -349,22 +611,10 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
    */
   private boolean shouldAnimateAlongPath(Tile prevTile, Tile currentTile) {
     // Check if current tile is reachable by following next tiles from prev
-    Tile temp = prevTile;
-    int maxSteps = board.getTiles().size(); // Prevent infinite loop
-
-    for (int i = 0; i < maxSteps; i++) {
-      if (temp == null) {
-        return false;
-      }
-
-      // If the next tile is our target, we can animate along the path
-      if (temp.getNextTile() != null && temp.getNextTile().getId() == currentTile.getId()) {
-        return true;
-      }
-      temp = temp.getNextTile();
+    if (prevTile == null || currentTile == null) {
+      return false;
     }
-
-    return false;
+    return board.getPathSteps(prevTile.getId(), currentTile.getId()) > 0;
   }
 
   /**
@@ -385,16 +635,9 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
     }
 
     // Count steps between tiles
-    Tile temp = startTile;
-    int steps = 0;
-    int maxSteps = board.getTiles().size(); // Prevent infinite loop
+    int steps = board.getPathSteps(startTile.getId(), endTile.getId());
 
-    while (temp != null && temp.getId() != endTile.getId() && steps < maxSteps) {
-      temp = temp.getNextTile();
-      steps++;
-    }
-
-    if (steps == 0) {
+    if (steps <= 0) {
       return endTile.getId();
     }
 
@@ -402,7 +645,7 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
     int stepsToMove = (int) Math.floor(progress * steps);
 
     // Move that many steps from start tile
-    temp = startTile;
+    Tile temp = startTile;
     for (int i = 0; i < stepsToMove && temp != null; i++) {
       temp = temp.getNextTile();
     }
@@ -423,6 +666,16 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
    * Draws all tiles on the board with their appropriate styles and images.
    */
   public void drawTiles() {
+    drawTiles(getGraphicsContext2D());
+  }
+
+  /**
+   * Draws all tiles on the board with their appropriate styles and images, scaled to the size
+   * of this canvas.
+   *
+   * @param gc the graphics context to draw on
+   */
+  protected void drawTiles(GraphicsContext gc) {
     // Draw each tile on the board
     for (Tile tile : board.getTiles()) {
       // Get the normalized position (0-1 range)
@@ -437,18 +690,21 @@ public abstract class BoardCanvas extends Canvas implements AnimatedBoardCanvas
       double tileWidth = normalizedWidth * getWidth();
       double tileHeight = normalizedHeight * getHeight();
 
-      // Get the graphics context for drawing
-      var gc = getGraphicsContext2D();
-
       // First draw the background color (for all tiles)
       drawTileWithColor(gc, tile, canvasX, canvasY, tileWidth, tileHeight);
 
       // If there's an image, draw it on top of the background color
       if (tile.getStyling() != null && tile.getStyling().getImagePath() != null) {
         String imagePath = tile.getStyling().getImagePath();
-        Image tileImage = ImageLoadTester.attemptLoadImage(imagePath);
-
-        if (tileImage != null && !tileImage.isError()) {
+        TextureAtlas.Region region = atlas == null ? null
+                : atlas.getRegion(imagePath, tile.getStyling().getImageRotation());
+        Image tileImage = region == null ? ImageLoadTester.attemptLoadImage(imagePath) : null;
+
+        if (region != null) {
+          // Copy the already rotated image from the atlas
+          gc.drawImage(atlas.getImage(), region.x(), region.y(), region.width(),
+                  region.height(), canvasX, canvasY, tileWidth, tileHeight);
+        } else if (tileImage != null && !tileImage.isError()) {
           // Check if rotation needed
           double rotation = tile.getStyling().getImageRotation();
           if (rotation != 0) {
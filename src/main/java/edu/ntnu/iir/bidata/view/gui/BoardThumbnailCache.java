@@ -0,0 +1,231 @@
+package edu.ntnu.iir.bidata.view.gui;
+
+import edu.ntnu.iir.bidata.filehandling.BoardThumbnailStore;
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.model.Tile;
+import edu.ntnu.iir.bidata.utils.ImageLoadTester;
+import edu.ntnu.iir.bidata.utils.LruCache;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.application.Platform;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javax.imageio.ImageIO;
+
+/**
+ * Gives previews of boards, rendering every board once and keeping the result on disk.
+ *
+ * <p>A preview that is kept in memory is shown right away. Any other preview is shown as a
+ * placeholder, and in the background the preview is read from the PNG file in the
+ * {@link BoardThumbnailStore}, or, if the board has never been drawn, rendered on a board
+ * canvas off screen and written to a new PNG file for the next time. The placeholder is
+ * replaced when the preview is ready, or says that the preview is not available if the board
+ * could not be drawn.
+ *
+ * <p>Previews that have been shown are also kept in memory, up to
+ * {@link #MAX_MEMORY_BYTES} of decoded pixels. A board is only read or rendered once at a
+ * time: previews asked for while the same board is being read or rendered wait for that
+ * result instead.
+ */
+public class BoardThumbnailCache {
+  /**
+   * The approximate number of decoded bytes the previews kept in memory may take.
+   */
+  public static final long MAX_MEMORY_BYTES = 32L * 1024 * 1024;
+
+  private static final Logger LOGGER = Logger.getLogger(BoardThumbnailCache.class.getName());
+
+  private final BoardThumbnailStore store;
+  private final LruCache<String, Image> memory = new LruCache<>(MAX_MEMORY_BYTES,
+          image -> (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * 4);
+  // Previews being read or rendered, so a preview is only rendered once at a time
+  private final Map<String, CompletableFuture<Image>> inFlight = new ConcurrentHashMap<>();
+  private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+    Thread thread = new Thread(task, "thumbnail-worker");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * Creates a cache that stores the previews in the given store.
+   *
+   * @param store the store for the preview files
+   * @throws IllegalArgumentException if the store is null
+   */
+  public BoardThumbnailCache(BoardThumbnailStore store) {
+    if (store == null) {
+      throw new IllegalArgumentException("Store cannot be null");
+    }
+    this.store = store;
+  }
+
+  /**
+   * Creates a node showing the preview of a board. A preview in memory is shown right away,
+   * and any other preview shows a placeholder until it has been loaded or rendered in the
+   * background.
+   * Must be called on the JavaFX application thread.
+   *
+   * @param gameType the game type to draw the board for
+   * @param board    the board
+   * @param size     the width and height of the preview
+   * @return the node showing the preview
+   */
+  public StackPane createPreview(GameType gameType, Board board, int size) {
+    ImageView imageView = new ImageView();
+    imageView.setFitWidth(size);
+    imageView.setFitHeight(size);
+
+    // A preview in memory is shown right away, without a placeholder
+    String key = store.key(board, gameType, size);
+    Image cached = memory.getIfPresent(key);
+    if (cached != null) {
+      imageView.setImage(cached);
+      return new StackPane(imageView);
+    }
+
+    Rectangle background = new Rectangle(size, size, Color.LIGHTGRAY);
+    Label loadingLabel = new Label("Loading preview...");
+    StackPane preview = new StackPane(background, loadingLabel, imageView);
+
+    worker.execute(() -> {
+      // Wait for a preview of the same board that is already being read or rendered
+      CompletableFuture<Image> loading = new CompletableFuture<>();
+      CompletableFuture<Image> inProgress = inFlight.putIfAbsent(key, loading);
+      if (inProgress != null) {
+        inProgress.whenComplete((image, error) -> Platform.runLater(() -> {
+          if (error == null) {
+            show(preview, imageView, image);
+          } else {
+            showError(loadingLabel);
+          }
+        }));
+        return;
+      }
+
+      Image image = memory.getIfPresent(key);
+      if (image == null && store.contains(key)) {
+        image = new Image(store.pathOf(key).toUri().toString());
+        if (image.isError()) {
+          LOGGER.log(Level.WARNING, "Could not read board preview " + store.pathOf(key));
+          image = null;
+        } else {
+          memory.put(key, image);
+        }
+      }
+      if (image != null) {
+        Image found = image;
+        inFlight.remove(key);
+        loading.complete(found);
+        Platform.runLater(() -> show(preview, imageView, found));
+        return;
+      }
+
+      // Load the tile images here, so rendering doesn't wait for them on the UI thread
+      for (Tile tile : board.getTiles()) {
+        if (tile.getStyling() != null && tile.getStyling().getImagePath() != null) {
+          ImageLoadTester.attemptLoadImage(tile.getStyling().getImagePath());
+        }
+      }
+      Platform.runLater(() -> {
+        WritableImage rendered;
+        try {
+          rendered = render(gameType, board, size);
+        } catch (RuntimeException e) {
+          LOGGER.log(Level.WARNING, "Could not render board preview", e);
+          inFlight.remove(key);
+          loading.completeExceptionally(e);
+          showError(loadingLabel);
+          return;
+        }
+        memory.put(key, rendered);
+        show(preview, imageView, rendered);
+
+        // Read the pixels on the UI thread, and encode and write them in the background.
+        // The write is queued before the render is finished, so a later request that misses
+        // the cache in memory finds the file.
+        int[] pixels = new int[size * size];
+        rendered.getPixelReader().getPixels(0, 0, size, size,
+                PixelFormat.getIntArgbInstance(), pixels, 0, size);
+        worker.execute(() -> save(key, pixels, size));
+        inFlight.remove(key);
+        loading.complete(rendered);
+      });
+    });
+    return preview;
+  }
+
+  /**
+   * Replaces the placeholder of a preview with the preview image.
+   *
+   * @param preview   the node showing the preview
+   * @param imageView the image view of the preview
+   * @param image     the preview image
+   */
+  private void show(StackPane preview, ImageView imageView, Image image) {
+    imageView.setImage(image);
+    preview.getChildren().retainAll(imageView);
+  }
+
+  /**
+   * Replaces the loading text of a preview that could not be rendered.
+   *
+   * @param loadingLabel the label showing the loading text
+   */
+  private void showError(Label loadingLabel) {
+    loadingLabel.setText("Preview not available");
+  }
+
+  /**
+   * Draws a board on a canvas that is not shown and takes a snapshot of it.
+   *
+   * @param gameType the game type to draw the board for
+   * @param board    the board
+   * @param size     the width and height of the preview
+   * @return the preview image
+   */
+  private WritableImage render(GameType gameType, Board board, int size) {
+    BoardCanvas canvas = BoardCanvasFactory.createBoardCanvas(gameType, board);
+    canvas.setWidth(size);
+    canvas.setHeight(size);
+    canvas.draw();
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    return canvas.snapshot(parameters, new WritableImage(size, size));
+  }
+
+  /**
+   * Encodes the pixels of a preview as PNG and writes them to the store.
+   * A preview that can't be written is only logged, since it is still kept in memory.
+   *
+   * @param key    the key of the preview
+   * @param pixels the pixels of the preview, as ARGB values row by row
+   * @param size   the width and height of the preview
+   */
+  private void save(String key, int[] pixels, int size) {
+    try {
+      BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+      image.setRGB(0, 0, size, size, pixels, 0, size);
+      ByteArrayOutputStream png = new ByteArrayOutputStream();
+      ImageIO.write(image, "png", png);
+      store.write(key, png.toByteArray());
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not save board preview " + store.pathOf(key), e);
+    }
+  }
+}
@@ -1,16 +1,31 @@
 package edu.ntnu.iir.bidata.view.gui;
 
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.model.Player;
+import edu.ntnu.iir.bidata.model.PlayingPiece;
+import edu.ntnu.iir.bidata.model.games.Game;
+import edu.ntnu.iir.bidata.model.games.MonopolyGame;
 import edu.ntnu.iir.bidata.view.AppEvent;
+import edu.ntnu.iir.bidata.view.DispatchMetrics;
+import edu.ntnu.iir.bidata.view.DispatchPolicy;
+import edu.ntnu.iir.bidata.view.EventBus;
 import edu.ntnu.iir.bidata.view.GameEventListener;
 import edu.ntnu.iir.bidata.view.UiApp;
+import edu.ntnu.iir.bidata.view.gui.screens.ChooseBoardScreen;
+import edu.ntnu.iir.bidata.view.gui.screens.ChoosePlayerScreen;
+import edu.ntnu.iir.bidata.view.gui.screens.GameOverScreen;
+import edu.ntnu.iir.bidata.view.gui.screens.GameScreenFactory;
 import edu.ntnu.iir.bidata.view.gui.screens.HomeScreen;
+import edu.ntnu.iir.bidata.view.gui.screens.MonopolyScreen;
+import edu.ntnu.iir.bidata.view.gui.screens.SnakesAndLaddersScreen;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -18,27 +33,35 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 
 /**
  * JavaFX application class that implements the UIApp interface.
  * Manages the GUI components, screen navigation, and event handling for the application.
+ * Events are delivered by an {@link EventBus} whose UI thread is the JavaFX application thread.
+ * Every listener call is timed, and the timings are printed once a minute while the
+ * application runs.
  */
 public class GuiApp extends Application implements UiApp {
-  private static final Map<AppEvent<?>, List<GameEventListener<?>>> eventListeners =
-          new HashMap<>();  // (Help from AI)
+  private static final EventBus eventBus =
+          new EventBus(Platform::runLater, Platform::isFxApplicationThread);
+  private static final DispatchMetrics dispatchMetrics = new DispatchMetrics();
+  private static final long METRICS_REPORT_MINUTES = 1;
   private static BorderPane sceneContent;
   private static Stage stage;
   // Keep track of navigation history
   private static final Stack<Node> screenHistory = new Stack<>();
   private static GuiApp instance;
   private static boolean showBackButton = true;  // Flag to control back button visibility
+  private static StackPane gameplayScreen;
 
   /**
    * Creates a new GUIApp instance and sets it as the singleton instance.
    */
   public GuiApp() {
     instance = this;
+    eventBus.setMetrics(dispatchMetrics);
   }
 
   /**
@@ -59,6 +82,7 @@ public class GuiApp extends Application implements UiApp {
     });
     stage.setScene(scene);
     stage.show();
+    dispatchMetrics.startReporting(METRICS_REPORT_MINUTES, TimeUnit.MINUTES, System.out::print);
 
     // Set initial screen
     setContent(new HomeScreen(), false); // Don't add to history since it's first screen
@@ -150,10 +174,13 @@ public class GuiApp extends Application implements UiApp {
   }
 
   /**
-   * Quits the application by emitting a quit event and closing the stage.
+   * Quits the application by emitting a quit event, stopping the background event worker and
+   * closing the stage.
    */
   public void quitApp() {
     emitEvent(AppEvent.QUIT);
+    eventBus.shutdown();
+    dispatchMetrics.stopReporting();
     stage.close();
   }
 
@@ -173,10 +200,7 @@ public class GuiApp extends Application implements UiApp {
    */
   @Override
   public <T> void addEventListener(AppEvent<T> event, GameEventListener<T> listener) {
-    if (!eventListeners.containsKey(event)) {
-      eventListeners.put(event, new ArrayList<>());
-    }
-    eventListeners.get(event).add(listener);
+    eventBus.addListener(event, listener);
   }
 
   /**
@@ -188,26 +212,20 @@ public class GuiApp extends Application implements UiApp {
    */
   @Override
   public <T> void removeEventListener(AppEvent<T> event, GameEventListener<T> listener) {
-    if (eventListeners.containsKey(event)) {
-      eventListeners.get(event).remove(listener);
-    }
+    eventBus.removeListener(event, listener);
   }
 
   /**
-   * Emits an event with associated data to all registered listeners.
+   * Emits an event with associated data to all registered listeners, on the thread chosen by
+   * the dispatch policy of the event.
    *
    * @param <T>   the type of data associated with the event
    * @param event the event to emit
    * @param data  the data to pass to listeners
    */
-  @SuppressWarnings("unchecked")
   @Override
   public <T> void emitEvent(AppEvent<T> event, T data) {
-    if (eventListeners.containsKey(event)) {
-      for (GameEventListener<?> listener : eventListeners.get(event)) {
-        ((GameEventListener<T>) listener).onEvent(data);
-      }
-    }
+    eventBus.emit(event, data);
   }
 
   /**
@@ -220,18 +238,175 @@ public class GuiApp extends Application implements UiApp {
     UiApp.super.emitEvent(event);
   }
 
+  /**
+   * Sets the thread the listeners of an event run on.
+   *
+   * @param event  the event
+   * @param policy the dispatch policy
+   */
+  @Override
+  public void setDispatchPolicy(AppEvent<?> event, DispatchPolicy policy) {
+    eventBus.setPolicy(event, policy);
+  }
+
+  /**
+   * Runs a task on the JavaFX application thread, right away if the caller is already on it.
+   *
+   * @param task the task to run
+   */
+  @Override
+  public void runOnUiThread(Runnable task) {
+    eventBus.runOnUi(task);
+  }
+
+  /**
+   * Runs a task on the background worker of the event bus.
+   *
+   * @param task the task to run
+   */
+  @Override
+  public void runInBackground(Runnable task) {
+    eventBus.runInBackground(task);
+  }
+
+  /**
+   * Gets the counts and latencies of event deliveries.
+   *
+   * @return the dispatch metrics
+   */
+  @Override
+  public DispatchMetrics getDispatchMetrics() {
+    return dispatchMetrics;
+  }
+
+  /**
+   * Shows the home screen, without a way back to earlier screens.
+   */
+  @Override
+  public void showHome() {
+    setContent(new HomeScreen(), false, false);
+  }
+
+  /**
+   * Shows the boards that can be chosen for a game type.
+   *
+   * @param gameType the game type that was chosen
+   * @param boards   the boards to choose from
+   */
+  @Override
+  public void showBoardChoice(GameType gameType, List<Board> boards) {
+    setContent(new ChooseBoardScreen(gameType, boards), true, true);
+  }
+
+  /**
+   * Adds a board loaded from a file to the board screen, if it is the current screen.
+   *
+   * @param board the loaded board
+   */
+  @Override
+  public void addLoadedBoard(Board board) {
+    if (getCurrentContent() instanceof ChooseBoardScreen chooseBoardScreen) {
+      chooseBoardScreen.addLoadedBoard(board);
+    }
+  }
+
+  /**
+   * Shows the player setup for a game.
+   *
+   * @param players    the players to start with
+   * @param pieces     the playing pieces to choose from
+   * @param maxPlayers the largest number of players
+   */
+  @Override
+  public void showPlayerChoice(List<Player> players, List<PlayingPiece> pieces, int maxPlayers) {
+    setContent(new ChoosePlayerScreen(players, pieces, maxPlayers), true, true);
+  }
+
+  /**
+   * Replaces the players on the player screen, if it is the current screen.
+   *
+   * @param players the loaded players
+   */
+  @Override
+  public void showLoadedPlayers(List<Player> players) {
+    if (getCurrentContent() instanceof ChoosePlayerScreen choosePlayerScreen) {
+      choosePlayerScreen.updatePlayers(players);
+    }
+  }
+
+  /**
+   * Shows the screen of a game that has just started.
+   *
+   * @param game the started game
+   */
+  @Override
+  public void showGame(Game game) {
+    gameplayScreen = GameScreenFactory.createGameScreen(game.getGameType(), game.getBoard());
+    setContent(gameplayScreen, true, true);
+    updateGame(game);
+  }
+
+  /**
+   * Updates the game screen with current game state.
+   * Handles different game screen types and updates them with appropriate data.
+   *
+   * @param game the game being played
+   * @throws IllegalArgumentException if the game screen type is invalid
+   */
+  @Override
+  public void updateGame(Game game) {
+    if (gameplayScreen instanceof SnakesAndLaddersScreen) {
+      ((SnakesAndLaddersScreen) gameplayScreen).update(
+              game.getPlayers(),
+              game.getCurrentPlayer(),
+              game.getDiceCounts()
+      );
+    } else if (gameplayScreen instanceof MonopolyScreen) {
+      List<Integer> playerMoney = new ArrayList<>();
+
+      // Get player money if this is a MonopolyGame
+      if (game instanceof MonopolyGame monopolyGame) {
+        for (Player player : game.getPlayers()) {
+          playerMoney.add(monopolyGame.getPlayerMoney(player));
+        }
+      }
+
+      ((MonopolyScreen) gameplayScreen).update(
+              game.getPlayers(),
+              game.getCurrentPlayer(),
+              game.getDiceCounts(),
+              playerMoney
+      );
+    } else {
+      throw new IllegalArgumentException("Invalid game screen type: " + gameplayScreen.getClass());
+    }
+  }
+
+  /**
+   * Shows who won the game, without a way back to the game.
+   *
+   * @param winnerName the name of the winner
+   */
+  @Override
+  public void showGameOver(String winnerName) {
+    setContent(new GameOverScreen(winnerName), false, false);
+  }
+
   /**
    * Displays an information message dialog to the user.
+   * Can be called from any thread, since the dialog is always shown on the JavaFX thread.
    *
    * @param message the message to display
    */
   @Override
   public void showMessage(String message) {
-    Alert alert = new Alert(Alert.AlertType.INFORMATION);
-    alert.setTitle("Information");
-    alert.setHeaderText(null);
-    alert.setContentText(message);
-    alert.showAndWait();
+    runOnUiThread(() -> {
+      Alert alert = new Alert(Alert.AlertType.INFORMATION);
+      alert.setTitle("Information");
+      alert.setHeaderText(null);
+      alert.setContentText(message);
+      alert.showAndWait();
+    });
   }
 
   /**
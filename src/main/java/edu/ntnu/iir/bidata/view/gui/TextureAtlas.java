@@ -0,0 +1,203 @@
+package edu.ntnu.iir.bidata.view.gui;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.Tile;
+import edu.ntnu.iir.bidata.utils.ImageLoadTester;
+import edu.ntnu.iir.bidata.utils.ShelfPacker;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * All tile images of a board packed into a single image, for drawing the board with one
+ * texture instead of one per tile.
+ *
+ * <p>Every distinct pair of image and rotation gets its own region of the atlas, already
+ * rotated, so a tile is drawn by copying its region without changing the transform of the
+ * graphics context. Images are scaled down to at most {@link #MAX_REGION_SIZE} pixels on their
+ * longest side, which is more than a tile is ever drawn at. Only rotations of 0, 90, 180 and
+ * 270 degrees are put in the atlas, and tiles with other rotations, or images that don't fit,
+ * are drawn from their own image as before.
+ *
+ * <p>Atlases are built and used on the JavaFX application thread. The atlas of a board is built
+ * once and shared by every canvas showing the board.
+ */
+public class TextureAtlas {
+  /**
+   * The largest width or height of an image in the atlas, in pixels.
+   */
+  public static final int MAX_REGION_SIZE = 256;
+
+  private static final int MAX_ATLAS_SIZE = 2048;
+  private static final int PADDING = 2;
+  private static final Map<Board, TextureAtlas> atlases = new WeakHashMap<>();
+
+  private final WritableImage image;
+  private final Map<RegionKey, Region> regions;
+
+  /**
+   * An image with a rotation, identifying a region of the atlas.
+   *
+   * @param imagePath    the path of the image
+   * @param quarterTurns the rotation in quarter turns clockwise, from 0 to 3
+   */
+  private record RegionKey(String imagePath, int quarterTurns) {
+  }
+
+  /**
+   * The rectangle of an image in the atlas, in pixels.
+   *
+   * @param x      the x-coordinate of the region
+   * @param y      the y-coordinate of the region
+   * @param width  the width of the region
+   * @param height the height of the region
+   */
+  public record Region(double x, double y, double width, double height) {
+  }
+
+  /**
+   * Creates an atlas from a packed image and its regions.
+   *
+   * @param image   the packed image, or null if the atlas is empty
+   * @param regions the regions of the images in the packed image
+   */
+  private TextureAtlas(WritableImage image, Map<RegionKey, Region> regions) {
+    this.image = image;
+    this.regions = regions;
+  }
+
+  /**
+   * Gets the atlas of a board, building it the first time it is asked for.
+   * The tile images should already be loaded, since images that can't be loaded are left out.
+   *
+   * @param board the board
+   * @return the atlas of the board
+   */
+  public static TextureAtlas forBoard(Board board) {
+    return atlases.computeIfAbsent(board, TextureAtlas::build);
+  }
+
+  /**
+   * Packs the tile images of a board into a new atlas.
+   *
+   * @param board the board
+   * @return the atlas
+   */
+  private static TextureAtlas build(Board board) {
+    // Find every distinct image and rotation
+    Map<RegionKey, Image> images = new LinkedHashMap<>();
+    for (Tile tile : board.getTiles()) {
+      if (tile.getStyling() == null || tile.getStyling().getImagePath() == null) {
+        continue;
+      }
+      int quarterTurns = toQuarterTurns(tile.getStyling().getImageRotation());
+      String imagePath = tile.getStyling().getImagePath();
+      RegionKey key = new RegionKey(imagePath, quarterTurns);
+      if (quarterTurns < 0 || images.containsKey(key)) {
+        continue;
+      }
+      Image tileImage = ImageLoadTester.attemptLoadImage(imagePath);
+      if (tileImage != null && !tileImage.isError() && tileImage.getWidth() > 0
+              && tileImage.getHeight() > 0) {
+        images.put(key, tileImage);
+      }
+    }
+
+    // Work out the size of every region, with the sides swapped for quarter and three quarter
+    // turns, and pack them
+    List<RegionKey> keys = new ArrayList<>(images.keySet());
+    int[] widths = new int[keys.size()];
+    int[] heights = new int[keys.size()];
+    for (int i = 0; i < keys.size(); i++) {
+      Image tileImage = images.get(keys.get(i));
+      double scale = Math.min(1,
+              MAX_REGION_SIZE / Math.max(tileImage.getWidth(), tileImage.getHeight()));
+      int width = Math.max(1, (int) Math.round(tileImage.getWidth() * scale));
+      int height = Math.max(1, (int) Math.round(tileImage.getHeight() * scale));
+      boolean sideways = keys.get(i).quarterTurns() % 2 == 1;
+      widths[i] = sideways ? height : width;
+      heights[i] = sideways ? width : height;
+    }
+    ShelfPacker.Layout layout =
+            ShelfPacker.pack(widths, heights, MAX_ATLAS_SIZE, MAX_ATLAS_SIZE, PADDING);
+    if (layout.width() == 0 || layout.height() == 0) {
+      return new TextureAtlas(null, Map.of());
+    }
+
+    // Draw every image rotated into its region
+    Canvas canvas = new Canvas(layout.width(), layout.height());
+    GraphicsContext gc = canvas.getGraphicsContext2D();
+    Map<RegionKey, Region> regions = new HashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      if (!layout.isPlaced(i)) {
+        continue;
+      }
+      RegionKey key = keys.get(i);
+      double x = layout.xs()[i];
+      double y = layout.ys()[i];
+      double width = widths[i];
+      double height = heights[i];
+
+      gc.save();
+      gc.translate(x + width / 2, y + height / 2);
+      gc.rotate(key.quarterTurns() * 90);
+      if (key.quarterTurns() % 2 == 1) {
+        gc.drawImage(images.get(key), -height / 2, -width / 2, height, width);
+      } else {
+        gc.drawImage(images.get(key), -width / 2, -height / 2, width, height);
+      }
+      gc.restore();
+      regions.put(key, new Region(x, y, width, height));
+    }
+
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    return new TextureAtlas(canvas.snapshot(parameters, null), regions);
+  }
+
+  /**
+   * Turns a rotation in degrees into quarter turns, for the rotations kept in the atlas.
+   *
+   * @param rotation the rotation in degrees
+   * @return the number of quarter turns, or -1 if the rotation is not 0, 90, 180 or 270
+   */
+  private static int toQuarterTurns(double rotation) {
+    if (rotation == 0 || rotation == 90 || rotation == 180 || rotation == 270) {
+      return (int) rotation / 90;
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the packed image.
+   *
+   * @return the image, or null if the atlas is empty
+   */
+  public Image getImage() {
+    return image;
+  }
+
+  /**
+   * Gets the region of an image with a rotation.
+   *
+   * @param imagePath the path of the image
+   * @param rotation  the rotation in degrees
+   * @return the region of the already rotated image, or null if it is not in the atlas
+   */
+  public Region getRegion(String imagePath, double rotation) {
+    int quarterTurns = toQuarterTurns(rotation);
+    if (quarterTurns < 0) {
+      return null;
+    }
+    return regions.get(new RegionKey(imagePath, quarterTurns));
+  }
+}
@@ -25,12 +25,12 @@ public class MonopolyBoard extends BoardCanvas {
 
   /**
    * Renders all components of the Monopoly board.
-   * Clears the canvas first, then draws tiles and players if available.
+   * Clears the canvas first, then draws the cached tiles and players if available.
    */
   @Override
   public void draw() {
     clearCanvas();
-    drawTiles();
+    drawCachedStaticLayer();
     if (!players.isEmpty()) {
       drawPlayers(players);
     }
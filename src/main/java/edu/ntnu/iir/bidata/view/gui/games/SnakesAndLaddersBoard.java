@@ -5,23 +5,48 @@ import edu.ntnu.iir.bidata.model.Player;
 import edu.ntnu.iir.bidata.model.Tile;
 import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
 import edu.ntnu.iir.bidata.utils.RandomMath;
+import edu.ntnu.iir.bidata.utils.RandomSource;
 import edu.ntnu.iir.bidata.view.gui.BoardCanvas;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.random.RandomGenerator;
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
 
 /**
  * Canvas component for rendering a Snakes and Ladders game board.
  * Handles drawing the game board, snakes, ladders, and player pieces with animations.
  */
 public class SnakesAndLaddersBoard extends BoardCanvas {
-  private final Map<String, Color> snakeColors = new HashMap<>();
-  private final Map<String, Color> ladderColors = new HashMap<>();
+  private static final int SNAKE_SEGMENTS = 20; // Number of line segments in a snake
+  private final Map<Integer, Color> snakeColors = new HashMap<>();
+  private final Map<Integer, Color> ladderColors = new HashMap<>();
+  private final RandomGenerator colorRandom;
   private Runnable onAnimationCompleteCallback;
 
+  // Snake and ladder shapes in canvas coordinates, computed for one canvas size
+  private final List<MoveShape> shapes = new ArrayList<>();
+  private double shapesWidth = -1;
+  private double shapesHeight = -1;
+
+  /**
+   * The precomputed shape of a snake or a ladder.
+   *
+   * @param ladder    true for a ladder, false for a snake
+   * @param color     the color to draw with
+   * @param lineWidth the width of the lines
+   * @param points    for a ladder, four coordinates for every line; for a snake, an x and y
+   *                  coordinate for every point along its body, starting at the head
+   * @param headSize  the diameter of the head of a snake
+   */
+  private record MoveShape(
+          boolean ladder, Color color, double lineWidth, double[] points, double headSize) {
+  }
+
   private static final List<Color> SNAKE_COLOR_OPTIONS = List.of(
           Color.rgb(182, 70, 95),
           Color.rgb(217, 154, 197),
@@ -44,64 +69,99 @@ public class SnakesAndLaddersBoard extends BoardCanvas {
    * @param board the game board to be rendered
    */
   public SnakesAndLaddersBoard(Board board) {
+    this(board, RandomSource.create());
+  }
+
+  /**
+   * Constructs a new SnakesAndLaddersBoard that picks snake and ladder colors with the given
+   * generator. A seeded generator always gives the same colors.
+   *
+   * @param board       the game board to be rendered
+   * @param colorRandom the generator to pick colors with
+   */
+  public SnakesAndLaddersBoard(Board board, RandomGenerator colorRandom) {
     super(board);
+    this.colorRandom = colorRandom;
   }
 
   /**
    * Draws all snakes and ladders on the board based on tile actions.
-   * Iterates through all tiles to find MoveAction instances and draws
+   * Looks up the tiles with a MoveAction in the board's action index and draws
    * either a snake or a ladder depending on whether the move is forward or backward.
    */
   public void drawSnakesAndLadders() {
-    for (Tile tile : board.getTiles()) {
-      double normalizedWidth = tile.getWidth();
+    drawSnakesAndLadders(getGraphicsContext2D());
+  }
+
+  /**
+   * Draws all snakes and ladders on the board, scaled to the size of this canvas.
+   * The shapes are computed once for every canvas size and then drawn from the cache.
+   *
+   * @param gc the graphics context to draw on
+   */
+  protected void drawSnakesAndLadders(GraphicsContext gc) {
+    if (getWidth() != shapesWidth || getHeight() != shapesHeight) {
+      buildShapes();
+    }
+    for (MoveShape shape : shapes) {
+      if (shape.ladder()) {
+        drawLadder(gc, shape);
+      } else {
+        drawSnake(gc, shape);
+      }
+    }
+  }
 
-      // determine tile color
-      boolean hasAction = tile.getAction() != null;
-      if (hasAction) {
-        boolean isMoveAction = tile.getAction() instanceof MoveAction;
-        if (isMoveAction) {
-          int start = ((MoveAction) tile.getAction()).getStart();
-          int end = ((MoveAction) tile.getAction()).getEnd();
-          Tile startTile = board.getTile(start);
-          Tile endTile = board.getTile(end);
-          Point2D centerOffset = new Point2D(1, 1).multiply(normalizedWidth / 2);
-          Point2D startTilePos = startTile.getPosition().add(centerOffset);
-          Point2D endTilePos = endTile.getPosition().add(centerOffset);
-          boolean isLadder = start < end;
-
-          if (isLadder) {
-            drawLadder(startTilePos, endTilePos, normalizedWidth * 0.7);
-          } else {
-            drawSnake(startTilePos, endTilePos, normalizedWidth * 0.15);
-          }
-        }
+  /**
+   * Computes the shapes of all snakes and ladders for the current canvas size.
+   * Colors are picked the first time a move is seen and kept by the ID of its tile, so they
+   * stay the same when the canvas is resized.
+   */
+  private void buildShapes() {
+    shapes.clear();
+    for (Tile tile : board.getTilesWithAction(MoveAction.class)) {
+      double normalizedWidth = tile.getWidth();
+      MoveAction action = (MoveAction) tile.getAction();
+      int start = action.getStart();
+      int end = action.getEnd();
+      Tile startTile = board.getTile(start);
+      Tile endTile = board.getTile(end);
+      Point2D centerOffset = new Point2D(1, 1).multiply(normalizedWidth / 2);
+      Point2D startTilePos = startTile.getPosition().add(centerOffset);
+      Point2D endTilePos = endTile.getPosition().add(centerOffset);
+      boolean isLadder = start < end;
+
+      if (isLadder) {
+        // (Help from autocomplete: I didn't know about the computeIfAbsent method)
+        Color ladderColor = ladderColors.computeIfAbsent(tile.getId(),
+                k -> RandomMath.randomPick(LADDER_COLOR_OPTIONS, colorRandom)
+                        .orElse(Color.BROWN));
+        shapes.add(ladderShape(ladderColor, startTilePos, endTilePos, normalizedWidth * 0.7));
+      } else {
+        Color snakeColor = snakeColors.computeIfAbsent(tile.getId(),
+                k -> RandomMath.randomPick(SNAKE_COLOR_OPTIONS, colorRandom)
+                        .orElse(Color.PURPLE));
+        shapes.add(snakeShape(snakeColor, startTilePos, endTilePos, normalizedWidth * 0.15));
       }
     }
+    shapesWidth = getWidth();
+    shapesHeight = getHeight();
   }
 
   /**
-   * Draws a ladder between two points on the board.
-   * Creates a visual ladder with two side rails and multiple rungs between them.
+   * Computes the lines of a ladder between two points on the board.
+   * A ladder has two side rails and multiple rungs between them.
    *
+   * @param color       the color of the ladder
    * @param start       the starting point (bottom) of the ladder
    * @param end         the ending point (top) of the ladder
    * @param ladderWidth the width of the ladder
+   * @return the ladder shape, with four canvas coordinates for every line
    */
-  private void drawLadder(Point2D start, Point2D end, double ladderWidth) {
+  private MoveShape ladderShape(Color color, Point2D start, Point2D end, double ladderWidth) {
     // canvas width and height
     double canvasWidth = getWidth();
     final double canvasHeight = getHeight();
-    GraphicsContext gc = getGraphicsContext2D();
-
-    // Get or create color for this ladder
-    String ladderKey = start.getX() + "," + start.getY() + "->" + end.getX() + "," + end.getY();
-    // (Help from autocomplete: I didn't know about the computeIfAbsent method)
-    Color ladderColor = ladderColors.computeIfAbsent(ladderKey,
-            k -> RandomMath.randomPick(LADDER_COLOR_OPTIONS).orElse(Color.BROWN));
-
-    gc.setStroke(ladderColor);
-    gc.setLineWidth(5);  // Make ladder thicker
 
     // vector from start to end
     Point2D vector = end.subtract(start);
@@ -111,61 +171,49 @@ public class SnakesAndLaddersBoard extends BoardCanvas {
     Point2D leg1Offset = perpendicular.multiply(ladderWidth / 2);
     Point2D leg2Offset = perpendicular.multiply(-ladderWidth / 2);
 
-    // draw leg 1
-    double x1 = (start.getX() + leg1Offset.getX()) * canvasWidth;
-    double y1 = (start.getY() + leg1Offset.getY()) * canvasHeight;
-    double x2 = (end.getX() + leg1Offset.getX()) * canvasWidth;
-    double y2 = (end.getY() + leg1Offset.getY()) * canvasHeight;
-    gc.strokeLine(x1, y1, x2, y2);
-
-    // draw leg 2
-    x1 = (start.getX() + leg2Offset.getX()) * canvasWidth;
-    y1 = (start.getY() + leg2Offset.getY()) * canvasHeight;
-    x2 = (end.getX() + leg2Offset.getX()) * canvasWidth;
-    y2 = (end.getY() + leg2Offset.getY()) * canvasHeight;
-    gc.strokeLine(x1, y1, x2, y2);
-
-    // draw the steps
+    // the steps
     double stepGap = ladderWidth;
     Point2D stepGapOffset = vector.normalize().multiply(stepGap);
     Point2D stepVector = vector.subtract(stepGapOffset);
     int stepCount = Math.max(2, (int) (stepVector.magnitude() / stepGap) + 1);
+
+    double[] lines = new double[(2 + stepCount) * 4];
+    int index = 0;
+    // leg 1 and leg 2
+    for (Point2D legOffset : List.of(leg1Offset, leg2Offset)) {
+      lines[index++] = (start.getX() + legOffset.getX()) * canvasWidth;
+      lines[index++] = (start.getY() + legOffset.getY()) * canvasHeight;
+      lines[index++] = (end.getX() + legOffset.getX()) * canvasWidth;
+      lines[index++] = (end.getY() + legOffset.getY()) * canvasHeight;
+    }
     for (int i = 0; i < stepCount; i++) {
       Point2D stepCenter = start.add(stepGapOffset.multiply(i + 0.5));
       Point2D stepStart = stepCenter.add(leg1Offset);
       Point2D stepEnd = stepCenter.add(leg2Offset);
-      x1 = stepStart.getX() * canvasWidth;
-      y1 = stepStart.getY() * canvasHeight;
-      x2 = stepEnd.getX() * canvasWidth;
-      y2 = stepEnd.getY() * canvasHeight;
-      gc.strokeLine(x1, y1, x2, y2);
+      lines[index++] = stepStart.getX() * canvasWidth;
+      lines[index++] = stepStart.getY() * canvasHeight;
+      lines[index++] = stepEnd.getX() * canvasWidth;
+      lines[index++] = stepEnd.getY() * canvasHeight;
     }
+    return new MoveShape(true, color, 5, lines, 0);
   }
 
   /**
-   * Draws a snake from start to end with a wave effect.
-   * Creates a visual snake with a sinusoidal path and a distinct head.
+   * Computes the path of a snake from start to end with a wave effect.
+   * The snake follows a sinusoidal path and has a distinct head at the start.
    *
+   * @param color                the color of the snake
    * @param start                the starting point (head) of the snake
    * @param end                  the ending point (tail) of the snake
    * @param normalizedSnakeWidth the normalized width of the snake
+   * @return the snake shape, with the canvas coordinates of every point along its body
    */
-  private void drawSnake(Point2D start, Point2D end, double normalizedSnakeWidth) {
+  private MoveShape snakeShape(
+          Color color, Point2D start, Point2D end, double normalizedSnakeWidth) {
     // canvas width and height
     double canvasWidth = getWidth();
     final double canvasHeight = getHeight();
-    GraphicsContext gc = getGraphicsContext2D();
-
-    // Get or create color for this snake
-    String snakeKey = start.getX() + "," + start.getY() + "->" + end.getX() + "," + end.getY();
-    // (Help from autocomplete: I didn't know about the computeIfAbsent method)
-    Color snakeColor = snakeColors.computeIfAbsent(snakeKey,
-            k -> RandomMath.randomPick(SNAKE_COLOR_OPTIONS).orElse(Color.PURPLE));
-
-    gc.setStroke(snakeColor);
-    gc.setFill(snakeColor);
     double snakeWidth = normalizedSnakeWidth * canvasWidth;
-    gc.setLineWidth(snakeWidth);  // Make snake body thick
 
     // vector from start to end
     Point2D vector = end.subtract(start);
@@ -176,16 +224,14 @@ public class SnakesAndLaddersBoard extends BoardCanvas {
     Point2D perpendicular = new Point2D(-direction.getY(), direction.getX());
 
     // Wave parameters
-    int segments = 20; // Number of line segments to draw
     double amplitude = normalizedSnakeWidth * 2; // Wave height
     double frequency = 3.0; // Number of waves
 
-    // Create snake path using sine wave
-    double[] xpoints = new double[segments + 1];
-    double[] ypoints = new double[segments + 1];
+    // Create snake path using sine wave, as x and y pairs
+    double[] points = new double[(SNAKE_SEGMENTS + 1) * 2];
 
-    for (int i = 0; i <= segments; i++) {
-      double t = (double) i / segments; // parametric value between 0 and 1
+    for (int i = 0; i <= SNAKE_SEGMENTS; i++) {
+      double t = (double) i / SNAKE_SEGMENTS; // parametric value between 0 and 1
 
       // Position along direct path
       Point2D pos = start.add(direction.multiply(t * length));
@@ -196,31 +242,71 @@ public class SnakesAndLaddersBoard extends BoardCanvas {
       Point2D finalPos = pos.add(waveOffset);
 
       // Convert to canvas coordinates
-      xpoints[i] = finalPos.getX() * canvasWidth;
-      ypoints[i] = finalPos.getY() * canvasHeight;
+      points[2 * i] = finalPos.getX() * canvasWidth;
+      points[2 * i + 1] = finalPos.getY() * canvasHeight;
+    }
+
+    // The head is a larger circle
+    return new MoveShape(false, color, snakeWidth, points, snakeWidth * 2);
+  }
+
+  /**
+   * Draws a ladder from its cached lines.
+   *
+   * @param gc     the graphics context to draw on
+   * @param ladder the ladder shape
+   */
+  private void drawLadder(GraphicsContext gc, MoveShape ladder) {
+    gc.setStroke(ladder.color());
+    gc.setLineWidth(ladder.lineWidth());  // Make ladder thicker
+    double[] lines = ladder.points();
+    for (int i = 0; i < lines.length; i += 4) {
+      gc.strokeLine(lines[i], lines[i + 1], lines[i + 2], lines[i + 3]);
     }
+  }
+
+  /**
+   * Draws a snake from its cached path.
+   *
+   * @param gc    the graphics context to draw on
+   * @param snake the snake shape
+   */
+  private void drawSnake(GraphicsContext gc, MoveShape snake) {
+    gc.setStroke(snake.color());
+    gc.setLineWidth(snake.lineWidth());  // Make snake body thick
 
     // Draw snake body
-    gc.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-    for (int i = 0; i < segments; i++) {
-      gc.strokeLine(xpoints[i], ypoints[i], xpoints[i + 1], ypoints[i + 1]);
+    double[] points = snake.points();
+    gc.setLineCap(StrokeLineCap.ROUND);
+    for (int i = 0; i + 3 < points.length; i += 2) {
+      gc.strokeLine(points[i], points[i + 1], points[i + 2], points[i + 3]);
     }
 
-    // Draw snake head (larger circle)
-    double headSize = snakeWidth * 2;
-    gc.setFill(snakeColor.brighter());
-    gc.fillOval(xpoints[0] - headSize / 2, ypoints[0] - headSize / 2, headSize, headSize);
+    // Draw snake head
+    double headSize = snake.headSize();
+    gc.setFill(snake.color().brighter());
+    gc.fillOval(points[0] - headSize / 2, points[1] - headSize / 2, headSize, headSize);
+  }
+
+  /**
+   * Draws the tiles with the snakes and ladders on top, which never move during a game.
+   *
+   * @param gc the graphics context of the off-screen layer
+   */
+  @Override
+  protected void drawStaticLayer(GraphicsContext gc) {
+    drawTiles(gc);
+    drawSnakesAndLadders(gc);
   }
 
   /**
-   * Renders the entire game board by drawing tiles, snakes, ladders, and players.
-   * Overrides the draw method from the parent class to include game-specific elements.
+   * Renders the entire game board by drawing the cached tiles, snakes and ladders, and then
+   * the players. Overrides the draw method from the parent class.
    */
   @Override
   public void draw() {
     clearCanvas();
-    drawTiles();
-    drawSnakesAndLadders();
+    drawCachedStaticLayer();
     if (!players.isEmpty()) {
       drawPlayers(players);
     }
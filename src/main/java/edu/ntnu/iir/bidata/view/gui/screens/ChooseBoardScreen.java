@@ -1,13 +1,13 @@
 package edu.ntnu.iir.bidata.view.gui.screens;
 
 import edu.ntnu.iir.bidata.exceptions.DirectoryCreationException;
+import edu.ntnu.iir.bidata.filehandling.BoardThumbnailStore;
 import edu.ntnu.iir.bidata.filehandling.FileConstants;
 import edu.ntnu.iir.bidata.filehandling.FileUtils;
 import edu.ntnu.iir.bidata.model.Board;
 import edu.ntnu.iir.bidata.model.GameType;
 import edu.ntnu.iir.bidata.view.AppEvent;
-import edu.ntnu.iir.bidata.view.gui.BoardCanvas;
-import edu.ntnu.iir.bidata.view.gui.BoardCanvasFactory;
+import edu.ntnu.iir.bidata.view.gui.BoardThumbnailCache;
 import edu.ntnu.iir.bidata.view.gui.GuiApp;
 import java.io.File;
 import java.util.ArrayList;
@@ -26,8 +26,12 @@ import javafx.stage.FileChooser;
  * A JavaFX screen for selecting, saving, and loading game boards.
  * Displays a collection of board options for a specific game type and allows
  * the user to select a board or load/save boards to files.
+ * The board previews are rendered once and then reused from the thumbnail cache.
  */
 public class ChooseBoardScreen extends StackPane {
+  private static final int PREVIEW_SIZE = 300;
+  private static final BoardThumbnailCache thumbnails =
+          new BoardThumbnailCache(new BoardThumbnailStore(FileConstants.THUMBNAILS_DIR));
   private Board selectedBoard;
   private final GameType gameType;
   private final List<Board> boards;
@@ -101,7 +105,7 @@ public class ChooseBoardScreen extends StackPane {
 
   /**
    * Creates a visual card representation for a game board.
-   * The card includes a canvas preview of the board and its name.
+   * The card includes a cached preview of the board and its name.
    * Clicking the card selects the board.
    *
    * @param board the board to create a card for
@@ -111,16 +115,14 @@ public class ChooseBoardScreen extends StackPane {
     VBox boardCard = new VBox();
     boardCard.setStyle("-fx-border-color: black; -fx-border-width: 1px;");
 
-    BoardCanvas boardCanvas = BoardCanvasFactory.createBoardCanvas(gameType, board);
-    boardCanvas.setWidth(300);
-    boardCanvas.setHeight(300);
+    StackPane boardPreview = thumbnails.createPreview(gameType, board, PREVIEW_SIZE);
 
     // Board name
     Label boardName = new Label(board.getName());
     boardName.setFont(new Font(18));
     boardName.setStyle("-fx-padding: 10px;");
 
-    boardCard.getChildren().addAll(boardCanvas, boardName);
+    boardCard.getChildren().addAll(boardPreview, boardName);
 
     // Add click handler to select the board
     boardCard.setOnMouseClicked(event -> {
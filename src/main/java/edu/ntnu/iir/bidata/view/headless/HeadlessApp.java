@@ -0,0 +1,365 @@
+package edu.ntnu.iir.bidata.view.headless;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.model.Player;
+import edu.ntnu.iir.bidata.model.PlayingPiece;
+import edu.ntnu.iir.bidata.model.games.Game;
+import edu.ntnu.iir.bidata.view.AppEvent;
+import edu.ntnu.iir.bidata.view.DispatchMetrics;
+import edu.ntnu.iir.bidata.view.DispatchPolicy;
+import edu.ntnu.iir.bidata.view.EventBus;
+import edu.ntnu.iir.bidata.view.GameEventListener;
+import edu.ntnu.iir.bidata.view.UiApp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * UI application without a window, for running the controller in tests, simulations and
+ * benchmarks without JavaFX.
+ *
+ * <p>Instead of drawing screens, the app remembers which {@link Screen} is shown and what it
+ * shows, and collects every message. Every listener runs on the thread that emits the event,
+ * whatever dispatch policy the controller asks for, so a run is deterministic and goes as fast
+ * as the game model allows. The requested policies are kept and can be read back.
+ */
+public class HeadlessApp implements UiApp {
+  /**
+   * The screens the headless app can show.
+   */
+  public enum Screen {
+    HOME,
+    BOARD_CHOICE,
+    PLAYER_CHOICE,
+    GAME,
+    GAME_OVER
+  }
+
+  private final EventBus eventBus = new EventBus(Runnable::run, () -> true);
+  private final DispatchMetrics dispatchMetrics = new DispatchMetrics();
+  private final Map<AppEvent<?>, DispatchPolicy> requestedPolicies = new ConcurrentHashMap<>();
+  private final List<String> messages = new CopyOnWriteArrayList<>();
+  private volatile Screen screen;
+  private volatile GameType gameType;
+  private volatile List<Board> boards = List.of();
+  private volatile List<Player> players = List.of();
+  private volatile List<PlayingPiece> pieces = List.of();
+  private volatile int maxPlayers;
+  private volatile Game game;
+  private volatile String winnerName;
+  private volatile int updateCount;
+
+  /**
+   * Creates a headless app that times every listener call.
+   */
+  public HeadlessApp() {
+    eventBus.setMetrics(dispatchMetrics);
+  }
+
+  /**
+   * Starts the app by showing the home screen.
+   */
+  @Override
+  public void startApp() {
+    showHome();
+  }
+
+  /**
+   * Quits the app by emitting a quit event and shutting down the event bus.
+   */
+  @Override
+  public void quitApp() {
+    emitEvent(AppEvent.QUIT);
+    eventBus.shutdown();
+  }
+
+  /**
+   * Adds an event listener for the specified event type.
+   *
+   * @param <T>      the type of data associated with the event
+   * @param event    the event to listen for
+   * @param listener the listener to be notified when the event occurs
+   */
+  @Override
+  public <T> void addEventListener(AppEvent<T> event, GameEventListener<T> listener) {
+    eventBus.addListener(event, listener);
+  }
+
+  /**
+   * Removes an event listener for the specified event type.
+   *
+   * @param <T>      the type of data associated with the event
+   * @param event    the event to stop listening for
+   * @param listener the listener to be removed
+   */
+  @Override
+  public <T> void removeEventListener(AppEvent<T> event, GameEventListener<T> listener) {
+    eventBus.removeListener(event, listener);
+  }
+
+  /**
+   * Emits an event with associated data, calling every listener before returning.
+   *
+   * @param <T>   the type of data associated with the event
+   * @param event the event to emit
+   * @param data  the data to pass to listeners
+   */
+  @Override
+  public <T> void emitEvent(AppEvent<T> event, T data) {
+    eventBus.emit(event, data);
+  }
+
+  /**
+   * Remembers the dispatch policy the controller asks for. The listeners still run on the
+   * emitting thread.
+   *
+   * @param event  the event
+   * @param policy the requested dispatch policy
+   */
+  @Override
+  public void setDispatchPolicy(AppEvent<?> event, DispatchPolicy policy) {
+    if (event == null || policy == null) {
+      throw new IllegalArgumentException("Event and policy cannot be null");
+    }
+    requestedPolicies.put(event, policy);
+  }
+
+  /**
+   * Gets the dispatch policy that was requested for an event.
+   *
+   * @param event the event
+   * @return the requested policy, or {@link DispatchPolicy#SAME_THREAD} if none was requested
+   */
+  public DispatchPolicy getRequestedPolicy(AppEvent<?> event) {
+    return requestedPolicies.getOrDefault(event, DispatchPolicy.SAME_THREAD);
+  }
+
+  /**
+   * Runs a task right away on the calling thread, which stands in for the UI thread.
+   *
+   * @param task the task to run
+   */
+  @Override
+  public void runOnUiThread(Runnable task) {
+    eventBus.runOnUi(task);
+  }
+
+  /**
+   * Runs a task right away on the calling thread, which stands in for the background worker.
+   *
+   * @param task the task to run
+   */
+  @Override
+  public void runInBackground(Runnable task) {
+    task.run();
+  }
+
+  /**
+   * Gets the counts and latencies of event deliveries.
+   *
+   * @return the dispatch metrics
+   */
+  @Override
+  public DispatchMetrics getDispatchMetrics() {
+    return dispatchMetrics;
+  }
+
+  /**
+   * Shows the home screen.
+   */
+  @Override
+  public void showHome() {
+    screen = Screen.HOME;
+  }
+
+  /**
+   * Shows the boards that can be chosen for a game type.
+   *
+   * @param gameType the game type that was chosen
+   * @param boards   the boards to choose from
+   */
+  @Override
+  public void showBoardChoice(GameType gameType, List<Board> boards) {
+    this.gameType = gameType;
+    this.boards = List.copyOf(boards);
+    screen = Screen.BOARD_CHOICE;
+  }
+
+  /**
+   * Adds a loaded board to the boards to choose from, if they are being shown.
+   *
+   * @param board the loaded board
+   */
+  @Override
+  public void addLoadedBoard(Board board) {
+    if (screen == Screen.BOARD_CHOICE) {
+      List<Board> withLoaded = new ArrayList<>(boards);
+      withLoaded.add(board);
+      boards = List.copyOf(withLoaded);
+    }
+  }
+
+  /**
+   * Shows the player setup for a game.
+   *
+   * @param players    the players to start with
+   * @param pieces     the playing pieces to choose from
+   * @param maxPlayers the largest number of players
+   */
+  @Override
+  public void showPlayerChoice(List<Player> players, List<PlayingPiece> pieces, int maxPlayers) {
+    this.players = List.copyOf(players);
+    this.pieces = List.copyOf(pieces);
+    this.maxPlayers = maxPlayers;
+    screen = Screen.PLAYER_CHOICE;
+  }
+
+  /**
+   * Replaces the players in the player setup, if the setup is being shown.
+   *
+   * @param players the loaded players
+   */
+  @Override
+  public void showLoadedPlayers(List<Player> players) {
+    if (screen == Screen.PLAYER_CHOICE) {
+      this.players = List.copyOf(players);
+    }
+  }
+
+  /**
+   * Shows the screen of a game that has just started.
+   *
+   * @param game the started game
+   */
+  @Override
+  public void showGame(Game game) {
+    this.game = game;
+    this.updateCount = 0;
+    screen = Screen.GAME;
+  }
+
+  /**
+   * Counts an update of the game screen.
+   *
+   * @param game the game being played
+   */
+  @Override
+  public void updateGame(Game game) {
+    this.game = game;
+    updateCount++;
+  }
+
+  /**
+   * Shows who won the game.
+   *
+   * @param winnerName the name of the winner
+   */
+  @Override
+  public void showGameOver(String winnerName) {
+    this.winnerName = winnerName;
+    screen = Screen.GAME_OVER;
+  }
+
+  /**
+   * Collects a message instead of showing it.
+   *
+   * @param message the message
+   */
+  @Override
+  public void showMessage(String message) {
+    messages.add(message);
+  }
+
+  /**
+   * Gets the screen being shown.
+   *
+   * @return the current screen, or null before the app is started
+   */
+  public Screen getScreen() {
+    return screen;
+  }
+
+  /**
+   * Gets the game type of the last board choice.
+   *
+   * @return the game type, or null if no board choice has been shown
+   */
+  public GameType getGameType() {
+    return gameType;
+  }
+
+  /**
+   * Gets the boards offered by the last board choice, including loaded boards.
+   *
+   * @return an unmodifiable list of boards
+   */
+  public List<Board> getBoards() {
+    return boards;
+  }
+
+  /**
+   * Gets the players in the last player setup.
+   *
+   * @return an unmodifiable list of players
+   */
+  public List<Player> getPlayers() {
+    return players;
+  }
+
+  /**
+   * Gets the playing pieces offered by the last player setup.
+   *
+   * @return an unmodifiable list of playing pieces
+   */
+  public List<PlayingPiece> getPieces() {
+    return pieces;
+  }
+
+  /**
+   * Gets the largest number of players allowed by the last player setup.
+   *
+   * @return the maximum player count
+   */
+  public int getMaxPlayers() {
+    return maxPlayers;
+  }
+
+  /**
+   * Gets the game shown on the game screen.
+   *
+   * @return the game, or null if no game has been shown
+   */
+  public Game getGame() {
+    return game;
+  }
+
+  /**
+   * Gets the number of times the game screen was updated since the game was shown.
+   *
+   * @return the update count
+   */
+  public int getUpdateCount() {
+    return updateCount;
+  }
+
+  /**
+   * Gets the name of the winner shown on the game over screen.
+   *
+   * @return the winner name, or null if no game is over
+   */
+  public String getWinnerName() {
+    return winnerName;
+  }
+
+  /**
+   * Gets every message shown so far, oldest first.
+   *
+   * @return an unmodifiable copy of the messages
+   */
+  public List<String> getMessages() {
+    return List.copyOf(messages);
+  }
+}
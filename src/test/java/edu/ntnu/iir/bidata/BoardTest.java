@@ -2,6 +2,9 @@ package edu.ntnu.iir.bidata;
 
 import edu.ntnu.iir.bidata.model.Board;
 import edu.ntnu.iir.bidata.model.Tile;
+import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tileaction.JailAction;
+import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -11,6 +14,19 @@ import java.util.List;
 
 class BoardTest {
 
+  /**
+   * Creates a board with tiles 0 to 9 and no links or actions.
+   *
+   * @return the board
+   */
+  private static Board createBoard() {
+    Board board = new Board();
+    for (int i = 0; i < 10; i++) {
+      board.addTile(new Tile(i));
+    }
+    return board;
+  }
+
   @Test
   void boardDefaultConstructorCreatesEmptyBoard() {
     // Arrange & Act
@@ -128,4 +144,154 @@ class BoardTest {
     // Act & Assert
     assertEquals(2, board.getTileCount(), "getTileCount should return correct number of tiles");
   }
+
+  @Test
+  void copyIsNotChangedWithTheBoard() {
+    // Arrange
+    Board board = new Board();
+    Tile first = new Tile(1);
+    Tile second = new Tile(2);
+    first.setNextTile(second);
+    first.getStyling().setColor("#FF0000");
+    board.addTile(first);
+    board.addTile(second);
+    board.setName("Original");
+
+    // Act
+    Board copy = board.copy();
+    board.setName("Changed");
+    first.getStyling().setColor("#00FF00");
+    board.addTile(new Tile(3));
+
+    // Assert
+    assertEquals("Original", copy.getName(), "Copy should keep the old name");
+    assertEquals(2, copy.getTileCount(), "Copy should keep the old tiles");
+    assertNotSame(first, copy.getTile(1), "Copy should have its own tiles");
+    assertEquals("#FF0000", copy.getTile(1).getStyling().getColor(),
+            "Copy should keep the old styling");
+    assertSame(copy.getTile(2), copy.getTile(1).getNextTile(),
+            "Copied links should lead to copied tiles");
+  }
+
+  @Test
+  void addTileRejectsTileOfAnotherBoard() {
+    // Arrange
+    Board board = new Board();
+    Tile tile = new Tile(1);
+    board.addTile(tile);
+    Board other = new Board();
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> other.addTile(tile),
+            "A tile should not be added to a second board");
+    assertEquals(0, other.getTileCount(), "Rejected tile should not be added");
+    board.addTile(tile);
+    assertEquals(tile, board.getTile(1), "Tile can be added to its own board again");
+  }
+
+  @Test
+  void addedTilesAreIndexedByAction() {
+    // Arrange
+    Board board = createBoard();
+    Tile tile = new Tile(10);
+    tile.setAction(new MoveAction(10, 2));
+
+    // Act
+    board.addTile(tile);
+    board.getTile(3).setAction(new MoveAction(3, 8));
+
+    // Assert
+    assertEquals(List.of(3, 10), board.getTileIdsWithAction(MoveAction.class),
+            "Both move tiles should be indexed in ID order");
+    assertEquals(2, board.countTilesWithAction(MoveAction.class), "There should be two moves");
+    assertEquals(List.of(board.getTile(3), tile), board.getTilesWithAction(MoveAction.class),
+            "Tiles should be returned in ID order");
+  }
+
+  @Test
+  void changingAnActionUpdatesTheIndex() {
+    // Arrange
+    Board board = createBoard();
+    Tile tile = board.getTile(4);
+
+    // Act
+    tile.setAction(new JailAction());
+    tile.setAction(new GoToJailAction());
+
+    // Assert
+    assertEquals(-1, board.getFirstTileIdWithAction(JailAction.class),
+            "Replaced action should be removed from the index");
+    assertEquals(4, board.getFirstTileIdWithAction(GoToJailAction.class),
+            "New action should be indexed");
+    tile.setAction(null);
+    assertTrue(board.getTileIdsWithAction(GoToJailAction.class).isEmpty(),
+            "Cleared action should be removed from the index");
+  }
+
+  @Test
+  void replacingATileUpdatesTheIndex() {
+    // Arrange
+    Board board = createBoard();
+    board.getTile(5).setAction(new JailAction());
+    Tile old = board.getTile(5);
+
+    // Act
+    board.addTile(new Tile(5));
+
+    // Assert
+    assertEquals(-1, board.getFirstTileIdWithAction(JailAction.class),
+            "Action of the replaced tile should be removed from the index");
+    old.setAction(new JailAction());
+    assertEquals(-1, board.getFirstTileIdWithAction(JailAction.class),
+            "Replaced tile should no longer update the board");
+  }
+
+  @Test
+  void firstTileIdIsTheLowest() {
+    // Arrange
+    Board board = createBoard();
+
+    // Act
+    board.getTile(7).setAction(new JailAction());
+    board.getTile(2).setAction(new JailAction());
+
+    // Assert
+    assertEquals(2, board.getFirstTileIdWithAction(JailAction.class),
+            "Lowest jail ID should be returned");
+  }
+
+  @Test
+  void pathStepsFollowALoop() {
+    // Arrange
+    Board board = createBoard();
+
+    // Act
+    for (int i = 0; i < 10; i++) {
+      board.getTile(i).setNextTile(board.getTile((i + 1) % 10));
+    }
+
+    // Assert
+    assertEquals(3, board.getPathSteps(2, 5), "Forward steps should be counted");
+    assertEquals(4, board.getPathSteps(8, 2), "Steps should wrap around the loop");
+    assertEquals(0, board.getPathSteps(6, 6), "Same tile should be zero steps");
+  }
+
+  @Test
+  void pathStepsFollowChangedLinks() {
+    // Arrange
+    Board board = createBoard();
+    for (int i = 0; i < 9; i++) {
+      board.getTile(i).setNextTile(board.getTile(i + 1));
+    }
+    assertEquals(-1, board.getPathSteps(5, 2), "Earlier tiles cannot be reached on a path");
+    assertEquals(7, board.getPathSteps(2, 9), "Forward steps should be counted");
+
+    // Act: skip tile 5, which leaves two starting tiles
+    board.getTile(4).setNextTile(board.getTile(6));
+
+    // Assert
+    assertEquals(4, board.getPathSteps(2, 7), "Steps should follow the new link");
+    assertEquals(-1, board.getPathSteps(2, 5), "Skipped tile cannot be reached");
+    assertEquals(-1, board.getPathSteps(2, 42), "Missing tile cannot be reached");
+  }
 }
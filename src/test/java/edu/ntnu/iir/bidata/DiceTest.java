@@ -1,6 +1,7 @@
 package edu.ntnu.iir.bidata;
 
 import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.utils.RandomSource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -79,4 +80,101 @@ class DiceTest {
         // Assert
         assertEquals(expectedSum, dice.getSum(), "getSum() should return the sum of all dice counts");
     }
+
+    @Test
+    void rollSumsFillsArrayWithValidSums() {
+        // Arrange
+        Dice dice = new Dice(2, 6, RandomSource.seeded(3));
+        int[] sums = new int[36_000];
+        int[] frequency = new int[13];
+
+        // Act
+        dice.rollSums(sums);
+
+        // Assert
+        for (int sum : sums) {
+            assertTrue(sum >= 2 && sum <= 12, "Sum should be between 2 and 12, but got: " + sum);
+            frequency[sum]++;
+        }
+        // A seven comes up 6 times in 36 and a two once in 36
+        assertTrue(Math.abs(frequency[7] - 6_000) < 400, "Seven should be the most common sum");
+        assertTrue(Math.abs(frequency[2] - 1_000) < 200, "Two should come up once in 36 rolls");
+    }
+
+    @Test
+    void rollSumsOnlyFillsGivenRange() {
+        // Arrange
+        Dice dice = new Dice(3, 6);
+        int[] sums = new int[10];
+
+        // Act
+        dice.rollSums(sums, 2, 5);
+
+        // Assert
+        for (int i = 0; i < sums.length; i++) {
+            if (i >= 2 && i < 7) {
+                assertTrue(sums[i] >= 3 && sums[i] <= 18, "Rolled sum should be between 3 and 18");
+            } else {
+                assertEquals(0, sums[i], "Index " + i + " is outside the range and should be untouched");
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> dice.rollSums(sums, 8, 5),
+                "Range past the end of the array should be rejected");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 6",
+        "2, 6",
+        "3, 6",
+        "2, 100"
+    })
+    void rollTurnsKeepsSumsFacesAndDoublesConsistent(int numberOfDice, int sides) {
+        // Arrange
+        Dice dice = new Dice(numberOfDice, sides, RandomSource.seeded(9));
+        int turns = 500;
+        int[] sums = new int[turns];
+        int[] faces = new int[turns * numberOfDice];
+        boolean[] doubles = new boolean[turns];
+
+        // Act
+        dice.rollTurns(turns, sums, faces, doubles);
+
+        // Assert
+        for (int turn = 0; turn < turns; turn++) {
+            int sum = 0;
+            for (int die = 0; die < numberOfDice; die++) {
+                int face = faces[turn * numberOfDice + die];
+                assertTrue(face >= 1 && face <= sides, "Face should be between 1 and " + sides);
+                sum += face;
+            }
+            assertEquals(sum, sums[turn], "Sum should match the faces of turn " + turn);
+            boolean expectedDoubles = numberOfDice >= 2
+                    && faces[turn * numberOfDice] == faces[turn * numberOfDice + 1];
+            assertEquals(expectedDoubles, doubles[turn], "Doubles flag should match the faces");
+        }
+    }
+
+    @Test
+    void rollTurnsThrowsForShortArrays() {
+        Dice dice = new Dice(2, 6);
+        assertThrows(IllegalArgumentException.class,
+                () -> dice.rollTurns(10, new int[10], new int[10], null),
+                "Faces array needs room for two dice per turn");
+    }
+
+    @Test
+    void getFaceMatchesCounts() {
+        // Arrange
+        Dice dice = new Dice(3, 6);
+
+        // Act
+        dice.rollAll();
+        List<Integer> counts = dice.getCounts();
+
+        // Assert
+        for (int i = 0; i < counts.size(); i++) {
+            assertEquals(counts.get(i), dice.getFace(i), "Face " + i + " should match the counts");
+        }
+    }
 }
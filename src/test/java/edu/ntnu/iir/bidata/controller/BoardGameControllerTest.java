@@ -0,0 +1,140 @@
+package edu.ntnu.iir.bidata.controller;
+
+import edu.ntnu.iir.bidata.model.GameType;
+import edu.ntnu.iir.bidata.model.Player;
+import edu.ntnu.iir.bidata.model.PlayingPiece;
+import edu.ntnu.iir.bidata.model.PlayingPieceType;
+import edu.ntnu.iir.bidata.view.AppEvent;
+import edu.ntnu.iir.bidata.view.DispatchPolicy;
+import edu.ntnu.iir.bidata.view.headless.HeadlessApp;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGameControllerTest {
+  private HeadlessApp app;
+  private BoardGameController controller;
+
+  @BeforeEach
+  void setUp() {
+    app = new HeadlessApp();
+    controller = new BoardGameController(app);
+    controller.setup();
+    controller.run();
+  }
+
+  private List<Player> twoPlayers() {
+    return List.of(
+            new Player("Atas", new PlayingPiece(PlayingPieceType.BOAT)),
+            new Player("Stian", new PlayingPiece(PlayingPieceType.CAR))
+    );
+  }
+
+  private void startGame(GameType gameType) {
+    app.emitEvent(AppEvent.GAME_CHOSEN, gameType);
+    assertEquals(HeadlessApp.Screen.BOARD_CHOICE, app.getScreen(), "Boards should be shown");
+    assertFalse(app.getBoards().isEmpty(), "Some boards should be offered");
+
+    app.emitEvent(AppEvent.BOARD_SELECTED, app.getBoards().get(0));
+    app.emitEvent(AppEvent.BOARD_CHOSEN, app.getBoards().get(0));
+    assertEquals(HeadlessApp.Screen.PLAYER_CHOICE, app.getScreen(), "Player setup should show");
+
+    app.emitEvent(AppEvent.PLAYERS_CHOSEN, twoPlayers());
+    assertEquals(HeadlessApp.Screen.GAME, app.getScreen(), "Game should be shown");
+    assertSame(controller.getGame(), app.getGame(), "Shown game should be the controller's");
+  }
+
+  private void playToEnd(GameType gameType, String rollEvent) {
+    startGame(gameType);
+
+    int rolls = 0;
+    while (app.getScreen() == HeadlessApp.Screen.GAME && rolls < 100_000) {
+      app.emitEvent(AppEvent.IN_GAME_EVENT, rollEvent);
+      rolls++;
+    }
+
+    assertEquals(HeadlessApp.Screen.GAME_OVER, app.getScreen(), "Game should end");
+    assertEquals(rolls, app.getUpdateCount(), "Every roll should update the game screen");
+    assertEquals(controller.getGame().getWinner().getName(), app.getWinnerName(),
+            "Game over screen should name the winner");
+  }
+
+  @Test
+  void snakesAndLaddersRunsToGameOverWithoutJavaFx() {
+    playToEnd(GameType.SNAKES_AND_LADDERS, "snakes_and_ladders_dice_rolled");
+  }
+
+  @Test
+  void monopolyRunsToGameOverWithoutJavaFx() {
+    playToEnd(GameType.MONOPOLY, "monopoly_dice_rolled");
+  }
+
+  @Test
+  void fastForwardPlaysManyTurnsWithOneUpdate() {
+    startGame(GameType.MONOPOLY);
+
+    app.emitEvent(AppEvent.FAST_FORWARD, 100_000);
+
+    assertEquals(HeadlessApp.Screen.GAME_OVER, app.getScreen(), "Game should end");
+    assertEquals(1, app.getUpdateCount(), "All turns should update the game screen once");
+    assertEquals(controller.getGame().getWinner().getName(), app.getWinnerName(),
+            "Game over screen should name the winner");
+  }
+
+  @Test
+  void fastForwardWithoutTurnsIsRejected() {
+    startGame(GameType.SNAKES_AND_LADDERS);
+
+    app.emitEvent(AppEvent.FAST_FORWARD, 0);
+
+    assertEquals(HeadlessApp.Screen.GAME, app.getScreen(), "Game should still be shown");
+    assertEquals(0, app.getUpdateCount(), "Game screen should not be updated");
+    assertEquals(1, app.getMessages().size(), "The problem should be shown as a message");
+  }
+
+  @Test
+  void playAgainShowsHome() {
+    assertEquals(HeadlessApp.Screen.HOME, app.getScreen(), "App should start at home");
+    app.emitEvent(AppEvent.GAME_CHOSEN, GameType.SNAKES_AND_LADDERS);
+
+    app.emitEvent(AppEvent.PLAY_AGAIN);
+
+    assertEquals(HeadlessApp.Screen.HOME, app.getScreen(), "Home should be shown again");
+  }
+
+  @Test
+  void playersWithSharedPiecesAreRejected() {
+    app.emitEvent(AppEvent.GAME_CHOSEN, GameType.SNAKES_AND_LADDERS);
+    app.emitEvent(AppEvent.BOARD_SELECTED, app.getBoards().get(0));
+    app.emitEvent(AppEvent.BOARD_CHOSEN, app.getBoards().get(0));
+
+    app.emitEvent(AppEvent.PLAYERS_CHOSEN, List.of(
+            new Player("Atas", new PlayingPiece(PlayingPieceType.DOG)),
+            new Player("Stian", new PlayingPiece(PlayingPieceType.DOG))
+    ));
+
+    assertEquals(HeadlessApp.Screen.PLAYER_CHOICE, app.getScreen(), "Setup should stay open");
+    assertEquals(1, app.getMessages().size(), "The problem should be shown as a message");
+  }
+
+  @Test
+  void fileEventsFinishBeforeEmitReturns() {
+    app.emitEvent(AppEvent.GAME_CHOSEN, GameType.SNAKES_AND_LADDERS);
+
+    app.emitEvent(AppEvent.LOAD_BOARD, Path.of("no-such-directory", "missing-board.json"));
+
+    assertEquals(DispatchPolicy.BACKGROUND, app.getRequestedPolicy(AppEvent.LOAD_BOARD),
+            "Controller should ask for loading in the background");
+    assertEquals(1, app.getMessages().size(), "Loading should have finished during emit");
+    assertTrue(app.getMessages().get(0).startsWith("Board file not found"),
+            "Missing file should be reported, got " + app.getMessages().get(0));
+  }
+
+  @Test
+  void nullAppThrows() {
+    assertThrows(IllegalArgumentException.class, () -> new BoardGameController(null));
+  }
+}
@@ -0,0 +1,83 @@
+package edu.ntnu.iir.bidata.filehandling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.BoardFactory;
+import edu.ntnu.iir.bidata.model.GameType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class BoardThumbnailStoreTest {
+
+  /**
+   * Deletes a directory with the files in it.
+   */
+  private static void deleteDirectory(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  @Test
+  void keyDependsOnContentButNotOnName() {
+    BoardThumbnailStore store = new BoardThumbnailStore(Path.of("unused"));
+    Board board = BoardFactory.normalSnakesAndLadders();
+    Board renamed = BoardFactory.normalSnakesAndLadders();
+    renamed.setName("Loaded board");
+
+    String key = store.key(board, GameType.SNAKES_AND_LADDERS, 300);
+
+    assertEquals(64, key.length(), "Key should be a SHA-256 hash in hexadecimal");
+    assertEquals(key, store.key(board, GameType.SNAKES_AND_LADDERS, 300),
+            "Same board should give the same key");
+    assertEquals(key, store.key(renamed, GameType.SNAKES_AND_LADDERS, 300),
+            "Name should not change the key");
+    assertNotEquals(key, store.key(board, GameType.SNAKES_AND_LADDERS, 150),
+            "Preview size should change the key");
+    assertNotEquals(key, store.key(board, GameType.MONOPOLY, 300),
+            "Game type should change the key");
+    assertNotEquals(key, store.key(BoardFactory.standardMonopoly(),
+            GameType.SNAKES_AND_LADDERS, 300), "Different tiles should change the key");
+  }
+
+  @Test
+  void writtenPreviewsAreFound() throws IOException {
+    Path directory = Files.createTempDirectory("thumbnails");
+    try {
+      BoardThumbnailStore store = new BoardThumbnailStore(directory.resolve("previews"));
+      String key = store.key(BoardFactory.normalSnakesAndLadders(),
+              GameType.SNAKES_AND_LADDERS, 300);
+      assertFalse(store.contains(key), "Preview should not exist before it is written");
+
+      store.write(key, new byte[] {1, 2, 3});
+      store.write(key, new byte[] {4, 5});
+
+      assertTrue(store.contains(key), "Written preview should be found");
+      assertArrayEquals(new byte[] {4, 5}, Files.readAllBytes(store.pathOf(key)),
+              "Latest preview should replace the old one");
+      try (Stream<Path> files = Files.list(store.getDirectory())) {
+        assertEquals(1, files.count(), "No temporary files should be left behind");
+      }
+      deleteDirectory(store.getDirectory());
+    } finally {
+      Files.deleteIfExists(directory);
+    }
+  }
+
+  @Test
+  void invalidArgumentsThrow() {
+    assertThrows(IllegalArgumentException.class, () -> new BoardThumbnailStore(null));
+    BoardThumbnailStore store = new BoardThumbnailStore(Path.of("unused"));
+    assertThrows(IllegalArgumentException.class,
+            () -> store.key(null, GameType.MONOPOLY, 300));
+    assertThrows(IllegalArgumentException.class,
+            () -> store.key(BoardFactory.standardMonopoly(), null, 300));
+  }
+}
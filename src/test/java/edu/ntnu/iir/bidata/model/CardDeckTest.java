@@ -0,0 +1,116 @@
+package edu.ntnu.iir.bidata.model;
+
+import edu.ntnu.iir.bidata.model.tileaction.PropertyType;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardDeckTest {
+
+  @Test
+  void cardKeepsOpcodeAndSignedArgument() {
+    int card = CardDeck.card(CardDeck.MOVE_BY, -3);
+
+    assertEquals(CardDeck.MOVE_BY, CardDeck.opcode(card), "Opcode should be kept");
+    assertEquals(-3, CardDeck.argument(card), "Negative argument should be kept");
+    assertFalse(CardDeck.movesForward(card), "Moving back should not count as forward");
+    assertTrue(CardDeck.movesForward(CardDeck.card(CardDeck.ADVANCE_TO, 0)),
+            "Advancing should count as forward");
+  }
+
+  @Test
+  void drawWrapsAroundAfterLastCard() {
+    CompiledBoard board = new CompiledBoard(BoardFactory.standardMonopoly());
+    int[] cards = {CardDeck.card(CardDeck.COLLECT, 10), CardDeck.card(CardDeck.PAY, 20)};
+    CardDeck deck = new CardDeck(cards, board);
+
+    assertEquals(cards[0], deck.draw(), "First draw should be the top card");
+    assertEquals(cards[1], deck.draw(), "Second draw should be the next card");
+    assertEquals(cards[0], deck.draw(), "Drawing should start over after the last card");
+  }
+
+  @Test
+  void shuffleIsReproducibleAndKeepsCards() {
+    CompiledBoard board = new CompiledBoard(BoardFactory.standardMonopoly());
+    CardDeck first = new CardDeck(CardDeck.standardChance(), board);
+    CardDeck second = new CardDeck(CardDeck.standardChance(), board);
+
+    first.shuffle(RandomSource.seeded(42));
+    second.shuffle(RandomSource.seeded(42));
+
+    int sum = 0;
+    int expectedSum = 0;
+    for (int i = 0; i < first.getSize(); i++) {
+      int card = first.draw();
+      assertEquals(card, second.draw(), "Same seed should give the same order");
+      sum += card;
+      expectedSum += first.getCard(i);
+    }
+    assertEquals(expectedSum, sum, "Shuffling should keep every card");
+  }
+
+  @Test
+  void gamesShuffleIndependently() {
+    CompiledBoard board = new CompiledBoard(BoardFactory.standardMonopoly());
+    CardDeck deck = new CardDeck(CardDeck.standardTreasury(), board, 2);
+
+    deck.shuffle(0, RandomSource.seeded(1));
+    deck.draw(0);
+
+    assertEquals(deck.getCard(0), deck.draw(1), "Unshuffled game should draw in base order");
+    assertEquals(2, deck.getGames(), "Deck should be kept for two games");
+  }
+
+  @Test
+  void unplayableCardsAreLeftOut() {
+    Board small = new Board();
+    for (int i = 0; i < 10; i++) {
+      small.addTile(new Tile(i));
+    }
+    int[] cards = {
+        CardDeck.card(CardDeck.ADVANCE_TO, 39),
+        CardDeck.card(CardDeck.ADVANCE_TO_NEAREST, PropertyType.RAILROAD.ordinal()),
+        CardDeck.card(CardDeck.COLLECT, 50),
+    };
+
+    CardDeck deck = new CardDeck(cards, new CompiledBoard(small));
+
+    assertEquals(1, deck.getSize(), "Only the collect card should be playable");
+    assertEquals(cards[2], deck.getCard(0), "The collect card should be kept");
+  }
+
+  @Test
+  void emptyDeckDrawsNothing() {
+    CardDeck deck = new CardDeck(new int[0], new CompiledBoard(BoardFactory.standardMonopoly()));
+
+    assertEquals(CardDeck.NOTHING, deck.draw(), "Empty deck should draw nothing");
+  }
+
+  @Test
+  void moveTargetsFollowTheBoard() {
+    CardDeck deck = new CardDeck(CardDeck.standardChance(),
+            new CompiledBoard(BoardFactory.standardMonopoly()));
+
+    assertEquals(4, deck.getMoveTarget(CardDeck.card(CardDeck.MOVE_BY, -3), 7),
+            "Going back three from 7 should reach 4");
+    assertEquals(38, deck.getMoveTarget(CardDeck.card(CardDeck.MOVE_BY, -3), 1),
+            "Going back past GO should wrap around");
+    assertEquals(15, deck.getMoveTarget(
+            CardDeck.card(CardDeck.ADVANCE_TO_NEAREST, PropertyType.RAILROAD.ordinal()), 7),
+            "Nearest railroad from 7 should be 15");
+    assertEquals(5, deck.getMoveTarget(
+            CardDeck.card(CardDeck.ADVANCE_TO_NEAREST, PropertyType.RAILROAD.ordinal()), 36),
+            "Nearest railroad from 36 should wrap around to 5");
+    assertEquals(-1, deck.getMoveTarget(CardDeck.card(CardDeck.PAY, 15), 7),
+            "Paying should not move the player");
+  }
+
+  @Test
+  void nullCardsThrow() {
+    CompiledBoard board = new CompiledBoard(BoardFactory.standardMonopoly());
+    assertThrows(IllegalArgumentException.class, () -> new CardDeck(null, board));
+    assertThrows(IllegalArgumentException.class,
+            () -> new CardDeck(CardDeck.standardChance(), board, 0));
+  }
+}
@@ -0,0 +1,134 @@
+package edu.ntnu.iir.bidata.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tileaction.JailAction;
+import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
+import org.junit.jupiter.api.Test;
+
+class CompiledBoardTest {
+
+  /**
+   * Creates a board with tiles numbered from 1 to the given count and no actions.
+   */
+  private static Board plainBoard(int tileCount) {
+    Board board = new Board();
+    for (int i = 1; i <= tileCount; i++) {
+      board.addTile(new Tile(i));
+    }
+    return board;
+  }
+
+  @Test
+  void compiledBoardMatchesActionsOfBoard() {
+    // Arrange
+    Board board = plainBoard(10);
+    board.getTile(3).setAction(new MoveAction(3, 8));
+    board.getTile(5).setAction(new GoToJailAction());
+    board.getTile(6).setAction(new JailAction());
+
+    // Act
+    CompiledBoard compiled = new CompiledBoard(board);
+
+    // Assert
+    assertEquals(10, compiled.getTileCount(), "Tile count should match the board");
+    assertEquals(10, compiled.getMaxTileId(), "Highest tile id should be 10");
+    assertEquals(CompiledBoard.NO_TILE, compiled.getActionKind(0), "Id 0 has no tile");
+    assertEquals(CompiledBoard.NO_ACTION, compiled.getActionKind(1), "Tile 1 has no action");
+    assertEquals(CompiledBoard.MOVE, compiled.getActionKind(3), "Tile 3 has a move action");
+    assertEquals(CompiledBoard.GO_TO_JAIL, compiled.getActionKind(5),
+            "Tile 5 sends players to jail");
+    assertEquals(CompiledBoard.NO_TILE, compiled.getActionKind(11), "Id 11 is off the board");
+    assertEquals(8, compiled.getJumpTarget(3), "Ladder on tile 3 should lead to tile 8");
+    assertEquals(4, compiled.getJumpTarget(4), "Tile without a move should lead to itself");
+    assertEquals(6, compiled.getJailPosition(), "Jail should be on tile 6");
+    assertFalse(compiled.hasMoveCycle(), "Board should have no cycles");
+  }
+
+  @Test
+  void chainedMovesResolveToLastTile() {
+    // Arrange
+    Board board = plainBoard(20);
+    board.getTile(2).setAction(new MoveAction(2, 9));
+    board.getTile(9).setAction(new MoveAction(9, 4));
+    board.getTile(4).setAction(new MoveAction(4, 15));
+
+    // Act
+    CompiledBoard compiled = new CompiledBoard(board);
+
+    // Assert
+    assertEquals(9, compiled.getJumpTarget(2), "Single hop should stop after one move");
+    assertEquals(15, compiled.getFinalTarget(2), "Chain from tile 2 should end on tile 15");
+    assertEquals(15, compiled.getFinalTarget(9), "Chain from tile 9 should end on tile 15");
+    assertEquals(7, compiled.getFinalTarget(7), "Tile without a move should resolve to itself");
+    assertFalse(compiled.hasMoveCycle(), "Board should have no cycles");
+  }
+
+  @Test
+  void cyclicMovesAreDetected() {
+    // Arrange
+    Board board = plainBoard(10);
+    board.getTile(2).setAction(new MoveAction(2, 5));
+    board.getTile(5).setAction(new MoveAction(5, 7));
+    board.getTile(7).setAction(new MoveAction(7, 5));
+
+    // Act
+    CompiledBoard compiled = new CompiledBoard(board);
+
+    // Assert
+    assertTrue(compiled.hasMoveCycle(), "Board should have a cycle");
+    assertEquals(CompiledBoard.CYCLE, compiled.getFinalTarget(2),
+            "Chain leading into a cycle never ends");
+    assertEquals(CompiledBoard.CYCLE, compiled.getFinalTarget(7), "Tile in a cycle never ends");
+    assertEquals(5, compiled.getJumpTarget(2), "Single hop should still be defined");
+  }
+
+  @Test
+  void longChainResolvesWithoutRecursion() {
+    // Arrange
+    int tileCount = 200_000;
+    Board board = plainBoard(tileCount);
+    for (int i = 1; i < tileCount; i++) {
+      board.getTile(i).setAction(new MoveAction(i, i + 1));
+    }
+
+    // Act
+    CompiledBoard compiled = new CompiledBoard(board);
+
+    // Assert
+    assertEquals(tileCount, compiled.getFinalTarget(1), "Chain should end on the last tile");
+    assertFalse(compiled.hasMoveCycle(), "Board should have no cycles");
+  }
+
+  @Test
+  void requireTilesThrowsForMissingTile() {
+    // Arrange
+    Board board = plainBoard(5);
+    board.addTile(new Tile(7));
+    CompiledBoard compiled = new CompiledBoard(board);
+
+    // Act & Assert
+    assertDoesNotThrow(() -> compiled.requireTiles(1, 5), "Tiles 1 to 5 exist");
+    assertThrows(IllegalArgumentException.class, () -> compiled.requireTiles(1, 7),
+            "Tile 6 is missing");
+  }
+
+  @Test
+  void requireMovesWithinThrowsForMoveOffBoard() {
+    // Arrange
+    Board board = plainBoard(5);
+    board.getTile(2).setAction(new MoveAction(2, 9));
+    CompiledBoard compiled = new CompiledBoard(board);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> compiled.requireMovesWithin(1, 5),
+            "Move to tile 9 leads off the board");
+  }
+
+  @Test
+  void compilingNullBoardThrows() {
+    assertThrows(IllegalArgumentException.class, () -> new CompiledBoard(null),
+            "Null board should be rejected");
+  }
+}
@@ -0,0 +1,108 @@
+package edu.ntnu.iir.bidata.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyLedgerTest {
+
+  private MoneyLedger ledger;
+
+  @BeforeEach
+  void setUp() {
+    ledger = new MoneyLedger(2);
+    ledger.deposit(0, 1500, TransactionReason.STARTING_MONEY);
+    ledger.deposit(1, 1500, TransactionReason.STARTING_MONEY);
+  }
+
+  @Test
+  void transactionsChangeBalances() {
+    ledger.setTurn(1);
+    assertEquals(1700, ledger.deposit(0, 200, TransactionReason.PASSING_GO),
+            "Deposit should return the new balance");
+    assertEquals(1400, ledger.withdraw(1, 100, TransactionReason.WITHDRAWAL),
+            "Withdrawal should return the new balance");
+    ledger.transfer(0, 1, 300, TransactionReason.TRANSFER);
+
+    assertEquals(1400, ledger.getBalance(0), "Seat 0 should have paid the transfer");
+    assertEquals(1700, ledger.getBalance(1), "Seat 1 should have received the transfer");
+  }
+
+  @Test
+  void everyTransactionIsLogged() {
+    ledger.setTurn(3);
+    ledger.transfer(1, 0, 50, TransactionReason.TRANSFER);
+
+    assertEquals(3, ledger.getTransactionCount(), "Log should have three entries");
+    assertEquals(MoneyLedger.BANK, ledger.getPayer(0), "Starting money should come from the bank");
+    assertEquals(TransactionReason.STARTING_MONEY, ledger.getReason(0),
+            "First entry should be starting money");
+    assertEquals(1, ledger.getPayer(2), "Seat 1 should have paid");
+    assertEquals(0, ledger.getPayee(2), "Seat 0 should have been paid");
+    assertEquals(50, ledger.getAmount(2), "Amount should be logged");
+    assertEquals(3, ledger.getTransactionTurn(2), "Turn should be logged");
+    assertThrows(IndexOutOfBoundsException.class, () -> ledger.getAmount(3),
+            "Reading past the log should throw");
+  }
+
+  @Test
+  void invalidTransactionsThrowAndAreNotLogged() {
+    assertThrows(IllegalArgumentException.class,
+            () -> ledger.withdraw(0, 1600, TransactionReason.WITHDRAWAL),
+            "Should throw when the seat doesn't have enough money");
+    assertThrows(IllegalArgumentException.class,
+            () -> ledger.deposit(0, 0, TransactionReason.DEPOSIT),
+            "Should throw when the amount is not positive");
+
+    assertEquals(2, ledger.getTransactionCount(), "Failed transactions should not be logged");
+    assertEquals(1500, ledger.getBalance(0), "Balance should not change");
+  }
+
+  @Test
+  void rollbackUndoesLaterTurns() {
+    ledger.setTurn(1);
+    ledger.deposit(0, 200, TransactionReason.PASSING_GO);
+    ledger.setTurn(2);
+    ledger.transfer(0, 1, 700, TransactionReason.TRANSFER);
+    ledger.withdraw(1, 100, TransactionReason.WITHDRAWAL);
+
+    ledger.rollbackToTurn(2);
+
+    assertEquals(1700, ledger.getBalance(0), "Seat 0 should be back to its balance after turn 1");
+    assertEquals(1500, ledger.getBalance(1), "Seat 1 should be back to its balance after turn 1");
+    assertEquals(3, ledger.getTransactionCount(), "Only entries before turn 2 should remain");
+    assertEquals(2, ledger.getTurn(), "Current turn should be the rolled back turn");
+  }
+
+  @Test
+  void bankrollsFollowBalancesTurnByTurn() {
+    ledger.setTurn(1);
+    ledger.transfer(0, 1, 500, TransactionReason.TRANSFER);
+    ledger.setTurn(3);
+    ledger.deposit(0, 200, TransactionReason.PASSING_GO);
+
+    assertArrayEquals(new int[] {1500, 1000, 1000, 1200}, ledger.getBankrolls(0),
+            "Seat 0 should have a balance for every turn");
+    assertArrayEquals(new int[] {1500, 2000, 2000, 2000}, ledger.getBankrolls(1),
+            "Seat 1 should have a balance for every turn");
+  }
+
+  @Test
+  void logGrowsPastItsInitialCapacity() {
+    for (int turn = 1; turn <= 200; turn++) {
+      ledger.setTurn(turn);
+      ledger.deposit(turn % 2, 1, TransactionReason.DEPOSIT);
+    }
+
+    assertEquals(202, ledger.getTransactionCount(), "Every transaction should be logged");
+    assertEquals(1600, ledger.getBalance(0), "Seat 0 should have every even deposit");
+    assertEquals(200, ledger.getTransactionTurn(201), "Last entry should keep its turn");
+  }
+
+  @Test
+  void negativeSeatCountThrows() {
+    assertThrows(IllegalArgumentException.class, () -> new MoneyLedger(-1),
+            "Should throw for a negative seat count");
+  }
+}
@@ -0,0 +1,77 @@
+package edu.ntnu.iir.bidata.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyOwnershipTest {
+
+  private RentTable table;
+
+  @BeforeEach
+  void setUp() {
+    table = new RentTable(BoardFactory.standardMonopoly());
+  }
+
+  @Test
+  void buyingSetsOwnerAndCounts() {
+    PropertyOwnership ownership = new PropertyOwnership(table, 2);
+    ownership.buy(1, 6);
+    ownership.buy(1, 8);
+
+    assertEquals(1, ownership.getOwner(6), "Seat 1 should own Oriental Avenue");
+    assertEquals(PropertyOwnership.NO_OWNER, ownership.getOwner(9),
+            "Connecticut Avenue should be unowned");
+    assertEquals(2, ownership.countOwned(1), "Seat 1 should own two properties");
+    assertEquals(2, ownership.countOwnedInGroup(0, 1, table.getGroup(9)),
+            "Seat 1 should own two light blue streets");
+  }
+
+  @Test
+  void rentFollowsOwnedGroup() {
+    PropertyOwnership ownership = new PropertyOwnership(table, 2);
+    assertEquals(0, ownership.getRent(6, 7), "Unowned property should charge nothing");
+
+    ownership.buy(0, 6);
+    ownership.buy(0, 8);
+    assertEquals(6, ownership.getRent(6, 7), "Partial group should charge base rent");
+
+    ownership.buy(0, 9);
+    assertEquals(12, ownership.getRent(6, 7), "Whole group should double the rent");
+  }
+
+  @Test
+  void invalidPurchaseThrows() {
+    PropertyOwnership ownership = new PropertyOwnership(table, 2);
+    ownership.buy(0, 39);
+
+    assertThrows(IllegalArgumentException.class, () -> ownership.buy(1, 39),
+            "Should throw when the property is already owned");
+    assertThrows(IllegalArgumentException.class, () -> ownership.buy(1, 0),
+            "Should throw when the tile is not a property");
+  }
+
+  @Test
+  void gamesAreKeptApart() {
+    PropertyOwnership ownership = new PropertyOwnership(table, 3, 2);
+    ownership.buy(1, 0, 5);
+    ownership.buy(2, 1, 5);
+
+    assertEquals(PropertyOwnership.NO_OWNER, ownership.getOwner(0, 5), "Game 0 should be empty");
+    assertEquals(0, ownership.getOwner(1, 5), "Game 1 should have its own owner");
+    assertEquals(1, ownership.getOwner(2, 5), "Game 2 should have its own owner");
+
+    ownership.reset(1);
+    assertEquals(PropertyOwnership.NO_OWNER, ownership.getOwner(1, 5), "Game 1 should be reset");
+    assertEquals(0, ownership.countOwned(1, 0), "Reset should clear the bitset");
+    assertEquals(1, ownership.getOwner(2, 5), "Other games should not be reset");
+  }
+
+  @Test
+  void invalidConfigurationThrows() {
+    assertThrows(IllegalArgumentException.class, () -> new PropertyOwnership(null, 2));
+    assertThrows(IllegalArgumentException.class, () -> new PropertyOwnership(table, 0, 2));
+    assertThrows(IllegalArgumentException.class, () -> new PropertyOwnership(table, 200));
+  }
+}
@@ -0,0 +1,66 @@
+package edu.ntnu.iir.bidata.model;
+
+import edu.ntnu.iir.bidata.model.tileaction.PropertyAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RentTableTest {
+
+  @Test
+  void standardBoardHasEveryProperty() {
+    RentTable table = new RentTable(BoardFactory.standardMonopoly());
+
+    assertEquals(10, table.getGroupCount(), "There should be 8 colours, railroads and utilities");
+    assertTrue(table.isProperty(39), "Boardwalk should be a property");
+    assertFalse(table.isProperty(30), "Go to jail should not be a property");
+    assertEquals(400, table.getPrice(39), "Boardwalk should cost 400");
+    assertEquals(RentTable.NO_GROUP, table.getGroup(0), "GO should have no group");
+    assertEquals(table.getGroup(37), table.getGroup(39), "Park Place and Boardwalk share a group");
+    assertEquals(4, table.getGroupSize(table.getGroup(5)), "There should be four railroads");
+  }
+
+  @Test
+  void streetRentDoublesWithWholeGroup() {
+    RentTable table = new RentTable(BoardFactory.standardMonopoly());
+
+    assertEquals(6, table.getRent(6, 1, 7), "Oriental Avenue alone should charge base rent");
+    assertEquals(6, table.getRent(6, 2, 7), "Rent should not change before the group is full");
+    assertEquals(12, table.getRent(6, 3, 7), "Whole colour group should double the rent");
+  }
+
+  @Test
+  void railroadRentDoublesPerRailroad() {
+    RentTable table = new RentTable(BoardFactory.standardMonopoly());
+
+    assertEquals(25, table.getRent(15, 1, 9), "One railroad should charge 25");
+    assertEquals(50, table.getRent(15, 2, 9), "Two railroads should charge 50");
+    assertEquals(200, table.getRent(15, 4, 9), "Four railroads should charge 200");
+  }
+
+  @Test
+  void utilityRentMultipliesDiceSum() {
+    RentTable table = new RentTable(BoardFactory.standardMonopoly());
+
+    assertEquals(4 * 9, table.getRent(12, 1, 9), "One utility should charge 4 times the dice");
+    assertEquals(RentTable.UTILITY_GROUP_MULTIPLIER * 9, table.getRent(28, 2, 9),
+            "Both utilities should charge 10 times the dice");
+  }
+
+  @Test
+  void groupMasksSpanSeveralWords() {
+    Board board = new Board();
+    for (int i = 0; i < 200; i++) {
+      board.addTile(new Tile(i));
+    }
+    board.getTile(3).setAction(new PropertyAction("A", PropertyType.STREET, "g", 10, 1));
+    board.getTile(150).setAction(new PropertyAction("B", PropertyType.STREET, "g", 10, 1));
+
+    RentTable table = new RentTable(board);
+
+    assertEquals(4, table.getWords(), "200 tiles should need four words");
+    assertEquals(1L << 3, table.getGroupMask(0, 0), "Tile 3 should be in the first word");
+    assertEquals(1L << (150 - 128), table.getGroupMask(0, 2), "Tile 150 should be in word 2");
+  }
+}
@@ -0,0 +1,114 @@
+package edu.ntnu.iir.bidata.model.games;
+
+import edu.ntnu.iir.bidata.model.*;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+class CommandPipelineTest {
+
+  private SnakesAndLaddersGame game;
+  private Player player1;
+  private Player player2;
+  private MockDice mockDice;
+
+  @BeforeEach
+  void setUp() {
+    game = new SnakesAndLaddersGame();
+    player1 = new Player("Player1", new PlayingPiece(PlayingPieceType.CAR));
+    player2 = new Player("Player2", new PlayingPiece(PlayingPieceType.HAT));
+
+    Board board = new Board();
+    for (int i = 1; i <= 100; i++) {
+      board.addTile(new Tile(i));
+    }
+    mockDice = new MockDice(2, 6);
+    game.setDice(mockDice);
+    game.setBoard(board);
+    game.setPlayers(Arrays.asList(player1, player2));
+    game.start();
+  }
+
+  @Test
+  void queuedRollsAreMergedIntoOneCommand() {
+    CommandPipeline pipeline = new CommandPipeline(game);
+
+    pipeline.submit(new RollDiceCommand(1));
+    pipeline.submit(new RollDiceCommand(1));
+    pipeline.submit(new RollDiceCommand(3));
+
+    assertEquals(1, pipeline.getQueuedCount(), "Rolls should be merged into one command");
+  }
+
+  @Test
+  void flushPlaysEveryQueuedTurnAndSummarizes() {
+    CommandPipeline pipeline = new CommandPipeline(game);
+    mockDice.setNextResult(2);
+
+    pipeline.submit(new RollDiceCommand(2));
+    pipeline.submit(new RollDiceCommand(2));
+    TurnSummary summary = pipeline.flush();
+
+    assertEquals(4, summary.turnsPlayed(), "Four turns should be played");
+    assertEquals(5, player1.getPosition(), "Player1 should have moved twice");
+    assertEquals(5, player2.getPosition(), "Player2 should have moved twice");
+    assertArrayEquals(new int[] {1, 1}, summary.startPositions(), "Start positions should match");
+    assertArrayEquals(new int[] {5, 5}, summary.endPositions(), "End positions should match");
+    assertTrue(summary.hasMoved(0), "Player1 should have moved");
+    assertNull(summary.moneyChanges(), "Snakes and Ladders players have no money");
+    assertEquals(0, summary.currentPlayerIndex(), "Player1 should be next");
+    assertEquals(0, pipeline.getQueuedCount(), "Queue should be empty after a flush");
+  }
+
+  @Test
+  void rollsStopWhenGameIsWon() {
+    CommandPipeline pipeline = new CommandPipeline(game);
+    mockDice.setNextResult(12);
+
+    TurnSummary summary = pipeline.execute(new RollDiceCommand(1_000));
+
+    assertTrue(summary.isGameOver(), "Game should be over");
+    assertEquals(player1, summary.winner(), "Player1 should reach the end first");
+    assertEquals(17, summary.turnsPlayed(), "No turns should be played after the win");
+  }
+
+  @Test
+  void monopolySummaryIncludesMoneyChanges() {
+    MonopolyGame monopoly = new MonopolyGame();
+    List<Player> players = List.of(new Player("A"), new Player("B"));
+    monopoly.setBoard(BoardFactory.standardMonopoly());
+    monopoly.setPlayers(players);
+    monopoly.setDice(new Dice(2, 6, RandomSource.seeded(4)));
+    monopoly.start();
+
+    TurnSummary summary = new CommandPipeline(monopoly).execute(new RollDiceCommand(30));
+
+    assertEquals(2, summary.moneyChanges().length, "There should be a change per player");
+    for (int seat = 0; seat < 2; seat++) {
+      assertEquals(monopoly.getPlayerMoney(players.get(seat)) - MonopolyGame.STARTING_MONEY,
+              summary.moneyChanges()[seat], "Money change should match seat " + seat);
+    }
+  }
+
+  @Test
+  void eventsMapToCommands() {
+    assertEquals(new RollDiceCommand(1), GameCommand.fromEvent("monopoly_dice_rolled"),
+            "Monopoly dice event should roll once");
+    assertEquals(new RollDiceCommand(1), GameCommand.fromEvent("snakes_and_ladders_dice_rolled"),
+            "Snakes and Ladders dice event should roll once");
+    assertNull(GameCommand.fromEvent("unknown_event"), "Unknown events have no command");
+  }
+
+  @Test
+  void invalidCommandsThrow() {
+    CommandPipeline pipeline = new CommandPipeline(game);
+    assertThrows(IllegalArgumentException.class, () -> new RollDiceCommand(0));
+    assertThrows(IllegalArgumentException.class, () -> pipeline.submit(null));
+    assertThrows(IllegalArgumentException.class, () -> new CommandPipeline(null));
+  }
+}
@@ -26,6 +26,11 @@ class GameTest {
       }
     }
 
+    @Override
+    protected void playTurn() {
+      setCurrentPlayerIndex((getCurrentPlayerIndex() + 1) % getPlayers().size());
+    }
+
     @Override
     public void start() {
       // Simple implementation for testing
@@ -3,6 +3,8 @@ package edu.ntnu.iir.bidata.model.games;
 import edu.ntnu.iir.bidata.model.*;
 import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
 import edu.ntnu.iir.bidata.model.tileaction.JailAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyAction;
+import edu.ntnu.iir.bidata.model.tileaction.PropertyType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -270,6 +272,74 @@ class MonopolyGameTest {
     assertTrue(game.isGameOver(), "Game should be over");
   }
 
+  @Test
+  void passingGoIsRecordedInTheLedger() {
+    // Arrange
+    game.setCurrentPlayerIndex(0);
+    player1.setPosition(8);
+    mockDice.setNextResult(2);
+
+    // Act
+    game.handleEvent("monopoly_dice_rolled");
+
+    // Assert
+    MoneyLedger ledger = game.getLedger();
+    int last = ledger.getTransactionCount() - 1;
+    assertEquals(1, game.getTurnNumber(), "One turn should have been played");
+    assertEquals(TransactionReason.PASSING_GO, ledger.getReason(last),
+            "Last transaction should be the GO payment");
+    assertEquals(0, ledger.getPayee(last), "Player1 should be paid");
+    assertEquals(1, ledger.getTransactionTurn(last), "Payment should be in the first turn");
+  }
+
+  @Test
+  void moneyOfPlayerNotInGameThrows() {
+    Player outsider = new Player("Outsider", new PlayingPiece(PlayingPieceType.HAT));
+
+    assertEquals(0, game.getPlayerMoney(outsider), "Outsider should have no money");
+    assertThrows(IllegalArgumentException.class, () -> game.addMoney(outsider, 100),
+            "Should throw when paying a player not in the game");
+  }
+
+  @Test
+  void playerLandingOnUnownedPropertyBuysIt() {
+    // Arrange
+    board.getTile(3).setAction(new PropertyAction("Street", PropertyType.STREET, "red", 100, 10));
+    game.start();
+    game.setCurrentPlayerIndex(0);
+    mockDice.setNextResult(3);
+
+    // Act
+    game.handleEvent("monopoly_dice_rolled");
+
+    // Assert
+    assertEquals(player1, game.getPropertyOwner(3), "Player1 should own the property");
+    assertEquals(STARTING_MONEY - 100, game.getPlayerMoney(player1),
+            "Player1 should have paid the price");
+  }
+
+  @Test
+  void playerLandingOnOwnedPropertyPaysRent() {
+    // Arrange
+    board.getTile(3).setAction(new PropertyAction("Street", PropertyType.STREET, "red", 100, 10));
+    game.start();
+    game.getProperties().buy(1, 3);
+    game.setCurrentPlayerIndex(0);
+    mockDice.setNextResult(3);
+
+    // Act
+    game.handleEvent("monopoly_dice_rolled");
+
+    // Assert
+    assertEquals(STARTING_MONEY - 20, game.getPlayerMoney(player1),
+            "Player1 should pay double rent for a whole group");
+    assertEquals(STARTING_MONEY + 20, game.getPlayerMoney(player2),
+            "Player2 should receive the rent");
+    MoneyLedger ledger = game.getLedger();
+    assertEquals(TransactionReason.RENT, ledger.getReason(ledger.getTransactionCount() - 1),
+            "Rent should be recorded in the ledger");
+  }
+
   @Test
   void handleEventWithUnknownEventDoesNothing() {
     // Arrange
@@ -0,0 +1,234 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.*;
+import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tileaction.JailAction;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class BatchEngineTest {
+
+  // Dice that replays fixed face pairs, both one roll at a time and in bulk, and shuffles the
+  // card decks with a seeded generator
+  private static class ScriptedDice extends Dice {
+    private final int[] faces;
+    private int index = -2;
+
+    ScriptedDice(int[] faces) {
+      super(2, 6, RandomSource.seeded(0));
+      this.faces = faces;
+    }
+
+    private void advance() {
+      index = (index + 2) % faces.length;
+    }
+
+    @Override
+    public int rollAll() {
+      advance();
+      return getSum();
+    }
+
+    @Override
+    public int getFace(int die) {
+      return faces[index + die];
+    }
+
+    @Override
+    public int getSum() {
+      return faces[index] + faces[index + 1];
+    }
+
+    @Override
+    public void rollSums(int[] sums, int offset, int length) {
+      for (int i = offset; i < offset + length; i++) {
+        sums[i] = rollAll();
+      }
+    }
+
+    @Override
+    public void rollTurns(int turns, int[] sums, int[] faces, boolean[] doubles) {
+      for (int turn = 0; turn < turns; turn++) {
+        sums[turn] = rollAll();
+        doubles[turn] = getFace(0) == getFace(1);
+      }
+    }
+  }
+
+  private static int[] randomFaces(long seed, int rolls) {
+    Random random = new Random(seed);
+    int[] faces = new int[rolls * 2];
+    for (int i = 0; i < faces.length; i++) {
+      faces[i] = random.nextInt(6) + 1;
+    }
+    return faces;
+  }
+
+  @Test
+  void singleSnakesAndLaddersGameMatchesSimulator() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+
+    for (long seed = 0; seed < 20; seed++) {
+      int[] faces = randomFaces(seed, 10_000);
+      SnakesAndLaddersResult expected = new SnakesAndLaddersSimulator(board, 3,
+              new ScriptedDice(faces)).playGame();
+
+      BatchEngine engine = new BatchEngine(board, GameType.SNAKES_AND_LADDERS, 1, 3,
+              new ScriptedDice(faces));
+      assertEquals(0, engine.run(100_000), "Game with seed " + seed + " should finish");
+
+      assertEquals(expected.turns(), engine.getTurns(0), "Turns should match for seed " + seed);
+      assertEquals(expected.winnerSeat(), engine.getWinner(0),
+              "Winner should match for seed " + seed);
+    }
+  }
+
+  @Test
+  void singleMonopolyGameMatchesSimulator() {
+    Board board = BoardFactory.standardMonopoly();
+
+    for (long seed = 0; seed < 20; seed++) {
+      int[] faces = randomFaces(seed, 5_000);
+      MonopolyResult expected = new MonopolySimulator(board, 4, new ScriptedDice(faces))
+              .playGame();
+
+      BatchEngine engine = new BatchEngine(board, GameType.MONOPOLY, 1, 4,
+              new ScriptedDice(faces));
+      assertEquals(0, engine.run(100_000), "Game with seed " + seed + " should finish");
+
+      assertEquals(expected.turns(), engine.getTurns(0), "Turns should match for seed " + seed);
+      assertEquals(expected.winnerSeat(), engine.getWinner(0),
+              "Winner should match for seed " + seed);
+      for (int seat = 0; seat < 4; seat++) {
+        assertEquals(expected.finalMoney()[seat], engine.getMoney(0, seat),
+                "Money of seat " + seat + " should match for seed " + seed);
+      }
+    }
+  }
+
+  @Test
+  void manyGamesFinishWithExpectedMeanLength() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+    BatchEngine engine = new BatchEngine(board, GameType.SNAKES_AND_LADDERS, 20_000, 1,
+            new Dice(2, 6, RandomSource.seeded(3)));
+
+    assertEquals(0, engine.run(10_000), "All games should finish");
+    SimulationSummary summary = engine.summarize();
+
+    // A single player's game length has the same distribution as the exact Markov solution
+    double expected = new SnakesAndLaddersMarkovSolver(board, new Dice(2, 6))
+            .getExpectedTurns();
+    assertEquals(20_000, summary.getGames(), "Every game should be summarized");
+    assertEquals(expected, summary.getMeanTurns(), expected * 0.03,
+            "Mean game length should match the exact expectation");
+  }
+
+  @Test
+  void resetStartsAllGamesAgain() {
+    Board board = BoardFactory.standardMonopoly();
+    BatchEngine engine = new BatchEngine(board, GameType.MONOPOLY, 100, 2,
+            new Dice(2, 6, RandomSource.seeded(5)));
+    engine.run(50);
+
+    engine.reset();
+
+    assertEquals(100, engine.getRunningCount(), "All games should run again");
+    for (int game = 0; game < 100; game++) {
+      assertEquals(0, engine.getTurns(game), "No turns should have been played");
+      assertEquals(-1, engine.getWinner(game), "No game should have a winner");
+      assertEquals(0, engine.getPosition(game, 1), "Players should be back on GO");
+      assertEquals(1500, engine.getMoney(game, 1), "Players should have starting money");
+    }
+  }
+
+  @Test
+  void stalematedGamesStopAndAreCensored() {
+    Board board = new Board();
+    board.addTile(new Tile(0));
+    BatchEngine engine = new BatchEngine(board, GameType.MONOPOLY, 10, 2,
+            new Dice(2, 6, RandomSource.seeded(8)));
+
+    assertEquals(0, engine.run(1_000), "Every game should stop");
+
+    SimulationSummary summary = engine.summarize();
+    assertEquals(GameOutcome.STALEMATE, engine.getOutcome(0), "Game should be stalemated");
+    assertEquals(0, summary.getGames(), "No game should count as finished");
+    assertEquals(10, summary.getStalemateGames(), "Every game should be stalemated");
+  }
+
+  @Test
+  void gamesOnBoardWithoutIncomeAreStalemated() {
+    // Seats only ever stay on GO or are sent back to the jail on GO, so no money changes hands
+    Board board = new Board();
+    board.addTile(new Tile(0));
+    board.addTile(new Tile(1));
+    board.getTile(0).setAction(new JailAction());
+    board.getTile(1).setAction(new GoToJailAction());
+    BatchEngine engine = new BatchEngine(board, GameType.MONOPOLY, 10, 2,
+            new Dice(2, 6, RandomSource.seeded(10)));
+
+    assertEquals(0, engine.run(10_000), "Every game should stop");
+
+    assertEquals(10, engine.summarize().getStalemateGames(), "Every game should be stalemated");
+  }
+
+  @Test
+  void jailedSeatsRepeatingStateAreNotStalemated() {
+    // Both players go to jail and stay there for three rounds, then pass GO until one wins
+    Board board = new Board();
+    for (int i = 0; i < 10; i++) {
+      board.addTile(new Tile(i));
+    }
+    board.getTile(4).setAction(new GoToJailAction());
+    board.getTile(7).setAction(new JailAction());
+    int[] faces = new int[20 + 40];
+    int[] opening = {1, 3, 1, 3, 1, 2, 1, 2, 1, 2, 1, 2, 1, 2, 1, 2, 2, 2, 2, 2};
+    System.arraycopy(opening, 0, faces, 0, opening.length);
+    for (int i = opening.length; i < faces.length; i += 2) {
+      faces[i] = 2;
+      faces[i + 1] = 3;
+    }
+    BatchEngine engine = new BatchEngine(board, GameType.MONOPOLY, 1, 2, new ScriptedDice(faces));
+
+    assertEquals(0, engine.run(1_000), "Game should finish");
+
+    assertEquals(GameOutcome.WON, engine.getOutcome(0), "Game should not be stalemated");
+    assertEquals(0, engine.getWinner(0), "Player 0 should pass GO often enough to win");
+    assertEquals(17, engine.getTurns(0), "Player 0 should win on their fourth turn out of jail");
+  }
+
+  @Test
+  void gamesLeftAfterTurnBudgetAreCensored() {
+    Board board = BoardFactory.standardMonopoly();
+    BatchEngine engine = new BatchEngine(board, GameType.MONOPOLY, 100, 4,
+            new Dice(2, 6, RandomSource.seeded(9)));
+
+    int running = engine.run(20);
+    SimulationSummary summary = engine.summarize();
+
+    assertTrue(running > 0, "Some games should still be running after 20 turns");
+    assertEquals(running, summary.getTurnLimitGames(), "Running games should hit the budget");
+    assertEquals(100, summary.getGames() + summary.getCensoredGames(),
+            "Every game should be either finished or censored");
+  }
+
+  @Test
+  void invalidConfigurationThrows() {
+    Board board = BoardFactory.standardMonopoly();
+    assertThrows(IllegalArgumentException.class,
+            () -> new BatchEngine(board, null, 10, 2, new Dice(2, 6)));
+    assertThrows(IllegalArgumentException.class,
+            () -> new BatchEngine(board, GameType.MONOPOLY, 0, 2, new Dice(2, 6)));
+    assertThrows(IllegalArgumentException.class,
+            () -> new BatchEngine(board, GameType.MONOPOLY, 10, 200, new Dice(2, 6)));
+    assertThrows(IllegalArgumentException.class,
+            () -> new BatchEngine(board, GameType.MONOPOLY, 10, 2, new Dice(1, 6)));
+    assertThrows(IllegalStateException.class,
+            () -> new BatchEngine(BoardFactory.normalSnakesAndLadders(),
+                    GameType.SNAKES_AND_LADDERS, 10, 2, new Dice(2, 6)).getMoney(0, 0));
+  }
+}
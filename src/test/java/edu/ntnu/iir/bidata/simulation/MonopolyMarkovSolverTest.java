@@ -0,0 +1,84 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.*;
+import edu.ntnu.iir.bidata.model.games.MonopolyGame;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+class MonopolyMarkovSolverTest {
+
+  @Test
+  void occupancyMatchesLongMonopolyGame() {
+    Board board = BoardFactory.standardMonopoly();
+    MonopolyMarkovSolver solver = new MonopolyMarkovSolver(board, new Dice(2, 6));
+
+    // Let one player roll many times and count where they stand after each roll
+    MonopolyGame game = new MonopolyGame();
+    Player player = new Player("Player");
+    game.setBoard(board);
+    game.setPlayers(List.of(player));
+    game.setDice(new Dice(2, 6, new SplittableRandom(11)));
+    game.start();
+    int rolls = 400_000;
+    double[] counted = new double[board.getTileCount()];
+    for (int i = 0; i < rolls; i++) {
+      game.handleEvent("monopoly_dice_rolled");
+      counted[player.getPosition()]++;
+    }
+
+    double[] occupancy = solver.getTileOccupancy();
+    for (int tile = 0; tile < occupancy.length; tile++) {
+      assertEquals(counted[tile] / rolls, occupancy[tile], 0.004,
+              "Occupancy of tile " + tile + " should match the game");
+    }
+  }
+
+  @Test
+  void probabilitiesAreConsistent() {
+    Board board = BoardFactory.standardMonopoly();
+    MonopolyMarkovSolver solver = new MonopolyMarkovSolver(board, new Dice(2, 6));
+
+    double occupancy = 0;
+    for (double probability : solver.getTileOccupancy()) {
+      occupancy += probability;
+    }
+    double landings = 0;
+    for (double probability : solver.getLandingProbabilities()) {
+      landings += probability;
+    }
+
+    assertEquals(1.0, occupancy, 1e-9, "Occupancy should sum to one");
+    assertEquals(1.0 - solver.getJailProbability() * 5.0 / 6.0, landings, 1e-9,
+            "Only rolls that stay locked in jail should land nowhere");
+    assertEquals(0.0, solver.getTileOccupancy()[30], 1e-12,
+            "Nobody should stay on the go-to-jail tile");
+    assertTrue(solver.getLandingProbabilities()[30] > 0, "Players should land on go-to-jail");
+  }
+
+  @Test
+  void boardWithoutSpecialTilesIsUniform() {
+    Board board = new Board();
+    for (int i = 0; i < 12; i++) {
+      board.addTile(new Tile(i));
+    }
+
+    MonopolyMarkovSolver solver = new MonopolyMarkovSolver(board, new Dice(2, 6));
+
+    for (double probability : solver.getTileOccupancy()) {
+      assertEquals(1.0 / 12, probability, 1e-9);
+    }
+    assertEquals(0.0, solver.getJailProbability(), 1e-12);
+  }
+
+  @Test
+  void singleDieThrowsException() {
+    Board board = BoardFactory.standardMonopoly();
+
+    assertThrows(IllegalArgumentException.class,
+            () -> new MonopolyMarkovSolver(board, new Dice(1, 6)));
+  }
+}
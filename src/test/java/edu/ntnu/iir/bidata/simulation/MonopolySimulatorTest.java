@@ -0,0 +1,277 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.*;
+import edu.ntnu.iir.bidata.model.games.MonopolyGame;
+import edu.ntnu.iir.bidata.model.tileaction.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tileaction.JailAction;
+import edu.ntnu.iir.bidata.utils.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class MonopolySimulatorTest {
+
+  // Two dice that replay fixed faces, so the game and the simulator see the same rolls.
+  // The seeded generator makes them shuffle the card decks the same way too.
+  private static class ScriptedDice extends Dice {
+    private final int[] faces;
+    private int index = -2;
+
+    ScriptedDice(int[] faces) {
+      super(2, 6, RandomSource.seeded(0));
+      this.faces = faces;
+    }
+
+    @Override
+    public int rollAll() {
+      index = (index + 2) % faces.length;
+      return getSum();
+    }
+
+    @Override
+    public List<Integer> getCounts() {
+      return List.of(faces[index], faces[index + 1]);
+    }
+
+    @Override
+    public int getFace(int die) {
+      return faces[index + die];
+    }
+
+    @Override
+    public int getSum() {
+      return faces[index] + faces[index + 1];
+    }
+  }
+
+  private static int[] randomFaces(long seed, int rolls) {
+    Random random = new Random(seed);
+    int[] faces = new int[rolls * 2];
+    for (int i = 0; i < faces.length; i++) {
+      faces[i] = random.nextInt(6) + 1;
+    }
+    return faces;
+  }
+
+  @Test
+  void simulatorMatchesGameForSameDiceSequence() {
+    Board board = BoardFactory.standardMonopoly();
+
+    for (long seed = 0; seed < 20; seed++) {
+      int[] faces = randomFaces(seed, 5_000);
+
+      // Play the real game
+      MonopolyGame game = new MonopolyGame();
+      List<Player> players = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        players.add(new Player("Player" + i));
+      }
+      game.setBoard(board);
+      game.setPlayers(players);
+      game.setDice(new ScriptedDice(faces));
+      game.start();
+      int gameTurns = 0;
+      while (!game.isGameOver()) {
+        game.handleEvent("monopoly_dice_rolled");
+        gameTurns++;
+      }
+
+      // Play the simulator
+      MonopolySimulator simulator = new MonopolySimulator(board, 4, new ScriptedDice(faces));
+      MonopolyResult result = simulator.playGame();
+
+      assertEquals(gameTurns, result.turns(), "Turn count should match the game");
+      assertEquals(players.indexOf(game.getWinner()), result.winnerSeat(),
+              "Winner should match the game");
+      for (int seat = 0; seat < players.size(); seat++) {
+        assertEquals(game.getPlayerMoney(players.get(seat)), result.finalMoney()[seat],
+                "Money of seat " + seat + " should match the game");
+      }
+    }
+  }
+
+  @Test
+  void bankrollsAreRecordedForEveryTurnWhenEnabled() {
+    Board board = BoardFactory.standardMonopoly();
+    MonopolySimulator simulator =
+            new MonopolySimulator(board, 2, new ScriptedDice(randomFaces(3, 2_000)), true);
+
+    MonopolyResult result = simulator.playGame();
+
+    assertEquals(2, result.bankrolls().length, "There should be one trajectory per seat");
+    for (int seat = 0; seat < 2; seat++) {
+      int[] trajectory = result.bankrolls()[seat];
+      assertEquals(result.turns(), trajectory.length, "There should be one entry per turn");
+      assertEquals(result.finalMoney()[seat], trajectory[trajectory.length - 1],
+              "The last entry should be the final money");
+    }
+  }
+
+  @Test
+  void bankrollsAreNotRecordedByDefault() {
+    Board board = BoardFactory.standardMonopoly();
+    MonopolySimulator simulator =
+            new MonopolySimulator(board, 2, new ScriptedDice(randomFaces(4, 2_000)));
+
+    assertNull(simulator.playGame().bankrolls(), "Bankrolls should not be recorded");
+  }
+
+  @Test
+  void jailStayIsCountedWhenDoublesAreRolled() {
+    // Small board with a "Go To Jail" tile at 4 and the jail at 7
+    Board board = new Board();
+    for (int i = 0; i < 10; i++) {
+      board.addTile(new Tile(i));
+    }
+    board.getTile(4).setAction(new GoToJailAction());
+    board.getTile(7).setAction(new JailAction());
+
+    int[] faces = new int[14 + 40];
+    int[] opening = {
+        1, 3,  // player 0 lands on "Go To Jail"
+        1, 2,  // player 1
+        1, 2,  // player 0 stays in jail
+        1, 2,  // player 1
+        1, 2,  // player 0 stays in jail
+        1, 2,  // player 1
+        2, 2   // player 0 rolls doubles on their third turn in jail
+    };
+    System.arraycopy(opening, 0, faces, 0, opening.length);
+    for (int i = opening.length; i < faces.length; i += 2) {
+      faces[i] = 2;
+      faces[i + 1] = 3;
+    }
+
+    MonopolyResult result = new MonopolySimulator(board, 2, new ScriptedDice(faces)).playGame();
+
+    assertEquals(0, result.winnerSeat(), "Player 0 should be the only one passing GO");
+    assertEquals(1, result.jailTimeHistogram()[3], "One stay should have lasted three turns");
+    int stays = 0;
+    for (int count : result.jailTimeHistogram()) {
+      stays += count;
+    }
+    assertEquals(1, stays, "Unfinished jail stays should not be counted");
+  }
+
+  @Test
+  void gameThatCannotChangeIsStoppedAsStalemate() {
+    // On a single tile nobody ever passes GO, so no money changes hands
+    Board board = new Board();
+    board.addTile(new Tile(0));
+
+    MonopolyResult result = new MonopolySimulator(board, 3, new ScriptedDice(randomFaces(5, 100)))
+            .playGame();
+
+    assertEquals(GameOutcome.STALEMATE, result.outcome(), "Game should end in a stalemate");
+    assertEquals(-1, result.winnerSeat(), "Stalemated game should have no winner");
+    assertTrue(result.turns() < 100, "Stalemate should be found within a few rounds");
+  }
+
+  @Test
+  void boardWhereSeatsOnlyReturnToGoIsStoppedAsStalemate() {
+    // Every seat either stays on GO or is sent from tile 1 back to the jail on GO, so nobody
+    // ever passes GO from another tile and no money changes hands
+    Board board = new Board();
+    board.addTile(new Tile(0));
+    board.addTile(new Tile(1));
+    board.getTile(0).setAction(new JailAction());
+    board.getTile(1).setAction(new GoToJailAction());
+
+    MonopolyResult result = new MonopolySimulator(board, 2, new ScriptedDice(randomFaces(8, 500)))
+            .playGame();
+
+    assertEquals(GameOutcome.STALEMATE, result.outcome(), "Game should end in a stalemate");
+    assertEquals(-1, result.winnerSeat(), "Stalemated game should have no winner");
+  }
+
+  @Test
+  void boardsWhereMoneyCanBeGainedAreFound() {
+    Dice dice = new Dice(2, 6);
+    Board single = new Board();
+    single.addTile(new Tile(0));
+    Board jailLoop = new Board();
+    jailLoop.addTile(new Tile(0));
+    jailLoop.addTile(new Tile(1));
+    jailLoop.getTile(0).setAction(new JailAction());
+    jailLoop.getTile(1).setAction(new GoToJailAction());
+    Board plain = new Board();
+    for (int i = 0; i < 10; i++) {
+      plain.addTile(new Tile(i));
+    }
+
+    assertTrue(MonopolySimulator.canGainMoney(
+            MonopolySimulator.compile(BoardFactory.standardMonopoly()), dice),
+            "Standard board should pay money");
+    assertTrue(MonopolySimulator.canGainMoney(MonopolySimulator.compile(plain), dice),
+            "Seats should pass GO on a board without actions");
+    assertFalse(MonopolySimulator.canGainMoney(MonopolySimulator.compile(single), dice),
+            "Nobody should pass GO on a single tile");
+    assertFalse(MonopolySimulator.canGainMoney(MonopolySimulator.compile(jailLoop), dice),
+            "Seats sent back to GO should never pass it");
+  }
+
+  @Test
+  void jailedSeatsRepeatingStateStillFinishTheGame() {
+    // Small board with a "Go To Jail" tile at 4 and the jail at 7
+    Board board = new Board();
+    for (int i = 0; i < 10; i++) {
+      board.addTile(new Tile(i));
+    }
+    board.getTile(4).setAction(new GoToJailAction());
+    board.getTile(7).setAction(new JailAction());
+
+    int[] faces = new int[20 + 40];
+    int[] opening = {
+        1, 3,  // player 0 lands on "Go To Jail"
+        1, 3,  // player 1 lands on "Go To Jail"
+        1, 2,  // both stay in jail for three rounds, ending every round in the same state
+        1, 2,
+        1, 2,
+        1, 2,
+        1, 2,
+        1, 2,
+        2, 2,  // player 0 rolls doubles and passes GO
+        2, 2   // player 1 rolls doubles and passes GO
+    };
+    System.arraycopy(opening, 0, faces, 0, opening.length);
+    for (int i = opening.length; i < faces.length; i += 2) {
+      faces[i] = 2;
+      faces[i + 1] = 3;
+    }
+
+    MonopolyResult result = new MonopolySimulator(board, 2, new ScriptedDice(faces)).playGame();
+
+    assertEquals(GameOutcome.WON, result.outcome(), "Game should not be stopped as a stalemate");
+    assertEquals(0, result.winnerSeat(), "Player 0 should pass GO often enough to win");
+    assertEquals(17, result.turns(), "Player 0 should win on their fourth turn out of jail");
+  }
+
+  @Test
+  void turnBudgetStopsGameWithoutWinner() {
+    Board board = BoardFactory.standardMonopoly();
+    MonopolySimulator simulator =
+            new MonopolySimulator(board, 2, new ScriptedDice(randomFaces(6, 2_000)), false, 3);
+
+    MonopolyResult result = simulator.playGame();
+
+    assertEquals(GameOutcome.TURN_LIMIT, result.outcome(), "Game should hit the turn budget");
+    assertEquals(3, result.turns(), "Game should stop after the budget");
+    assertEquals(-1, result.winnerSeat(), "Stopped game should have no winner");
+    assertThrows(IllegalArgumentException.class,
+            () -> new MonopolySimulator(board, 2, new Dice(2, 6), false, 0));
+  }
+
+  @Test
+  void finishedGameIsWon() {
+    Board board = BoardFactory.standardMonopoly();
+
+    MonopolyResult result =
+            new MonopolySimulator(board, 2, new ScriptedDice(randomFaces(7, 2_000))).playGame();
+
+    assertEquals(GameOutcome.WON, result.outcome(), "Game should be won");
+  }
+}
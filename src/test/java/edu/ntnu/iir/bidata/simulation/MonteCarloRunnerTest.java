@@ -0,0 +1,77 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.BoardFactory;
+import edu.ntnu.iir.bidata.model.GameType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloRunnerTest {
+
+  @Test
+  void sameSeedGivesSameSummaryForAnyThreadCount() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+    MonteCarloRunner runner = new MonteCarloRunner(board, GameType.SNAKES_AND_LADDERS, 2);
+
+    SimulationSummary singleThreaded = runner.run(2_000, 42L, 1);
+    SimulationSummary multiThreaded = runner.run(2_000, 42L, 4);
+
+    assertEquals(2_000, singleThreaded.getGames(), "All games should be played");
+    assertEquals(singleThreaded.getTotalTurns(), multiThreaded.getTotalTurns(),
+            "Total turns should not depend on the thread count");
+    assertArrayEquals(singleThreaded.getTurnHistogram(), multiThreaded.getTurnHistogram(),
+            "Turn histogram should not depend on the thread count");
+    assertArrayEquals(singleThreaded.getWinsBySeat(), multiThreaded.getWinsBySeat(),
+            "Wins should not depend on the thread count");
+  }
+
+  @Test
+  void differentSeedsGiveDifferentRuns() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+    MonteCarloRunner runner = new MonteCarloRunner(board, GameType.SNAKES_AND_LADDERS, 2);
+
+    SimulationSummary first = runner.run(1_000, 1L);
+    SimulationSummary second = runner.run(1_000, 2L);
+
+    assertNotEquals(first.getTotalTurns(), second.getTotalTurns(),
+            "Different seeds should give different games");
+  }
+
+  @Test
+  void monopolyRunIsReproducible() {
+    Board board = BoardFactory.standardMonopoly();
+    MonteCarloRunner runner = new MonteCarloRunner(board, GameType.MONOPOLY, 4);
+
+    SimulationSummary first = runner.run(500, 7L, 2);
+    SimulationSummary second = runner.run(500, 7L, 3);
+
+    assertEquals(500, first.getGames(), "All games should be played");
+    assertEquals(first.getTotalTurns(), second.getTotalTurns(),
+            "Total turns should not depend on the thread count");
+    assertArrayEquals(first.getJailTimeHistogram(), second.getJailTimeHistogram(),
+            "Jail times should not depend on the thread count");
+  }
+
+  @Test
+  void turnBudgetCensorsLongGames() {
+    Board board = BoardFactory.standardMonopoly();
+    MonteCarloRunner runner = new MonteCarloRunner(board, GameType.MONOPOLY, 4, 40);
+
+    SimulationSummary summary = runner.run(300, 11L, 2);
+
+    assertTrue(summary.getCensoredGames() > 0, "Some games should hit the budget");
+    assertEquals(300, summary.getGames() + summary.getCensoredGames(),
+            "Every game should be either finished or censored");
+    assertTrue(summary.getMaxTurns() <= 40, "Finished games should be within the budget");
+    assertEquals(40 * summary.getTurnLimitGames(), summary.getCensoredTurns(),
+            "Every game stopped by the budget should have played the whole budget");
+  }
+
+  @Test
+  void nullGameTypeThrowsException() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloRunner(board, null, 2));
+  }
+}
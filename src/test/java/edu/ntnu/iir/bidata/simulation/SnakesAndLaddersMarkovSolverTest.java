@@ -0,0 +1,98 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.*;
+import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnakesAndLaddersMarkovSolverTest {
+
+  private static Board lineBoard(int tileCount) {
+    Board board = new Board();
+    for (int i = 1; i <= tileCount; i++) {
+      board.addTile(new Tile(i));
+    }
+    return board;
+  }
+
+  @Test
+  void smallBoardHasExactStatistics() {
+    // One two-sided die on three tiles: from tile 1, half the rolls finish at once
+    SnakesAndLaddersMarkovSolver solver =
+            new SnakesAndLaddersMarkovSolver(lineBoard(3), new Dice(1, 2));
+
+    assertEquals(1.5, solver.getExpectedTurns(), 1e-12);
+    assertArrayEquals(new double[] {0, 0.5, 0.5, 0}, solver.getTurnDistribution(3), 1e-12);
+    assertArrayEquals(new double[] {0, 1, 0.5, 0}, solver.getExpectedVisits(), 1e-12);
+    assertArrayEquals(new double[] {0, 0, 0.5, 1}, solver.getExpectedLandings(), 1e-12);
+  }
+
+  @Test
+  void snakeBackToStartGivesGeometricGameLength() {
+    Board board = lineBoard(3);
+    board.getTile(2).setAction(new MoveAction(2, 1));
+
+    SnakesAndLaddersMarkovSolver solver = new SnakesAndLaddersMarkovSolver(board, new Dice(1, 2));
+
+    assertEquals(2.0, solver.getExpectedTurns(), 1e-9);
+    double[] distribution = solver.getTurnDistribution(3);
+    assertEquals(0.5, distribution[1], 1e-12);
+    assertEquals(0.25, distribution[2], 1e-12);
+    assertEquals(0.125, distribution[3], 1e-12);
+  }
+
+  @Test
+  void boardThatCanNeverBeFinishedThrowsException() {
+    Board board = lineBoard(3);
+    board.getTile(3).setAction(new MoveAction(3, 1));
+
+    assertThrows(IllegalArgumentException.class,
+            () -> new SnakesAndLaddersMarkovSolver(board, new Dice(1, 2)));
+  }
+
+  @Test
+  void expectedTurnsMatchesSimulation() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+    SnakesAndLaddersMarkovSolver solver = new SnakesAndLaddersMarkovSolver(board, new Dice(2, 6));
+
+    SimulationSummary summary =
+            new MonteCarloRunner(board, GameType.SNAKES_AND_LADDERS, 1).run(20_000, 5L);
+
+    assertEquals(summary.getMeanTurns(), solver.getExpectedTurns(),
+            summary.getMeanTurns() * 0.03, "Exact and simulated game length should agree");
+  }
+
+  @Test
+  void gameLengthDistributionMatchesSimulation() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+    SnakesAndLaddersMarkovSolver solver = new SnakesAndLaddersMarkovSolver(board, new Dice(2, 6));
+
+    double[] distribution = solver.getGameLengthDistribution(3, 1_000);
+    double total = 0;
+    double mean = 0;
+    for (int turns = 0; turns < distribution.length; turns++) {
+      total += distribution[turns];
+      mean += turns * distribution[turns];
+    }
+    SimulationSummary summary =
+            new MonteCarloRunner(board, GameType.SNAKES_AND_LADDERS, 3).run(20_000, 9L);
+
+    assertEquals(1.0, total, 1e-9, "Game length probabilities should sum to one");
+    assertEquals(summary.getMeanTurns(), mean, summary.getMeanTurns() * 0.03,
+            "Exact and simulated game length should agree");
+  }
+
+  @Test
+  void landingProbabilitiesSumToOne() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+    SnakesAndLaddersMarkovSolver solver = new SnakesAndLaddersMarkovSolver(board, new Dice(2, 6));
+
+    double total = 0;
+    for (double probability : solver.getLandingProbabilities()) {
+      total += probability;
+    }
+
+    assertEquals(1.0, total, 1e-9, "Every turn lands on exactly one tile");
+  }
+}
@@ -0,0 +1,118 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import edu.ntnu.iir.bidata.model.*;
+import edu.ntnu.iir.bidata.model.games.SnakesAndLaddersGame;
+import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class SnakesAndLaddersSimulatorTest {
+
+  // Dice that replays a fixed sequence of sums, so the game and the simulator see the same rolls
+  private static class ScriptedDice extends Dice {
+    private final int[] sums;
+    private int index = -1;
+
+    ScriptedDice(int[] sums) {
+      super(2, 6);
+      this.sums = sums;
+    }
+
+    @Override
+    public int rollAll() {
+      index = (index + 1) % sums.length;
+      return sums[index];
+    }
+
+    @Override
+    public int getSum() {
+      return sums[index];
+    }
+  }
+
+  private static int[] randomSums(long seed, int count) {
+    Random random = new Random(seed);
+    int[] sums = new int[count];
+    for (int i = 0; i < count; i++) {
+      sums[i] = random.nextInt(6) + random.nextInt(6) + 2;
+    }
+    return sums;
+  }
+
+  @Test
+  void simulatorMatchesGameForSameDiceSequence() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+
+    for (long seed = 0; seed < 20; seed++) {
+      int[] sums = randomSums(seed, 10_000);
+
+      // Play the real game
+      SnakesAndLaddersGame game = new SnakesAndLaddersGame();
+      List<Player> players = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        players.add(new Player("Player" + i));
+      }
+      game.setBoard(board);
+      game.setPlayers(players);
+      game.setDice(new ScriptedDice(sums));
+      game.start();
+      int gameTurns = 0;
+      while (!game.isGameOver()) {
+        game.handleEvent("snakes_and_ladders_dice_rolled");
+        gameTurns++;
+      }
+
+      // Play the simulator
+      SnakesAndLaddersSimulator simulator =
+              new SnakesAndLaddersSimulator(board, 3, new ScriptedDice(sums));
+      SnakesAndLaddersResult result = simulator.playGame();
+
+      assertEquals(gameTurns, result.turns(), "Turn count should match the game");
+      assertEquals(players.indexOf(game.getWinner()), result.winnerSeat(),
+              "Winner should match the game");
+    }
+  }
+
+  @Test
+  void tileLandingsCountEveryTurn() {
+    Board board = BoardFactory.normalSnakesAndLadders();
+    SnakesAndLaddersSimulator simulator =
+            new SnakesAndLaddersSimulator(board, 2, new ScriptedDice(randomSums(1, 1000)));
+
+    SnakesAndLaddersResult result = simulator.playGame();
+
+    int landings = 0;
+    for (int count : result.tileLandings()) {
+      landings += count;
+    }
+    assertEquals(result.turns(), landings, "Every turn should land on exactly one tile");
+    assertTrue(result.tileLandings()[100] >= 1, "The winner should land on the last tile");
+  }
+
+  @Test
+  void boardWithMissingTileThrowsException() {
+    Board board = new Board();
+    board.addTile(new Tile(1));
+    board.addTile(new Tile(3));
+
+    assertThrows(IllegalArgumentException.class,
+            () -> new SnakesAndLaddersSimulator(board, 2, new Dice(1, 6)));
+  }
+
+  @Test
+  void moveActionOffTheBoardThrowsException() {
+    Board board = new Board();
+    for (int i = 1; i <= 5; i++) {
+      board.addTile(new Tile(i));
+    }
+    board.getTile(2).setAction(new MoveAction(2, 9));
+
+    assertThrows(IllegalArgumentException.class,
+            () -> new SnakesAndLaddersSimulator(board, 2, new Dice(1, 6)));
+  }
+}
@@ -0,0 +1,64 @@
+package edu.ntnu.iir.bidata.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StalemateDetectorTest {
+
+  @Test
+  void cycleIsFoundAfterItStarts() {
+    StalemateDetector detector = new StalemateDetector();
+    long[] lead = {10, 11, 12, 13, 14};
+    long[] cycle = {20, 21, 22};
+
+    for (long hash : lead) {
+      assertFalse(detector.check(hash), "States before the cycle should not repeat");
+    }
+    boolean found = false;
+    for (int round = 0; round < 30 && !found; round++) {
+      found = detector.check(cycle[round % cycle.length]);
+    }
+    assertTrue(found, "A repeating cycle of states should be found");
+  }
+
+  @Test
+  void changingStatesAreNeverStalemated() {
+    StalemateDetector detector = new StalemateDetector();
+
+    for (int round = 0; round < 10_000; round++) {
+      assertFalse(detector.check(StalemateDetector.mix(StalemateDetector.EMPTY_HASH, round)),
+              "New states should never count as a stalemate");
+    }
+  }
+
+  @Test
+  void gamesAreCheckedIndependently() {
+    StalemateDetector detector = new StalemateDetector(2);
+
+    detector.check(0, 5);
+    detector.check(1, 6);
+
+    assertTrue(detector.check(0, 5), "Game 0 should repeat its own state");
+    assertFalse(detector.check(1, 5), "Game 1 has not been in the state of game 0");
+  }
+
+  @Test
+  void resetForgetsStates() {
+    StalemateDetector detector = new StalemateDetector();
+    detector.check(5);
+
+    detector.reset();
+
+    assertFalse(detector.check(5), "State before the reset should be forgotten");
+    assertThrows(IllegalArgumentException.class, () -> new StalemateDetector(0));
+  }
+
+  @Test
+  void mixDependsOnOrder() {
+    long first = StalemateDetector.mix(StalemateDetector.mix(StalemateDetector.EMPTY_HASH, 1), 2);
+    long second = StalemateDetector.mix(StalemateDetector.mix(StalemateDetector.EMPTY_HASH, 2), 1);
+
+    assertNotEquals(first, second, "Swapped values should give a different hash");
+  }
+}
@@ -0,0 +1,163 @@
+package edu.ntnu.iir.bidata.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+  /**
+   * Creates a cache of strings that weigh their length.
+   */
+  private static LruCache<String, String> cache(long maxWeight) {
+    return new LruCache<>(maxWeight, String::length);
+  }
+
+  @Test
+  void loadsOnceAndCountsHitsAndMisses() {
+    LruCache<String, String> cache = cache(100);
+    AtomicInteger loads = new AtomicInteger();
+
+    String first = cache.computeIfAbsent("a", key -> {
+      loads.incrementAndGet();
+      return "value";
+    });
+    String second = cache.computeIfAbsent("a", key -> "other");
+
+    assertEquals("value", first, "First lookup should load the value");
+    assertSame(first, second, "Second lookup should return the cached value");
+    assertEquals(1, loads.get(), "Value should only be loaded once");
+    assertEquals(1, cache.getHitCount(), "Second lookup should be a hit");
+    assertEquals(1, cache.getMissCount(), "First lookup should be a miss");
+    assertEquals(5, cache.getWeight(), "Weight should be the length of the value");
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedValuesOverTheLimit() {
+    LruCache<String, String> cache = cache(10);
+    cache.put("a", "aaaa");
+    cache.put("b", "bbbb");
+    cache.getIfPresent("a");
+
+    cache.put("c", "cccc");
+
+    assertNull(cache.getIfPresent("b"), "Least recently used value should be evicted");
+    assertEquals("aaaa", cache.getIfPresent("a"), "Recently used value should be kept");
+    assertEquals("cccc", cache.getIfPresent("c"), "New value should be kept");
+    assertEquals(1, cache.getEvictionCount(), "One value should be evicted");
+    assertEquals(8, cache.getWeight(), "Weight should drop with the evicted value");
+  }
+
+  @Test
+  void pinnedValuesAreNotEvicted() {
+    LruCache<String, String> cache = cache(10);
+    cache.put("a", "aaaa");
+    cache.pin("a");
+    cache.pin("a");
+
+    cache.put("b", "bbbb");
+    cache.put("c", "cccc");
+    cache.put("d", "dddd");
+
+    assertEquals("aaaa", cache.getIfPresent("a"), "Pinned value should be kept");
+    assertTrue(cache.getWeight() <= 10, "Unpinned values should keep the cache in its limit");
+
+    cache.unpin("a");
+    assertTrue(cache.isPinned("a"), "Key should stay pinned until every pin is removed");
+    cache.unpin("a");
+    assertFalse(cache.isPinned("a"), "Key should be unpinned");
+    assertThrows(IllegalStateException.class, () -> cache.unpin("a"));
+  }
+
+  @Test
+  void unpinningEvictsWhenOverTheLimit() {
+    LruCache<String, String> cache = cache(4);
+    cache.pin("a");
+    cache.pin("b");
+    cache.put("a", "aaaa");
+    cache.put("b", "bbbb");
+    assertEquals(8, cache.getWeight(), "Pinned values may go over the limit");
+
+    cache.unpin("a");
+
+    assertNull(cache.getIfPresent("a"), "Unpinned value should be evicted");
+    assertEquals(4, cache.getWeight(), "Cache should be back within its limit");
+  }
+
+  @Test
+  void nullValuesAreNotCached() {
+    LruCache<String, String> cache = cache(10);
+
+    assertNull(cache.computeIfAbsent("a", key -> null), "Missing value should be null");
+    assertEquals("found", cache.computeIfAbsent("a", key -> "found"),
+            "Missing value should be loaded again");
+  }
+
+  @Test
+  void concurrentLookupsLoadOnce() throws Exception {
+    LruCache<String, String> cache = cache(100);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      results.add(executor.submit(() -> cache.computeIfAbsent("a", key -> {
+        loads.incrementAndGet();
+        loading.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "value";
+      })));
+      assertTrue(loading.await(5, TimeUnit.SECONDS), "Load should start");
+      for (int i = 0; i < 3; i++) {
+        results.add(executor.submit(() -> cache.computeIfAbsent("a", key -> {
+          loads.incrementAndGet();
+          return "duplicate";
+        })));
+      }
+      // Give the other lookups time to find the load in progress
+      Thread.sleep(50);
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertEquals("value", result.get(5, TimeUnit.SECONDS), "Every lookup should get the load");
+      }
+      assertEquals(1, loads.get(), "Value should only be loaded once");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void failedLoadsAreRethrownAndNotCached() {
+    LruCache<String, String> cache = cache(10);
+
+    assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent("a", key -> {
+      throw new IllegalStateException("broken");
+    }));
+    assertEquals("fixed", cache.computeIfAbsent("a", key -> "fixed"),
+            "Key should load again after a failure");
+  }
+
+  @Test
+  void invalidArgumentsThrow() {
+    assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(-1,
+            String::length));
+    assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(10, null));
+    assertThrows(IllegalArgumentException.class, () -> cache(10).put(null, "a"));
+    assertThrows(IllegalArgumentException.class,
+            () -> cache(10).computeIfAbsent("a", null));
+  }
+}
@@ -0,0 +1,96 @@
+package edu.ntnu.iir.bidata.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.iir.bidata.model.Board;
+import edu.ntnu.iir.bidata.model.BoardFactory;
+import edu.ntnu.iir.bidata.model.Dice;
+import edu.ntnu.iir.bidata.model.Tile;
+import edu.ntnu.iir.bidata.model.tileaction.MoveAction;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class RandomSourceTest {
+
+  /**
+   * Rolls the dice a number of times and records every sum.
+   */
+  private static int[] rollSums(Dice dice, int rolls) {
+    int[] sums = new int[rolls];
+    for (int i = 0; i < rolls; i++) {
+      sums[i] = dice.rollAll();
+    }
+    return sums;
+  }
+
+  @Test
+  void seededDiceRollTheSameSequence() {
+    // Arrange
+    Dice first = new Dice(2, 6, RandomSource.seeded(42));
+    Dice second = new Dice(2, 6, RandomSource.seeded(42));
+
+    // Act & Assert
+    assertArrayEquals(rollSums(first, 1000), rollSums(second, 1000),
+            "Dice with the same seed should roll the same sums");
+  }
+
+  @Test
+  void gameStreamsDependOnlyOnSeedAndIndex() {
+    // Arrange
+    RandomGenerator stream = RandomSource.gameStream(7, 3);
+    RandomGenerator sameStream = RandomSource.gameStream(7, 3);
+    RandomGenerator nextGame = RandomSource.gameStream(7, 4);
+
+    // Act
+    long value = stream.nextLong();
+
+    // Assert
+    assertEquals(value, sameStream.nextLong(), "Same seed and index should give the same stream");
+    assertNotEquals(value, nextGame.nextLong(), "Neighbouring games should get other streams");
+  }
+
+  @Test
+  void fastGeneratorStaysWithinBoundAndCoversIt() {
+    // Arrange
+    RandomGenerator random = RandomSource.fast(1);
+    int[] counts = new int[6];
+
+    // Act
+    for (int i = 0; i < 60_000; i++) {
+      counts[random.nextInt(6)]++;
+    }
+
+    // Assert
+    for (int face = 0; face < counts.length; face++) {
+      assertTrue(Math.abs(counts[face] - 10_000) < 500,
+              "Each value should come up about a sixth of the time, got " + counts[face]);
+    }
+    assertThrows(IllegalArgumentException.class, () -> random.nextInt(0),
+            "Bound must be positive");
+  }
+
+  @Test
+  void randomNumberWithEmptyRangeReturnsMin() {
+    assertEquals(4, RandomMath.getRandomNumber(4, 4, RandomSource.seeded(1)),
+            "Empty range should give the minimum");
+  }
+
+  @Test
+  void seededRandomBoardIsReproducible() {
+    // Act
+    Board first = BoardFactory.randomSnakesAndLadders(10, 10, RandomSource.seeded(5));
+    Board second = BoardFactory.randomSnakesAndLadders(10, 10, RandomSource.seeded(5));
+
+    // Assert
+    for (Tile tile : first.getTiles()) {
+      Tile other = second.getTile(tile.getId());
+      if (tile.getAction() instanceof MoveAction move) {
+        MoveAction otherMove = assertInstanceOf(MoveAction.class, other.getAction(),
+                "Tile " + tile.getId() + " should have a move on both boards");
+        assertEquals(move.getEnd(), otherMove.getEnd(), "Moves should lead to the same tile");
+      } else {
+        assertNull(other.getAction(), "Tile " + tile.getId() + " should have no action");
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package edu.ntnu.iir.bidata.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class ShelfPackerTest {
+
+  /**
+   * Checks that no two placed rectangles overlap, including the padding between them.
+   */
+  private static void assertNoOverlap(ShelfPacker.Layout layout, int[] widths, int[] heights,
+          int padding) {
+    for (int a = 0; a < widths.length; a++) {
+      for (int b = a + 1; b < widths.length; b++) {
+        if (!layout.isPlaced(a) || !layout.isPlaced(b)) {
+          continue;
+        }
+        boolean apart = layout.xs()[a] + widths[a] + padding <= layout.xs()[b]
+                || layout.xs()[b] + widths[b] + padding <= layout.xs()[a]
+                || layout.ys()[a] + heights[a] + padding <= layout.ys()[b]
+                || layout.ys()[b] + heights[b] + padding <= layout.ys()[a];
+        assertTrue(apart, "Rectangles " + a + " and " + b + " should not overlap");
+      }
+    }
+  }
+
+  @Test
+  void packsTileSizedImagesWithoutOverlap() {
+    int[] widths = new int[40];
+    int[] heights = new int[40];
+    for (int i = 0; i < 40; i++) {
+      widths[i] = 140 + i % 5;
+      heights[i] = 230 + i % 4;
+    }
+
+    ShelfPacker.Layout layout = ShelfPacker.pack(widths, heights, 2048, 2048, 2);
+
+    for (int i = 0; i < 40; i++) {
+      assertTrue(layout.isPlaced(i), "Rectangle " + i + " should fit");
+      assertTrue(layout.xs()[i] + widths[i] <= layout.width(), "Rectangle should be inside");
+      assertTrue(layout.ys()[i] + heights[i] <= layout.height(), "Rectangle should be inside");
+    }
+    assertTrue(layout.width() <= 2048, "Area should be within the maximum width");
+    assertNoOverlap(layout, widths, heights, 2);
+  }
+
+  @Test
+  void rectanglesThatDoNotFitAreLeftOut() {
+    int[] widths = {50, 200, 50, 50};
+    int[] heights = {50, 50, 50, 50};
+
+    ShelfPacker.Layout layout = ShelfPacker.pack(widths, heights, 100, 100, 0);
+
+    assertFalse(layout.isPlaced(1), "Too wide rectangle should be left out");
+    assertTrue(layout.isPlaced(0), "Small rectangle should fit");
+    assertTrue(layout.isPlaced(2), "Small rectangle should fit");
+    assertTrue(layout.isPlaced(3), "Small rectangle should fit");
+    assertEquals(100, layout.width(), "Two rectangles should fill a row");
+    assertEquals(100, layout.height(), "Two rows should be used");
+    assertNoOverlap(layout, widths, heights, 0);
+  }
+
+  @Test
+  void areaIsLimitedToTheMaximumHeight() {
+    int[] widths = {100, 100, 100};
+    int[] heights = {60, 60, 60};
+
+    ShelfPacker.Layout layout = ShelfPacker.pack(widths, heights, 100, 130, 0);
+
+    int placed = 0;
+    for (int i = 0; i < 3; i++) {
+      placed += layout.isPlaced(i) ? 1 : 0;
+    }
+    assertEquals(2, placed, "Only two rows should fit");
+    assertTrue(layout.height() <= 130, "Area should be within the maximum height");
+  }
+
+  @Test
+  void invalidSizesThrow() {
+    assertThrows(IllegalArgumentException.class,
+            () -> ShelfPacker.pack(new int[1], new int[2], 10, 10, 0));
+    assertThrows(IllegalArgumentException.class,
+            () -> ShelfPacker.pack(new int[] {-1}, new int[] {1}, 10, 10, 0));
+    assertThrows(IllegalArgumentException.class,
+            () -> ShelfPacker.pack(new int[1], new int[1], 10, 10, -1));
+  }
+}
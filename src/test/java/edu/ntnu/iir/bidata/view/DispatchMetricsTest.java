@@ -0,0 +1,76 @@
+package edu.ntnu.iir.bidata.view;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchMetricsTest {
+
+  @Test
+  void eventsAreNamedAfterTheirConstants() {
+    assertEquals("LOAD_BOARD", DispatchMetrics.nameOf(AppEvent.LOAD_BOARD),
+            "Event should be named after its constant");
+  }
+
+  @Test
+  void busRecordsEveryListenerCall() {
+    DispatchMetrics metrics = new DispatchMetrics();
+    EventBus bus = new EventBus(Runnable::run, () -> true);
+    bus.setMetrics(metrics);
+    bus.addListener(AppEvent.IN_GAME_EVENT, event -> { });
+    bus.addListener(AppEvent.IN_GAME_EVENT, event -> { });
+
+    bus.emit(AppEvent.IN_GAME_EVENT, "roll");
+    bus.emit(AppEvent.IN_GAME_EVENT, "roll");
+    bus.shutdown();
+
+    assertEquals(2, metrics.getEventHistogram(AppEvent.IN_GAME_EVENT).getCount(),
+            "Both deliveries should be counted");
+    Map<String, LatencyHistogram> listeners =
+            metrics.getListenerHistograms(AppEvent.IN_GAME_EVENT);
+    assertEquals(2, listeners.size(), "Each listener should have its own histogram");
+    assertEquals(2, listeners.get("IN_GAME_EVENT#0").getCount(), "First listener ran twice");
+    assertNull(metrics.getEventHistogram(AppEvent.LOAD_BOARD), "Unused event has no histogram");
+  }
+
+  @Test
+  void listenerOfTwoEventsIsNamedPerEvent() {
+    DispatchMetrics metrics = new DispatchMetrics();
+    GameEventListener<Object> shared = event -> { };
+    GameEventListener<Object> other = event -> { };
+    metrics.recordListener(AppEvent.IN_GAME_EVENT, shared, 1_000);
+    metrics.recordListener(AppEvent.IN_GAME_EVENT, other, 1_000);
+    metrics.recordListener(AppEvent.IN_GAME_EVENT, other, 1_000);
+    metrics.recordListener(AppEvent.LOAD_BOARD, shared, 1_000);
+    metrics.recordListener(AppEvent.LOAD_BOARD, shared, 1_000);
+    metrics.recordListener(AppEvent.LOAD_BOARD, shared, 1_000);
+
+    Map<String, LatencyHistogram> inGame = metrics.getListenerHistograms(AppEvent.IN_GAME_EVENT);
+    Map<String, LatencyHistogram> loadBoard = metrics.getListenerHistograms(AppEvent.LOAD_BOARD);
+
+    assertEquals(2, inGame.size(), "No histogram of the first event should be lost");
+    assertEquals(1, inGame.get("IN_GAME_EVENT#0").getCount(),
+            "Shared listener should keep its name for the first event");
+    assertEquals(2, inGame.get("IN_GAME_EVENT#1").getCount(),
+            "Other listener should keep its own name");
+    assertEquals(3, loadBoard.get("LOAD_BOARD#0").getCount(),
+            "Shared listener should have its own name for the second event");
+  }
+
+  @Test
+  void reportHasALinePerEventAndListener() {
+    DispatchMetrics metrics = new DispatchMetrics();
+    GameEventListener<String> listener = event -> { };
+    metrics.recordListener(AppEvent.IN_GAME_EVENT, listener, 2_000_000);
+    metrics.recordEvent(AppEvent.IN_GAME_EVENT, 2_000_000);
+
+    String report = metrics.report();
+
+    assertTrue(report.startsWith("IN_GAME_EVENT count=1"), "Report should start with the event");
+    assertTrue(report.contains("  IN_GAME_EVENT#0 count=1"), "Report should list the listener");
+    assertThrows(IllegalArgumentException.class,
+            () -> metrics.startReporting(0, TimeUnit.SECONDS, s -> { }));
+  }
+}
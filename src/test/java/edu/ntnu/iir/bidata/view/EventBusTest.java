@@ -0,0 +1,119 @@
+package edu.ntnu.iir.bidata.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBusTest {
+  private List<Runnable> uiQueue;
+  private boolean onUiThread;
+  private EventBus bus;
+
+  @BeforeEach
+  void setUp() {
+    uiQueue = new ArrayList<>();
+    onUiThread = false;
+    bus = new EventBus(uiQueue::add, () -> onUiThread);
+  }
+
+  @AfterEach
+  void tearDown() {
+    bus.shutdown();
+  }
+
+  @Test
+  void sameThreadListenersRunRightAway() {
+    List<String> received = new ArrayList<>();
+    bus.addListener(AppEvent.IN_GAME_EVENT, received::add);
+
+    bus.emit(AppEvent.IN_GAME_EVENT, "roll");
+
+    assertEquals(List.of("roll"), received, "Listener should run during emit");
+    assertEquals(DispatchPolicy.SAME_THREAD, bus.getPolicy(AppEvent.IN_GAME_EVENT),
+            "Events should use the same thread by default");
+  }
+
+  @Test
+  void uiThreadListenersAreHandedToUiThread() {
+    List<String> received = new ArrayList<>();
+    bus.addListener(AppEvent.IN_GAME_EVENT, received::add);
+    bus.setPolicy(AppEvent.IN_GAME_EVENT, DispatchPolicy.UI_THREAD);
+
+    bus.emit(AppEvent.IN_GAME_EVENT, "roll");
+    assertTrue(received.isEmpty(), "Listener should wait for the UI thread");
+    uiQueue.remove(0).run();
+    assertEquals(List.of("roll"), received, "Listener should run on the UI thread");
+
+    onUiThread = true;
+    bus.emit(AppEvent.IN_GAME_EVENT, "again");
+    assertEquals(List.of("roll", "again"), received,
+            "Emitting on the UI thread should run the listener right away");
+    assertTrue(uiQueue.isEmpty(), "Nothing should be queued when already on the UI thread");
+  }
+
+  @Test
+  void backgroundListenersRunInOrderOffTheEmittingThread() throws InterruptedException {
+    ExecutorService worker = Executors.newSingleThreadExecutor();
+    EventBus backgroundBus = new EventBus(Runnable::run, () -> false, worker);
+    List<String> received = new CopyOnWriteArrayList<>();
+    List<Thread> threads = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(3);
+    backgroundBus.setPolicy(AppEvent.IN_GAME_EVENT, DispatchPolicy.BACKGROUND);
+    backgroundBus.addListener(AppEvent.IN_GAME_EVENT, event -> {
+      received.add(event);
+      threads.add(Thread.currentThread());
+      done.countDown();
+    });
+
+    backgroundBus.emit(AppEvent.IN_GAME_EVENT, "a");
+    backgroundBus.emit(AppEvent.IN_GAME_EVENT, "b");
+    backgroundBus.emit(AppEvent.IN_GAME_EVENT, "c");
+
+    assertTrue(done.await(5, TimeUnit.SECONDS), "Every event should be handled");
+    assertEquals(List.of("a", "b", "c"), received, "Events should be handled in order");
+    assertNotEquals(Thread.currentThread(), threads.get(0), "Listener should run on the worker");
+    backgroundBus.shutdown();
+    assertThrows(IllegalStateException.class,
+            () -> backgroundBus.emit(AppEvent.IN_GAME_EVENT, "d"));
+  }
+
+  @Test
+  void listenerAddedDuringDeliveryIsCalledNextTime() {
+    List<String> received = new ArrayList<>();
+    bus.addListener(AppEvent.IN_GAME_EVENT, event -> {
+      received.add("first " + event);
+      if (received.size() == 1) {
+        bus.addListener(AppEvent.IN_GAME_EVENT, later -> received.add("second " + later));
+      }
+    });
+
+    bus.emit(AppEvent.IN_GAME_EVENT, "1");
+    bus.emit(AppEvent.IN_GAME_EVENT, "2");
+
+    assertEquals(List.of("first 1", "first 2", "second 2"), received,
+            "A listener added while delivering should only see later events");
+  }
+
+  @Test
+  void removedListenerIsNotCalled() {
+    List<String> received = new ArrayList<>();
+    GameEventListener<String> listener = received::add;
+    bus.addListener(AppEvent.IN_GAME_EVENT, listener);
+
+    bus.removeListener(AppEvent.IN_GAME_EVENT, listener);
+    bus.emit(AppEvent.IN_GAME_EVENT, "roll");
+
+    assertTrue(received.isEmpty(), "Removed listener should not be called");
+    assertThrows(IllegalArgumentException.class,
+            () -> bus.setPolicy(AppEvent.IN_GAME_EVENT, null));
+  }
+}
@@ -0,0 +1,73 @@
+package edu.ntnu.iir.bidata.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+  @Test
+  void bucketsCoverEveryValueInOrder() {
+    long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE};
+    for (long value : values) {
+      int bucket = LatencyHistogram.bucketOf(value);
+      assertTrue(LatencyHistogram.lowerBoundOf(bucket) <= value,
+              "Bucket of " + value + " should start at or below it");
+      if (value < Long.MAX_VALUE) {
+        assertTrue(LatencyHistogram.bucketOf(value + 1) >= bucket,
+                "Buckets should not go down as values grow");
+      }
+    }
+  }
+
+  @Test
+  void bucketsAreWithinAnEighthOfTheValue() {
+    for (long value = 8; value < 1_000_000; value = value * 3 + 1) {
+      long lower = LatencyHistogram.lowerBoundOf(LatencyHistogram.bucketOf(value));
+      assertTrue(value - lower <= value / 8, "Bucket of " + value + " should be narrow");
+    }
+  }
+
+  @Test
+  void statisticsMatchRecordings() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 1_000L);
+    }
+
+    assertEquals(100, histogram.getCount(), "Every recording should be counted");
+    assertEquals(50_500.0, histogram.getMeanNanos(), 1e-9, "Mean should be exact");
+    assertEquals(100_000, histogram.getMaxNanos(), "Max should be exact");
+    long median = histogram.getPercentileNanos(50);
+    assertTrue(median >= 50_000 && median <= 50_000 * 9 / 8, "Median should be near 50 us");
+    assertEquals(100_000, histogram.getPercentileNanos(100), "Top percentile should be the max");
+  }
+
+  @Test
+  void emptyHistogramReadsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    assertEquals(0, histogram.getPercentileNanos(99), "Empty percentile should be zero");
+    assertEquals(0, histogram.getMeanNanos(), "Empty mean should be zero");
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+  }
+
+  @Test
+  void concurrentRecordingsAreAllCounted() throws InterruptedException {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          histogram.record(i);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(40_000, histogram.getCount(), "No recording should be lost");
+  }
+}